@@ -5,9 +5,13 @@ import static util.PrintEntryExitLog.printEntryLog;
 import static util.PrintEntryExitLog.printExitLogOnFailure;
 import static util.PrintEntryExitLog.printExitLogOnSuccessResponse;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
+import akka.japi.Pair;
 import akka.pattern.PatternsCS;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import akka.util.Timeout;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -23,13 +27,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import modules.ApplicationStart;
 import modules.OnRequestHandler;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
@@ -48,6 +58,7 @@ import play.mvc.Http;
 import play.mvc.Http.Request;
 import play.mvc.Result;
 import play.mvc.Results;
+import util.ActorRequestMetrics;
 import util.Attrs;
 import util.Common;
 
@@ -65,6 +76,32 @@ public class BaseController extends Controller {
   private static final String version = "v1";
   protected Timeout timeout = new Timeout(AKKA_WAIT_TIME, TimeUnit.SECONDS);
   private static final String debugEnabled = "false";
+  private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+  private static final int SEARCH_EXPORT_PAGE_SIZE =
+      NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_search_export_page_size"), 1000);
+  private static final AtomicInteger responseThreadCount = new AtomicInteger();
+  // actor replies are mapped to results here rather than on the common fork join pool, when the
+  // queue is full the reply is mapped on the thread which completed the ask
+  private static final ExecutorService RESPONSE_EXECUTOR = createResponseExecutor();
+
+  private static ExecutorService createResponseExecutor() {
+    int poolSize =
+        NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_api_response_pool_size"), 16);
+    return new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(
+            NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_api_response_queue_size"), 1024)),
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "api-response-" + responseThreadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
 
   private org.sunbird.request.Request initRequest(
       org.sunbird.request.Request request, String operation, Request httpRequest) {
@@ -327,6 +364,160 @@ public class BaseController extends Controller {
     }
   }
 
+  /**
+   * Streams all hits of a search request as NDJSON. Hits are fetched page by page from the search
+   * actor using searchAfter cursors, so only one page is held in memory at a time. The first page
+   * is fetched before the response starts so that request errors are returned as usual.
+   */
+  protected CompletionStage<Result> handleSearchExportRequest(
+      ActorRef actorRef,
+      String operation,
+      JsonNode requestBodyJson,
+      Function requestValidatorFn,
+      Map<String, String> headers,
+      String esObjectType,
+      Request httpRequest) {
+    org.sunbird.request.Request request = null;
+    try {
+      if (null == requestBodyJson) {
+        ProjectCommonException.throwClientErrorException(ResponseCode.invalidRequestData, null);
+      }
+      request =
+          createSearchExportPageRequest(
+              operation,
+              requestBodyJson,
+              requestValidatorFn,
+              headers,
+              esObjectType,
+              httpRequest,
+              new ArrayList<>());
+      printEntryLog(request);
+      org.sunbird.request.Request firstPageRequest = request;
+      return askSearchExportPage(actorRef, firstPageRequest)
+          .<Result>thenApply(
+              firstPage -> {
+                Source<ByteString, NotUsed> nextPages =
+                    Source.unfoldAsync(
+                        getSearchExportCursor(firstPage),
+                        cursor -> {
+                          if (!cursor.isPresent()) {
+                            return CompletableFuture.completedFuture(Optional.empty());
+                          }
+                          org.sunbird.request.Request pageRequest =
+                              createSearchExportPageRequest(
+                                  operation,
+                                  requestBodyJson,
+                                  requestValidatorFn,
+                                  headers,
+                                  esObjectType,
+                                  httpRequest,
+                                  cursor.get());
+                          return askSearchExportPage(actorRef, pageRequest)
+                              .thenApply(
+                                  page ->
+                                      Optional.of(
+                                          Pair.create(
+                                              getSearchExportCursor(page),
+                                              toSearchExportChunk(page))));
+                        });
+                printExitLogOnSuccessResponse(firstPageRequest, firstPage);
+                return Results.ok()
+                    .chunked(Source.single(toSearchExportChunk(firstPage)).concat(nextPages))
+                    .as(NDJSON_CONTENT_TYPE);
+              })
+          .exceptionally(
+              e -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof ProjectCommonException) {
+                  printExitLogOnFailure(firstPageRequest, (ProjectCommonException) cause);
+                } else {
+                  printExitLogOnFailure(firstPageRequest, null);
+                }
+                return createCommonExceptionResponse((Exception) cause, httpRequest);
+              });
+    } catch (Exception e) {
+      logger.error(
+          null != request ? request.getRequestContext() : null,
+          "BaseController:handleSearchExportRequest: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+      if (e instanceof ProjectCommonException) {
+        printExitLogOnFailure(request, (ProjectCommonException) e);
+      } else {
+        printExitLogOnFailure(request, null);
+      }
+      return CompletableFuture.completedFuture(createCommonExceptionResponse(e, httpRequest));
+    }
+  }
+
+  // search actors mutate the request they receive, so every page is built from the request body
+  private org.sunbird.request.Request createSearchExportPageRequest(
+      String operation,
+      JsonNode requestBodyJson,
+      Function requestValidatorFn,
+      Map<String, String> headers,
+      String esObjectType,
+      Request httpRequest,
+      List<Object> cursor) {
+    org.sunbird.request.Request request =
+        createAndInitRequest(operation, requestBodyJson, httpRequest);
+    if (headers != null) request.getContext().put(JsonKey.HEADER, headers);
+    request
+        .getRequest()
+        .put(JsonKey.REQUESTED_BY, Common.getFromRequest(httpRequest, Attrs.USER_ID));
+    setContextData(httpRequest, request);
+    if (requestValidatorFn != null) requestValidatorFn.apply(request);
+    if (StringUtils.isNotBlank(esObjectType)) {
+      List<String> esObjectTypeList = new ArrayList<>();
+      esObjectTypeList.add(esObjectType);
+      ((Map) (request.getRequest().get(JsonKey.FILTERS)))
+          .put(JsonKey.OBJECT_TYPE, esObjectTypeList);
+    }
+    request.getRequest().remove(JsonKey.OFFSET);
+    request.getRequest().put(JsonKey.LIMIT, SEARCH_EXPORT_PAGE_SIZE);
+    request.getRequest().put(JsonKey.SEARCH_AFTER, cursor);
+    return request;
+  }
+
+  private CompletionStage<Response> askSearchExportPage(
+      ActorRef actorRef, org.sunbird.request.Request request) {
+    return PatternsCS.ask(actorRef, request, timeout)
+        .thenApply(
+            result -> {
+              if (result instanceof Response) {
+                return (Response) result;
+              } else if (result instanceof ProjectCommonException) {
+                throw (ProjectCommonException) result;
+              }
+              throw new ProjectCommonException(
+                  ResponseCode.internalError.getErrorCode(),
+                  ResponseCode.internalError.getErrorMessage(),
+                  ResponseCode.SERVER_ERROR.getResponseCode());
+            });
+  }
+
+  private static Map<String, Object> getSearchExportResult(Response page) {
+    Map<String, Object> result = (Map<String, Object>) page.getResult().get(JsonKey.RESPONSE);
+    return null != result ? result : Collections.emptyMap();
+  }
+
+  private static Optional<List<Object>> getSearchExportCursor(Response page) {
+    return Optional.ofNullable(
+        (List<Object>) getSearchExportResult(page).get(JsonKey.SEARCH_AFTER));
+  }
+
+  private static ByteString toSearchExportChunk(Response page) {
+    List<Map<String, Object>> content =
+        (List<Map<String, Object>>) getSearchExportResult(page).get(JsonKey.CONTENT);
+    StringBuilder chunk = new StringBuilder();
+    if (null != content) {
+      for (Map<String, Object> hit : content) {
+        chunk.append(Json.stringify(Json.toJson(hit))).append('\n');
+      }
+    }
+    return ByteString.fromString(chunk.toString());
+  }
+
   protected void setContextAndPrintEntryLog(
       Request httpRequest, org.sunbird.request.Request request) {
     setContextData(httpRequest, request);
@@ -372,6 +563,8 @@ public class BaseController extends Controller {
     code.setResponseCode(ResponseCode.OK.getResponseCode());
     response.setParams(
         createResponseParamObj(code, null, Common.getFromRequest(request, Attrs.X_REQUEST_ID)));
+    // stage latencies reported by the actor go to the telemetry, not to the client
+    Object stageLatency = response.getStageLatency();
     String value = null;
     try {
       if (response.getResult() != null) {
@@ -381,7 +574,7 @@ public class BaseController extends Controller {
     } catch (Exception e) {
       value = "0.0";
     }
-    logTelemetry(response, request);
+    logTelemetry(response, request, stageLatency);
     return Results.ok(Json.toJson(response))
         .withHeader(HeaderParam.X_Response_Length.getName(), value);
   }
@@ -567,6 +760,10 @@ public class BaseController extends Controller {
   }
 
   private static void logTelemetry(Response response, Request request) {
+    logTelemetry(response, request, null);
+  }
+
+  private static void logTelemetry(Response response, Request request, Object stageLatency) {
     if (null != request.path()
         && !(request.path().contains("/health") || request.path().contains("/service/health"))) {
       try {
@@ -583,6 +780,9 @@ public class BaseController extends Controller {
         }
         removeFields(params, JsonKey.START_TIME);
         params.put(JsonKey.DURATION, calculateApiTimeTaken(startTime));
+        if (null != stageLatency) {
+          params.put(JsonKey.STAGE_LATENCY, stageLatency);
+        }
         params.put(JsonKey.URL, request.uri());
         params.put(JsonKey.METHOD, request.method());
         params.put(JsonKey.LOG_TYPE, JsonKey.API_ACCESS);
@@ -676,11 +876,34 @@ public class BaseController extends Controller {
           }
         };
 
-    if (actorRef instanceof ActorRef) {
-      return PatternsCS.ask((ActorRef) actorRef, request, timeout).thenApplyAsync(function);
-    } else {
-      return PatternsCS.ask((ActorSelection) actorRef, request, timeout).thenApplyAsync(function);
-    }
+    long askStartTime = System.currentTimeMillis();
+    CompletionStage<Object> reply =
+        actorRef instanceof ActorRef
+            ? PatternsCS.ask((ActorRef) actorRef, request, timeout)
+            : PatternsCS.ask((ActorSelection) actorRef, request, timeout);
+    return reply
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                ActorRequestMetrics.recordFailure(request.getOperation());
+              }
+            })
+        .thenApply(result -> Pair.create(result, System.currentTimeMillis()))
+        .thenApplyAsync(
+            timedResult -> {
+              long replyTime = timedResult.second();
+              // an actor which does not extend BaseActor leaves the dequeue time unset
+              long dequeueTime =
+                  request.getDequeueTime() > 0 ? request.getDequeueTime() : askStartTime;
+              Result result = function.apply(timedResult.first());
+              ActorRequestMetrics.record(
+                  request.getOperation(),
+                  dequeueTime - askStartTime,
+                  replyTime - dequeueTime,
+                  System.currentTimeMillis() - replyTime);
+              return result;
+            },
+            RESPONSE_EXECUTOR);
   }
 
   private Result createClientErrorResponse(Request httpReq, ClientErrorResponse response) {
@@ -28,7 +28,16 @@ public class FeedController extends BaseController {
         ActorOperations.GET_USER_FEED_BY_ID.getValue(),
         null,
         req -> {
+          Request request = (Request) req;
           FeedRequestValidator.userIdValidation(callerId1, callerId2, userId);
+          String limit = httpRequest.getQueryString(JsonKey.LIMIT);
+          FeedRequestValidator.validateFeedLimit(limit);
+          request.getContext().put(JsonKey.LIMIT, limit);
+          request
+              .getContext()
+              .put(JsonKey.PAGING_STATE, httpRequest.getQueryString(JsonKey.PAGING_STATE));
+          request.getContext().put(JsonKey.CATEGORY, httpRequest.getQueryString(JsonKey.CATEGORY));
+          request.getContext().put(JsonKey.FIELDS, httpRequest.getQueryString(JsonKey.FIELDS));
           return null;
         },
         userId,
@@ -2,6 +2,7 @@ package controllers.feed.validator;
 
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
@@ -19,6 +20,17 @@ public class FeedRequestValidator extends BaseRequestValidator {
     return true;
   }
 
+  public static void validateFeedLimit(String limit) {
+    if (StringUtils.isNotBlank(limit) && NumberUtils.toInt(limit) <= 0) {
+      throw new ProjectCommonException(
+          ResponseCode.invalidParameterValue.getErrorCode(),
+          ResponseCode.invalidParameterValue.getErrorMessage(),
+          ResponseCode.CLIENT_ERROR.getResponseCode(),
+          limit,
+          JsonKey.LIMIT);
+    }
+  }
+
   public static void validateFeedRequest(Request request) {
     Map<String, Object> feedReq = request.getRequest();
     if (StringUtils.isBlank((String) feedReq.get(JsonKey.USER_ID))) {
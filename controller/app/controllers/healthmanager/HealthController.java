@@ -12,15 +12,24 @@ import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import modules.SignalHandler;
+import org.sunbird.actor.core.ActorMetrics;
+import org.sunbird.dao.user.impl.UserCache;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
+import org.sunbird.kafka.KafkaPublisher;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
+import org.sunbird.telemetry.util.TelemetryEmitter;
+import org.sunbird.util.ConfigCache;
+import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.ratelimit.RateLimitMetrics;
 import play.mvc.Http;
 import play.mvc.Result;
+import util.ActorRequestMetrics;
+import util.AdmissionControl;
 import util.Attrs;
 import util.Common;
 
@@ -102,6 +111,30 @@ public class HealthController extends BaseController {
     }
   }
 
+  /**
+   * This method will return the actor mailbox and request timing metrics of this node.
+   *
+   * @return CompletionStage<Result>
+   */
+  public CompletionStage<Result> getServiceMetrics(Http.Request httpRequest) {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("actors", ActorMetrics.getMetrics());
+    metrics.put("requests", ActorRequestMetrics.getMetrics());
+    metrics.put("caches", DataCacheHandler.getRefreshMetrics());
+    metrics.put("configCaches", ConfigCache.getMetrics());
+    metrics.put("rateLimits", RateLimitMetrics.getInstance().getMetrics());
+    metrics.put("userCache", UserCache.getInstance().getMetrics());
+    metrics.put("admission", AdmissionControl.getInstance().getMetrics());
+    metrics.put("kafka", KafkaPublisher.getDefaultMetrics());
+    metrics.put("telemetry", TelemetryEmitter.getInstance().getMetrics());
+    Response response = new Response();
+    response.getResult().put(JsonKey.RESPONSE, metrics);
+    response.setId("learner.service.metrics.api");
+    response.setVer(getApiVersion(httpRequest.path()));
+    response.setTs(Common.getFromRequest(httpRequest, Attrs.X_REQUEST_ID));
+    return CompletableFuture.completedFuture(ok(play.libs.Json.toJson(response)));
+  }
+
   private void handleSigTerm() {
     if (signalHandler.isShuttingDown()) {
       throw new ProjectCommonException(
@@ -92,6 +92,20 @@ public class OrgController extends BaseController {
         httpRequest);
   }
 
+  public CompletionStage<Result> exportSearch(Http.Request httpRequest) {
+    return handleSearchExportRequest(
+        searchHandlerActor,
+        ActorOperations.ORG_SEARCH.getValue(),
+        httpRequest.body().asJson(),
+        orgRequest -> {
+          new BaseRequestValidator().validateSearchRequest((Request) orgRequest);
+          return null;
+        },
+        getAllRequestHeaders(httpRequest),
+        ProjectUtil.EsType.organisation.getTypeName(),
+        httpRequest);
+  }
+
   public CompletionStage<Result> searchV2(Http.Request httpRequest) {
     return handleSearchRequest(
         searchHandlerActor,
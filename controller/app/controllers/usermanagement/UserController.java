@@ -307,6 +307,23 @@ public class UserController extends BaseController {
         httpRequest);
   }
 
+  public CompletionStage<Result> exportUserSearch(Http.Request httpRequest) {
+    final String requestedFields = httpRequest.getQueryString(JsonKey.FIELDS);
+    return handleSearchExportRequest(
+        searchHandlerActor,
+        ActorOperations.USER_SEARCH.getValue(),
+        httpRequest.body().asJson(),
+        userSearchRequest -> {
+          Request request = (Request) userSearchRequest;
+          request.getContext().put(JsonKey.FIELDS, requestedFields);
+          new BaseRequestValidator().validateSearchRequest(request);
+          return null;
+        },
+        getAllRequestHeaders(httpRequest),
+        ProjectUtil.EsType.user.getTypeName(),
+        httpRequest);
+  }
+
   // removing the deprecating columns and disabling search with those columns
   public CompletionStage<Result> searchUserV2(Http.Request httpRequest) {
     final String requestedFields = httpRequest.getQueryString(JsonKey.FIELDS);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import controllers.BaseController;
 import java.lang.reflect.Method;
+import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -26,7 +27,10 @@ import play.mvc.Action;
 import play.mvc.Http;
 import play.mvc.Result;
 import play.mvc.Results;
+import play.routing.Router;
+import util.AdmissionControl;
 import util.Attrs;
+import util.Common;
 import util.RequestInterceptor;
 
 public class OnRequestHandler implements ActionCreator {
@@ -59,6 +63,27 @@ public class OnRequestHandler implements ActionCreator {
         // From 3.0.0 checking user access-token and managed-by from the request header
         Map userAuthentication = RequestInterceptor.verifyRequestData(request, requestContext);
         String message = (String) userAuthentication.get(JsonKey.USER_ID);
+        AdmissionControl.Permit permit =
+            AdmissionControl.getInstance()
+                .tryAcquire(request.path(), getRoute(request), getClient(request, message));
+        if (!permit.isAdmitted()) {
+          return onAdmissionRejected(request, permit);
+        }
+        try {
+          result = admit(request, requestContext, userAuthentication, message);
+        } catch (RuntimeException e) {
+          permit.release();
+          throw e;
+        }
+        return result.whenComplete((res, error) -> permit.release());
+      }
+
+      private CompletionStage<Result> admit(
+          Http.Request request,
+          Map<String, Object> requestContext,
+          Map userAuthentication,
+          String message) {
+        CompletionStage<Result> result;
         updateActorIdAndType(requestContext, request, message);
         try {
           request = request.addAttr(Attrs.CONTEXT, mapper.writeValueAsString(requestContext));
@@ -137,6 +162,53 @@ public class OnRequestHandler implements ActionCreator {
     return null;
   }
 
+  /**
+   * This method will reject a request which is not admitted by the admission control.
+   *
+   * @param request Request
+   * @return CompletionStage<Result>
+   */
+  public CompletionStage<Result> onRateLimitExceeded(Http.Request request) {
+    Response resp =
+        BaseController.createFailureResponse(
+            request, ResponseCode.errorRateLimitExceeded, ResponseCode.TOO_MANY_REQUESTS);
+    resp.setParams(
+        Common.createResponseParamObj(
+            ResponseCode.errorRateLimitExceeded,
+            MessageFormat.format(ResponseCode.errorRateLimitExceeded.getErrorMessage(), "second"),
+            null));
+    return CompletableFuture.completedFuture(
+        Results.status(ResponseCode.TOO_MANY_REQUESTS.getResponseCode(), Json.toJson(resp)));
+  }
+
+  private String getRoute(Http.Request request) {
+    return request
+        .attrs()
+        .getOptional(Router.Attrs.HANDLER_DEF)
+        .map(handlerDef -> handlerDef.verb() + " " + handlerDef.path())
+        .orElse("other");
+  }
+
+  private CompletionStage<Result> onAdmissionRejected(
+      Http.Request request, AdmissionControl.Permit permit) {
+    if (!AdmissionControl.REJECTED_BY_CONCURRENCY.equals(permit.getRejectReason())) {
+      return onRateLimitExceeded(request);
+    }
+    Response resp =
+        BaseController.createFailureResponse(
+            request, ResponseCode.errorTooManyConcurrentRequests, ResponseCode.TOO_MANY_REQUESTS);
+    return CompletableFuture.completedFuture(
+        Results.status(ResponseCode.TOO_MANY_REQUESTS.getResponseCode(), Json.toJson(resp)));
+  }
+
+  /** Returns the authenticated user, or the remote address of a request without a user. */
+  private String getClient(Http.Request request, String userId) {
+    if (StringUtils.isNotBlank(userId) && !JsonKey.USER_UNAUTH_STATES.contains(userId)) {
+      return userId;
+    }
+    return request.remoteAddress();
+  }
+
   /**
    * This method will do request data validation for GET method only. As a GET request user must
    * send some key in header.
@@ -0,0 +1,70 @@
+package util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per operation timings of requests sent to actors. Queue time is the time the request
+ * waited in the actor mailbox, from the ask until the actor took it. Service time is the time from
+ * then until the actor replied. Mapping time is the time from the reply until the result was built,
+ * including the wait for a response mapping thread.
+ */
+public final class ActorRequestMetrics {
+
+  private static final Map<String, OperationStats> operationStats = new ConcurrentHashMap<>();
+
+  private ActorRequestMetrics() {}
+
+  public static void record(
+      String operation, long queueTimeMillis, long serviceTimeMillis, long mappingTimeMillis) {
+    OperationStats stats = getStats(operation);
+    stats.requestCount.increment();
+    stats.totalServiceTimeMillis.add(serviceTimeMillis);
+    stats.maxServiceTimeMillis.accumulateAndGet(serviceTimeMillis, Math::max);
+    stats.totalQueueTimeMillis.add(queueTimeMillis);
+    stats.maxQueueTimeMillis.accumulateAndGet(queueTimeMillis, Math::max);
+    stats.totalMappingTimeMillis.add(mappingTimeMillis);
+  }
+
+  /** Records a request which got no reply, usually because the ask timed out. */
+  public static void recordFailure(String operation) {
+    getStats(operation).failureCount.increment();
+  }
+
+  /** Returns the request count, failure count and total and max timings of every operation. */
+  public static Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new HashMap<>();
+    operationStats.forEach((operation, stats) -> metrics.put(operation, stats.toMap()));
+    return metrics;
+  }
+
+  private static OperationStats getStats(String operation) {
+    return operationStats.computeIfAbsent(
+        null == operation ? "" : operation, key -> new OperationStats());
+  }
+
+  private static final class OperationStats {
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalServiceTimeMillis = new LongAdder();
+    private final AtomicLong maxServiceTimeMillis = new AtomicLong();
+    private final LongAdder totalQueueTimeMillis = new LongAdder();
+    private final AtomicLong maxQueueTimeMillis = new AtomicLong();
+    private final LongAdder totalMappingTimeMillis = new LongAdder();
+
+    private Map<String, Long> toMap() {
+      Map<String, Long> stats = new HashMap<>();
+      stats.put("requests", requestCount.sum());
+      stats.put("failures", failureCount.sum());
+      stats.put("totalServiceTimeMillis", totalServiceTimeMillis.sum());
+      stats.put("maxServiceTimeMillis", maxServiceTimeMillis.get());
+      stats.put("totalQueueTimeMillis", totalQueueTimeMillis.sum());
+      stats.put("maxQueueTimeMillis", maxQueueTimeMillis.get());
+      stats.put("totalMappingTimeMillis", totalMappingTimeMillis.sum());
+      return stats;
+    }
+  }
+}
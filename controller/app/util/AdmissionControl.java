@@ -0,0 +1,332 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Admission control for API requests, applied once a request is authenticated and before it is
+ * sent to an actor. It is disabled by default, sunbird_admission_control_enabled enables it. A
+ * request is rejected if
+ *
+ * <ul>
+ *   <li>its route, matched by path prefix, has a rate in sunbird_admission_route_rates and the
+ *       token bucket of the route is empty,
+ *   <li>the token bucket of its client on that route is empty, a client may use at most
+ *       sunbird_admission_client_share of the rate of a route,
+ *   <li>the number of requests in process reached the concurrency limit.
+ * </ul>
+ *
+ * The concurrency limit adapts to the observed latency, between the configured min and max. It is
+ * adjusted once per window of at least sunbird_admission_latency_window_ms and 20 requests: lowered
+ * by a tenth when the sunbird_admission_latency_percentile of the latencies of the window is above
+ * sunbird_admission_target_latency_ms, else raised by a hundredth of the max. Latencies are only
+ * counted, as within or above the target, so completing requests take no lock.
+ */
+public final class AdmissionControl {
+
+  public static final String REJECTED_BY_ROUTE = "route";
+  public static final String REJECTED_BY_CLIENT = "client";
+  public static final String REJECTED_BY_CONCURRENCY = "concurrency";
+
+  private static final int CLIENT_SWEEP_INTERVAL = 1024;
+  private static final long CLIENT_IDLE_NANOS = 60_000_000_000L;
+  private static final int MAX_CLIENT_BUCKETS = 10000;
+  private static final int MIN_WINDOW_SAMPLES = 20;
+  private static final AdmissionControl instance =
+      new AdmissionControl(
+          Boolean.parseBoolean(ProjectUtil.getConfigValue("sunbird_admission_control_enabled")),
+          parseRates(ProjectUtil.getConfigValue("sunbird_admission_route_rates")),
+          NumberUtils.toDouble(ProjectUtil.getConfigValue("sunbird_admission_client_share"), 1),
+          NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_admission_min_concurrency"), 50),
+          NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_admission_max_concurrency"), 1000),
+          NumberUtils.toLong(
+              ProjectUtil.getConfigValue("sunbird_admission_target_latency_ms"), 3000),
+          NumberUtils.toInt(
+              ProjectUtil.getConfigValue("sunbird_admission_latency_percentile"), 90),
+          NumberUtils.toLong(
+              ProjectUtil.getConfigValue("sunbird_admission_latency_window_ms"), 10000),
+          parseList(ProjectUtil.getConfigValue("sunbird_admission_exempt_paths")));
+
+  private final boolean enabled;
+  private final Map<String, Double> routeRates;
+  private final double clientShare;
+  private final int minConcurrency;
+  private final int maxConcurrency;
+  private final int concurrencyStep;
+  private final long targetLatencyMillis;
+  private final int latencyPercentile;
+  private final long latencyWindowMillis;
+  private final List<String> exemptPaths;
+  private final Map<String, TokenBucket> routeBuckets = new HashMap<>();
+  private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+  private final AtomicInteger clientBucketCalls = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder admittedCount = new LongAdder();
+  private final Map<String, Map<String, LongAdder>> rejectCounts = new ConcurrentHashMap<>();
+  private volatile int concurrencyLimit;
+  // requests of the current window, and those of them above the target latency
+  private final LongAdder windowSamples = new LongAdder();
+  private final LongAdder windowSlowSamples = new LongAdder();
+  private volatile long windowStartTime = System.currentTimeMillis();
+
+  AdmissionControl(
+      boolean enabled,
+      Map<String, Double> routeRates,
+      double clientShare,
+      int minConcurrency,
+      int maxConcurrency,
+      long targetLatencyMillis,
+      int latencyPercentile,
+      long latencyWindowMillis,
+      List<String> exemptPaths) {
+    this.enabled = enabled;
+    this.routeRates = routeRates;
+    this.clientShare = clientShare;
+    this.minConcurrency = minConcurrency;
+    this.maxConcurrency = maxConcurrency;
+    this.targetLatencyMillis = targetLatencyMillis;
+    this.latencyPercentile = latencyPercentile;
+    this.latencyWindowMillis = latencyWindowMillis;
+    this.exemptPaths = exemptPaths;
+    this.concurrencyLimit = maxConcurrency;
+    this.concurrencyStep = Math.max(1, maxConcurrency / 100);
+    routeRates.forEach((route, rate) -> routeBuckets.put(route, new TokenBucket(rate)));
+  }
+
+  public static AdmissionControl getInstance() {
+    return instance;
+  }
+
+  /**
+   * Admits a request.
+   *
+   * @param path Request path
+   * @param route Route of the request in metrics
+   * @param client Client of the request, its authenticated user id or its remote address
+   * @return the permit of the request, which must be released once the request completed if it is
+   *     admitted
+   */
+  public Permit tryAcquire(String path, String route, String client) {
+    if (!enabled || isExempt(path)) {
+      return Permit.UNLIMITED;
+    }
+    String ratePrefix = getRatePrefix(path);
+    if (null != ratePrefix) {
+      TokenBucket clientBucket = getClientBucket(ratePrefix, client);
+      if (null != clientBucket && !clientBucket.tryAcquire()) {
+        return reject(ratePrefix, REJECTED_BY_CLIENT);
+      }
+      if (!routeBuckets.get(ratePrefix).tryAcquire()) {
+        return reject(ratePrefix, REJECTED_BY_ROUTE);
+      }
+    }
+    if (inFlight.incrementAndGet() > concurrencyLimit) {
+      inFlight.decrementAndGet();
+      return reject(null != ratePrefix ? ratePrefix : route, REJECTED_BY_CONCURRENCY);
+    }
+    admittedCount.increment();
+    return new Permit(this, null);
+  }
+
+  /**
+   * Returns the admitted count, requests in process, current concurrency limit and the reject
+   * counts of every route by reason.
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("enabled", enabled);
+    metrics.put("admitted", admittedCount.sum());
+    metrics.put("inFlight", inFlight.get());
+    metrics.put("concurrencyLimit", concurrencyLimit);
+    Map<String, Map<String, Long>> rejected = new HashMap<>();
+    rejectCounts.forEach(
+        (route, counts) -> {
+          Map<String, Long> routeCounts = new HashMap<>();
+          counts.forEach((reason, count) -> routeCounts.put(reason, count.sum()));
+          rejected.put(route, routeCounts);
+        });
+    metrics.put("rejected", rejected);
+    return metrics;
+  }
+
+  private void release(long latencyMillis) {
+    inFlight.decrementAndGet();
+    windowSamples.increment();
+    if (latencyMillis > targetLatencyMillis) {
+      windowSlowSamples.increment();
+    }
+    if (System.currentTimeMillis() - windowStartTime >= latencyWindowMillis
+        && windowSamples.sum() >= MIN_WINDOW_SAMPLES) {
+      closeWindow();
+    }
+  }
+
+  private synchronized void closeWindow() {
+    long now = System.currentTimeMillis();
+    // another release may have closed the window meanwhile
+    if (now - windowStartTime < latencyWindowMillis || windowSamples.sum() < MIN_WINDOW_SAMPLES) {
+      return;
+    }
+    long samples = windowSamples.sumThenReset();
+    long slowSamples = Math.min(samples, windowSlowSamples.sumThenReset());
+    windowStartTime = now;
+    if (isPercentileAboveTarget(samples, slowSamples)) {
+      concurrencyLimit = Math.max(minConcurrency, concurrencyLimit - concurrencyLimit / 10);
+    } else {
+      concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + concurrencyStep);
+    }
+  }
+
+  /**
+   * The percentile of the sorted latencies is the one at rank ceil(samples * percentile / 100), it
+   * is above the target if fewer requests than that rank completed within the target.
+   */
+  private boolean isPercentileAboveTarget(long samples, long slowSamples) {
+    long rank = Math.max(1, (long) Math.ceil(samples * latencyPercentile / 100d));
+    return samples - slowSamples < rank;
+  }
+
+  private Permit reject(String route, String reason) {
+    rejectCounts
+        .computeIfAbsent(route, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(reason, key -> new LongAdder())
+        .increment();
+    return new Permit(null, reason);
+  }
+
+  private boolean isExempt(String path) {
+    if (path.endsWith(JsonKey.HEALTH)) {
+      return true;
+    }
+    for (String exemptPath : exemptPaths) {
+      if (path.startsWith(exemptPath)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String getRatePrefix(String path) {
+    // routes are ordered longest prefix first
+    for (String prefix : routeRates.keySet()) {
+      if (path.startsWith(prefix)) {
+        return prefix;
+      }
+    }
+    return null;
+  }
+
+  private TokenBucket getClientBucket(String ratePrefix, String client) {
+    if (StringUtils.isBlank(client) || clientShare >= 1) {
+      return null;
+    }
+    if (clientBucketCalls.incrementAndGet() % CLIENT_SWEEP_INTERVAL == 0) {
+      long now = System.nanoTime();
+      clientBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+    String key = ratePrefix + "|" + client;
+    TokenBucket bucket = clientBuckets.get(key);
+    if (null == bucket && clientBuckets.size() < MAX_CLIENT_BUCKETS) {
+      double rate = routeRates.get(ratePrefix) * clientShare;
+      bucket = clientBuckets.computeIfAbsent(key, k -> new TokenBucket(rate));
+    }
+    return bucket;
+  }
+
+  static Map<String, Double> parseRates(String value) {
+    Map<String, Double> rates = new HashMap<>();
+    for (String routeRate : parseList(value)) {
+      int index = routeRate.lastIndexOf(':');
+      double rate = index > 0 ? NumberUtils.toDouble(routeRate.substring(index + 1)) : 0;
+      if (rate > 0) {
+        rates.put(routeRate.substring(0, index).trim(), rate);
+      }
+    }
+    Map<String, Double> ordered = new LinkedHashMap<>();
+    rates.entrySet()
+        .stream()
+        .sorted((first, second) -> second.getKey().length() - first.getKey().length())
+        .forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+    return ordered;
+  }
+
+  private static List<String> parseList(String value) {
+    List<String> values = new ArrayList<>();
+    if (StringUtils.isNotBlank(value)) {
+      Arrays.stream(value.split(","))
+          .map(String::trim)
+          .filter(StringUtils::isNotEmpty)
+          .forEach(values::add);
+    }
+    return values;
+  }
+
+  /** Admission of a request, released once the request completed. */
+  public static final class Permit {
+    private static final Permit UNLIMITED = new Permit(null, null);
+
+    private final AdmissionControl admissionControl;
+    private final String rejectReason;
+    private final long startTime = System.currentTimeMillis();
+
+    private Permit(AdmissionControl admissionControl, String rejectReason) {
+      this.admissionControl = admissionControl;
+      this.rejectReason = rejectReason;
+    }
+
+    public boolean isAdmitted() {
+      return null == rejectReason;
+    }
+
+    /** Returns why the request was rejected, one of the REJECTED_BY reasons, or null. */
+    public String getRejectReason() {
+      return rejectReason;
+    }
+
+    public void release() {
+      if (null != admissionControl) {
+        admissionControl.release(System.currentTimeMillis() - startTime);
+      }
+    }
+  }
+
+  /** Token bucket refilled at rate tokens per second, holding at most one second of tokens. */
+  private static final class TokenBucket {
+    private final double ratePerNano;
+    private final double capacity;
+    private double tokens;
+    private volatile long lastRefillTime = System.nanoTime();
+
+    private TokenBucket(double ratePerSecond) {
+      this.ratePerNano = ratePerSecond / 1_000_000_000d;
+      this.capacity = Math.max(1, ratePerSecond);
+      this.tokens = capacity;
+    }
+
+    private synchronized boolean tryAcquire() {
+      long now = System.nanoTime();
+      tokens = Math.min(capacity, tokens + (now - lastRefillTime) * ratePerNano);
+      lastRefillTime = now;
+      if (tokens < 1) {
+        return false;
+      }
+      tokens--;
+      return true;
+    }
+
+    private boolean isIdle(long now) {
+      return now - lastRefillTime > CLIENT_IDLE_NANOS;
+    }
+  }
+}
@@ -53,6 +53,7 @@ public class RequestInterceptor {
     apiHeaderIgnoreMap.put("/v1/org/search", var);
     apiHeaderIgnoreMap.put("/service/health", var);
     apiHeaderIgnoreMap.put("/health", var);
+    apiHeaderIgnoreMap.put("/private/service/v1/metrics", var);
     apiHeaderIgnoreMap.put("/v1/notification/email", var);
     apiHeaderIgnoreMap.put("/v2/notification", var);
     apiHeaderIgnoreMap.put("/v1/data/sync", var);
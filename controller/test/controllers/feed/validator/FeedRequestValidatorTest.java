@@ -21,6 +21,11 @@ public class FeedRequestValidatorTest {
     Assert.assertTrue(FeedRequestValidator.userIdValidation("123-456-7890", null, "123-456-789"));
   }
 
+  @Test(expected = ProjectCommonException.class)
+  public void validateFeedLimitTestFailure() {
+    FeedRequestValidator.validateFeedLimit("0");
+  }
+
   @Test(expected = ProjectCommonException.class)
   public void validateFeedRequestTestFailure() {
     Request reqObj = new Request();
@@ -59,4 +59,11 @@ public class HealthControllerTest extends BaseApplicationTest {
     Result result = Helpers.route(application, req);
     assertEquals(200, result.status());
   }
+
+  @Test
+  public void testGetServiceMetrics() {
+    RequestBuilder req = new RequestBuilder().uri("/private/service/v1/metrics").method("GET");
+    Result result = Helpers.route(application, req);
+    assertEquals(200, result.status());
+  }
 }
@@ -186,6 +186,23 @@ public class OrganisationControllerTest extends BaseApplicationTest {
     assertTrue(getResponseStatus(result) == 400);
   }
 
+  @Test
+  public void testExportOrgSearchSuccess() {
+    Result result =
+        performTest(
+            "/v1/org/search/export", "POST", searchOrganisationRequest(status, new HashMap<>()));
+    assertTrue(getResponseStatus(result) == 200);
+    assertEquals("application/x-ndjson", result.contentType().get());
+  }
+
+  @Test
+  public void testExportOrgSearchFailureWithoutFilters() {
+    Result result =
+        performTest("/v1/org/search/export", "POST", searchOrganisationRequest(status, null));
+    assertEquals(getResponseCode(result), ResponseCode.mandatoryParamsMissing.getErrorCode());
+    assertTrue(getResponseStatus(result) == 400);
+  }
+
   private Map createOrUpdateOrganisationRequest(
       String orgName, String orgId, boolean isRootOrg, String rootOrgId, String status) {
     Map<String, Object> requestMap = new HashMap<>();
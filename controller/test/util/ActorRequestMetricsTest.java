@@ -0,0 +1,23 @@
+package util;
+
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ActorRequestMetricsTest {
+
+  @Test
+  public void testRecordAggregatesPerOperation() {
+    ActorRequestMetrics.record("metricsTestOperation", 2, 20, 1);
+    ActorRequestMetrics.record("metricsTestOperation", 6, 40, 3);
+    ActorRequestMetrics.recordFailure("metricsTestOperation");
+    Map<String, Long> stats = ActorRequestMetrics.getMetrics().get("metricsTestOperation");
+    Assert.assertEquals(2L, (long) stats.get("requests"));
+    Assert.assertEquals(1L, (long) stats.get("failures"));
+    Assert.assertEquals(60L, (long) stats.get("totalServiceTimeMillis"));
+    Assert.assertEquals(40L, (long) stats.get("maxServiceTimeMillis"));
+    Assert.assertEquals(8L, (long) stats.get("totalQueueTimeMillis"));
+    Assert.assertEquals(6L, (long) stats.get("maxQueueTimeMillis"));
+    Assert.assertEquals(4L, (long) stats.get("totalMappingTimeMillis"));
+  }
+}
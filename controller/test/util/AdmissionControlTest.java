@@ -0,0 +1,109 @@
+package util;
+
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdmissionControlTest {
+
+  @Test
+  public void testRouteAndClientRates() {
+    AdmissionControl admissionControl =
+        new AdmissionControl(
+            true,
+            AdmissionControl.parseRates("/v1/user/search:2, /v1/user:0, invalid"),
+            0.5,
+            1,
+            10,
+            3000,
+            90,
+            10000,
+            Collections.emptyList());
+    Assert.assertTrue(isAdmitted(admissionControl, "/v1/user/search", "clientA"));
+    // clientA used its share of the route rate
+    Assert.assertEquals(
+        AdmissionControl.REJECTED_BY_CLIENT,
+        admissionControl.tryAcquire("/v1/user/search", "search", "clientA").getRejectReason());
+    Assert.assertTrue(isAdmitted(admissionControl, "/v1/user/search", "clientB"));
+    Assert.assertEquals(
+        AdmissionControl.REJECTED_BY_ROUTE,
+        admissionControl.tryAcquire("/v1/user/search", "search", "clientC").getRejectReason());
+    // routes without a rate are not limited
+    Assert.assertTrue(isAdmitted(admissionControl, "/v1/user/read", "clientA"));
+    Map<String, Map<String, Long>> rejected =
+        (Map<String, Map<String, Long>>) admissionControl.getMetrics().get("rejected");
+    Assert.assertEquals(1L, (long) rejected.get("/v1/user/search").get("client"));
+    Assert.assertEquals(1L, (long) rejected.get("/v1/user/search").get("route"));
+  }
+
+  @Test
+  public void testConcurrencyLimitAdaptsToLatency() throws Exception {
+    AdmissionControl admissionControl =
+        new AdmissionControl(
+            true,
+            Collections.emptyMap(),
+            1,
+            1,
+            10,
+            0,
+            90,
+            0,
+            Collections.singletonList("/private"));
+    AdmissionControl.Permit permit = admissionControl.tryAcquire("/v1/user/read", "read", null);
+    Thread.sleep(5);
+    // one slow request does not lower the limit
+    permit.release();
+    Assert.assertEquals(10, admissionControl.getMetrics().get("concurrencyLimit"));
+    AdmissionControl.Permit[] permits = new AdmissionControl.Permit[10];
+    for (int j = 0; j < 2; j++) {
+      for (int i = 0; i < permits.length; i++) {
+        permits[i] = admissionControl.tryAcquire("/v1/user/read", "read", null);
+        Assert.assertTrue(permits[i].isAdmitted());
+      }
+      Thread.sleep(5);
+      for (AdmissionControl.Permit slowPermit : permits) {
+        slowPermit.release();
+      }
+    }
+    // the latency percentile of a window of slow requests is above the target
+    Assert.assertEquals(9, admissionControl.getMetrics().get("concurrencyLimit"));
+    for (int i = 0; i < 9; i++) {
+      Assert.assertTrue(isAdmitted(admissionControl, "/v1/user/read", null));
+    }
+    Assert.assertEquals(
+        AdmissionControl.REJECTED_BY_CONCURRENCY,
+        admissionControl.tryAcquire("/v1/user/read", "read", null).getRejectReason());
+    // health and exempt paths are always admitted
+    Assert.assertTrue(isAdmitted(admissionControl, "/health", null));
+    Assert.assertTrue(isAdmitted(admissionControl, "/private/metrics", null));
+    Map<String, Map<String, Long>> rejected =
+        (Map<String, Map<String, Long>>) admissionControl.getMetrics().get("rejected");
+    Assert.assertEquals(1L, (long) rejected.get("read").get("concurrency"));
+  }
+
+  @Test
+  public void testConcurrencyLimitGrowsOncePerWindow() throws Exception {
+    AdmissionControl admissionControl =
+        new AdmissionControl(
+            true, Collections.emptyMap(), 1, 1, 100, 50, 90, 0, Collections.emptyList());
+    AdmissionControl.Permit[] permits = new AdmissionControl.Permit[20];
+    for (int i = 0; i < permits.length; i++) {
+      permits[i] = admissionControl.tryAcquire("/v1/user/read", "read", null);
+    }
+    Thread.sleep(60);
+    for (AdmissionControl.Permit slowPermit : permits) {
+      slowPermit.release();
+    }
+    Assert.assertEquals(90, admissionControl.getMetrics().get("concurrencyLimit"));
+    // a window of fast requests raises the limit by one step, not by one per request
+    for (int i = 0; i < permits.length; i++) {
+      admissionControl.tryAcquire("/v1/user/read", "read", null).release();
+    }
+    Assert.assertEquals(91, admissionControl.getMetrics().get("concurrencyLimit"));
+  }
+
+  private static boolean isAdmitted(AdmissionControl admissionControl, String path, String client) {
+    return admissionControl.tryAcquire(path, path, client).isAdmitted();
+  }
+}
@@ -0,0 +1,83 @@
+package org.sunbird.actor.core;
+
+import akka.actor.ActorPath;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mailbox and processing counters of the actors of this node. Routees are counted under the name
+ * of their router, so the numbers of a router pool are the sum over its routees. Mailbox depth and
+ * rejections are only known for actors deployed with {@link InstrumentedMailbox}.
+ */
+public final class ActorMetrics {
+
+  private static final Map<String, ActorStats> actorStats = new ConcurrentHashMap<>();
+
+  private ActorMetrics() {}
+
+  /** Returns the name the actor is counted under, the router name for a routee. */
+  public static String getActorName(ActorPath path) {
+    ActorPath parent = path.parent();
+    if (null != parent && !"user".equals(parent.name()) && !"/".equals(parent.name())) {
+      return parent.name();
+    }
+    return path.name();
+  }
+
+  /** Returns mailbox depth, enqueued, rejected and processed counts and processing times. */
+  public static Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new HashMap<>();
+    actorStats.forEach((actor, stats) -> metrics.put(actor, stats.toMap()));
+    return metrics;
+  }
+
+  static void recordEnqueue(String actor) {
+    ActorStats stats = getStats(actor);
+    stats.enqueueCount.increment();
+    stats.maxMailboxDepth.accumulateAndGet(stats.mailboxDepth.incrementAndGet(), Math::max);
+  }
+
+  static void recordDequeue(String actor) {
+    getStats(actor).mailboxDepth.decrementAndGet();
+  }
+
+  static void recordRejection(String actor) {
+    getStats(actor).rejectionCount.increment();
+  }
+
+  static void recordProcessing(String actor, long processingTimeMillis) {
+    ActorStats stats = getStats(actor);
+    stats.processedCount.increment();
+    stats.totalProcessingTimeMillis.add(processingTimeMillis);
+    stats.maxProcessingTimeMillis.accumulateAndGet(processingTimeMillis, Math::max);
+  }
+
+  private static ActorStats getStats(String actor) {
+    return actorStats.computeIfAbsent(actor, key -> new ActorStats());
+  }
+
+  private static final class ActorStats {
+    private final AtomicLong mailboxDepth = new AtomicLong();
+    private final AtomicLong maxMailboxDepth = new AtomicLong();
+    private final LongAdder enqueueCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder totalProcessingTimeMillis = new LongAdder();
+    private final AtomicLong maxProcessingTimeMillis = new AtomicLong();
+
+    private Map<String, Long> toMap() {
+      Map<String, Long> stats = new HashMap<>();
+      stats.put("mailboxDepth", mailboxDepth.get());
+      stats.put("maxMailboxDepth", maxMailboxDepth.get());
+      stats.put("enqueued", enqueueCount.sum());
+      stats.put("rejected", rejectionCount.sum());
+      stats.put("processed", processedCount.sum());
+      stats.put("totalProcessingTimeMillis", totalProcessingTimeMillis.sum());
+      stats.put("maxProcessingTimeMillis", maxProcessingTimeMillis.get());
+      return stats;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import org.sunbird.request.Request;
 
 public abstract class BaseActor extends UntypedAbstractActor {
   public final LoggerUtil logger = new LoggerUtil(this.getClass());
+  private String actorName;
 
   public abstract void onReceive(Request request) throws Throwable;
 
@@ -16,16 +17,27 @@ public abstract class BaseActor extends UntypedAbstractActor {
     if (message instanceof Request) {
       Request request = (Request) message;
       String operation = request.getOperation();
+      long startTime = System.currentTimeMillis();
+      request.setDequeueTime(startTime);
       try {
         onReceive(request);
       } catch (Exception e) {
         logger.error(
             request.getRequestContext(), "Error while processing the message : " + operation, e);
         onReceiveException(e);
+      } finally {
+        ActorMetrics.recordProcessing(getActorName(), System.currentTimeMillis() - startTime);
       }
     }
   }
 
+  private String getActorName() {
+    if (null == actorName) {
+      actorName = ActorMetrics.getActorName(self().path());
+    }
+    return actorName;
+  }
+
   protected void onReceiveUnsupportedOperation() {
     ProjectCommonException exception =
         new ProjectCommonException(
@@ -0,0 +1,121 @@
+package org.sunbird.actor.core;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import com.typesafe.config.Config;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.Request;
+
+/**
+ * Mailbox which records its depth in {@link ActorMetrics}. With a positive mailbox-capacity the
+ * mailbox is bounded: a message arriving at a full mailbox is rejected at once, the sender of a
+ * rejected request gets a service unavailable error instead of waiting for its ask to time out.
+ *
+ * <pre>
+ * bulkhead-mailbox {
+ *   mailbox-type = "org.sunbird.actor.core.InstrumentedMailbox"
+ *   mailbox-capacity = 1000
+ * }
+ * </pre>
+ */
+public class InstrumentedMailbox
+    implements MailboxType, ProducesMessageQueue<InstrumentedMailbox.InstrumentedMessageQueue> {
+
+  private static final LoggerUtil logger = new LoggerUtil(InstrumentedMailbox.class);
+
+  private final int capacity;
+
+  public InstrumentedMailbox(ActorSystem.Settings settings, Config config) {
+    this.capacity = config.hasPath("mailbox-capacity") ? config.getInt("mailbox-capacity") : 0;
+  }
+
+  @Override
+  public MessageQueue create(scala.Option<ActorRef> owner, scala.Option<ActorSystem> system) {
+    String actorName = owner.isDefined() ? ActorMetrics.getActorName(owner.get().path()) : "";
+    ActorRef deadLetters = system.isDefined() ? system.get().deadLetters() : null;
+    return new InstrumentedMessageQueue(actorName, capacity, deadLetters);
+  }
+
+  public static class InstrumentedMessageQueue implements MessageQueue {
+    private final String actorName;
+    private final int capacity;
+    private final ActorRef deadLetters;
+    private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    InstrumentedMessageQueue(String actorName, int capacity, ActorRef deadLetters) {
+      this.actorName = actorName;
+      this.capacity = capacity;
+      this.deadLetters = deadLetters;
+    }
+
+    @Override
+    public void enqueue(ActorRef receiver, Envelope handle) {
+      if (size.incrementAndGet() > capacity && capacity > 0) {
+        size.decrementAndGet();
+        reject(receiver, handle);
+        return;
+      }
+      queue.offer(handle);
+      ActorMetrics.recordEnqueue(actorName);
+    }
+
+    @Override
+    public Envelope dequeue() {
+      Envelope handle = queue.poll();
+      if (null != handle) {
+        size.decrementAndGet();
+        ActorMetrics.recordDequeue(actorName);
+      }
+      return handle;
+    }
+
+    @Override
+    public int numberOfMessages() {
+      return size.get();
+    }
+
+    @Override
+    public boolean hasMessages() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+      Envelope handle;
+      while (null != (handle = dequeue())) {
+        deadLetters.enqueue(owner, handle);
+      }
+    }
+
+    private void reject(ActorRef receiver, Envelope handle) {
+      ActorMetrics.recordRejection(actorName);
+      Object message = handle.message();
+      String operation = message instanceof Request ? ((Request) message).getOperation() : "";
+      logger.error(
+          "InstrumentedMailbox:reject: mailbox of "
+              + actorName
+              + " is full, rejected message with operation = "
+              + operation,
+          null);
+      ActorRef sender = handle.sender();
+      if (message instanceof Request && null != sender && !sender.equals(deadLetters)) {
+        sender.tell(
+            new ProjectCommonException(
+                ResponseCode.serviceUnAvailable.getErrorCode(),
+                ResponseCode.serviceUnAvailable.getErrorMessage(),
+                ResponseCode.SERVICE_UNAVAILABLE.getResponseCode()),
+            receiver);
+      }
+    }
+  }
+}
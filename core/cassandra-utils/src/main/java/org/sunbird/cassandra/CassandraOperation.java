@@ -442,6 +442,88 @@ public interface CassandraOperation {
       List<Integer> ttls,
       RequestContext context);
 
+  /**
+   * Perform a conditional batch upsert with different TTL values as one lightweight transaction.
+   * All records must belong to the same partition. A record with null expected values is inserted
+   * only if its row does not exist, any other record is updated only if the current values of its
+   * row are equal to the expected values. The batch is applied only if every condition holds.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys Names of the primary key columns of the table
+   * @param records List of records in the batch operation
+   * @param expectedValues Expected current values for each record, null if the row must not exist
+   * @param ttls TTL (in seconds) for each record. TTL is ignored if value is not a positive number.
+   * @param context
+   * @return true if the conditions held and the batch was applied
+   */
+  boolean batchUpsertIfWithTTL(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      List<Map<String, Object>> records,
+      List<Map<String, Object>> expectedValues,
+      List<Integer> ttls,
+      RequestContext context);
+
+  /**
+   * Perform a logged batch upsert into one or more tables of a keyspace, so that either all or none
+   * of the records are eventually written.
+   *
+   * @param keyspaceName Keyspace name
+   * @param recordsByTable Records to be upserted by table name
+   * @param context
+   * @return Response indicating status of operation
+   */
+  Response batchUpsertTables(
+      String keyspaceName,
+      Map<String, List<Map<String, Object>>> recordsByTable,
+      RequestContext context);
+
+  /**
+   * Fetch one page of the records of a table.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param fields List of columns to be returned in each record, all if null
+   * @param pagingState Paging state returned with the previous page, null for the first page
+   * @param pageSize Maximum number of records in the page
+   * @param context
+   * @return Response with the records of the page and, under JsonKey.PAGING_STATE, the paging
+   *     state of the next page, null after the last page
+   */
+  Response getRecordsByPage(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      String pagingState,
+      int pageSize,
+      RequestContext context);
+
+  /**
+   * Fetch one page of the records of a table matching the given filters. The filters are applied
+   * as equality conditions, so they should be the partition key and a prefix of the clustering
+   * columns of the table.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param filters Column name and value of each equality condition
+   * @param fields List of columns to be returned in each record, all if null
+   * @param pagingState Paging state returned with the previous page, null for the first page
+   * @param pageSize Maximum number of records in the page
+   * @param context
+   * @return Response with the records of the page and, under JsonKey.PAGING_STATE, the paging
+   *     state of the next page, null after the last page
+   */
+  Response getRecordsByPage(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> filters,
+      List<String> fields,
+      String pagingState,
+      int pageSize,
+      RequestContext context);
+
   public Response getRecords(
       String keyspace,
       String table,
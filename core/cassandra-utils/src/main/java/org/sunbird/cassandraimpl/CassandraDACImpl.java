@@ -64,7 +64,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != select) {
-        logQueryElapseTime("getRecords", startTime, select.getQueryString(), context);
+        logQueryElapseTime("getRecords", startTime, select, context);
       }
     }
     return response;
@@ -108,8 +108,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != select) {
-        logQueryElapseTime(
-            "applyOperationOnRecordsAsync", startTime, select.getQueryString(), context);
+        logQueryElapseTime("applyOperationOnRecordsAsync", startTime, select, context);
       }
     }
   }
@@ -182,7 +181,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != update) {
-        logQueryElapseTime("updateMapRecord", startTime, update.getQueryString(), context);
+        logQueryElapseTime("updateMapRecord", startTime, update, context);
       }
     }
   }
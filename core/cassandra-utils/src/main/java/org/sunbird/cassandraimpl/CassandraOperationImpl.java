@@ -4,11 +4,14 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
 
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.PagingStateException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
 import com.datastax.driver.core.exceptions.QueryValidationException;
 import com.datastax.driver.core.querybuilder.Clause;
@@ -162,7 +165,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime("deleteRecord", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecord", startTime, delete, context);
       }
     }
     return response;
@@ -196,7 +199,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectStatement) {
-        logQueryElapseTime("getRecordsByProperty", startTime, selectStatement.toString(), context);
+        logQueryElapseTime("getRecordsByProperty", startTime, selectStatement, context);
       }
     }
     return response;
@@ -249,8 +252,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByProperties", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByProperties", startTime, selectQuery, context);
       }
     }
     return response;
@@ -331,8 +333,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getPropertiesValueById", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getPropertiesValueById", startTime, selectQuery, context);
       }
     }
     return response;
@@ -369,7 +370,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime("getAllRecords", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getAllRecords", startTime, selectQuery, context);
       }
     }
     return response;
@@ -465,7 +466,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != updateQuery) {
-        logQueryElapseTime("updateRecord", startTime, updateQuery.toString(), context);
+        logQueryElapseTime("updateRecord", startTime, updateQuery, context);
       }
     }
     return response;
@@ -522,8 +523,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectWhereQuery) {
-        logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordByIdentifier", startTime, selectWhereQuery, context);
       }
     }
     return response;
@@ -610,8 +610,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectWhereQuery) {
-        logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordByIdentifier", startTime, selectWhereQuery, context);
       }
     }
     return response;
@@ -656,8 +655,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchInsert", startTime, batchStatement.getStatements().toString(), context);
+        logQueryElapseTime("batchInsert", startTime, batchStatement.getStatements(), context);
       }
     }
     return response;
@@ -704,8 +702,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdateById", startTime, batchStatement.getStatements().toString(), context);
+        logQueryElapseTime("batchUpdateById", startTime, batchStatement.getStatements(), context);
       }
     }
     return response;
@@ -761,7 +758,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     } finally {
       if (null != batchStatement) {
         logQueryElapseTime(
-            "performBatchAction", startTime, batchStatement.getStatements().toString(), context);
+            "performBatchAction", startTime, batchStatement.getStatements(), context);
       }
     }
     return response;
@@ -829,22 +826,34 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdate", startTime, batchStatement.getStatements().toString(), context);
+        logQueryElapseTime("batchUpdate", startTime, batchStatement.getStatements(), context);
       }
     }
     return response;
   }
 
+  /**
+   * Logs the query and the time taken by the operation. The query is a statement, a list of
+   * statements or a query string, it is turned into a string only if the line is written.
+   */
   protected void logQueryElapseTime(
-      String operation, long startTime, String query, RequestContext context) {
-    logger.info(context, "Cassandra query : " + query);
+      String operation, long startTime, Object query, RequestContext context) {
+    logger.info(context, () -> "Cassandra query : " + getQueryString(query));
     long stopTime = System.currentTimeMillis();
     long elapsedTime = stopTime - startTime;
     String message =
         "Cassandra operation {0} started at {1} and completed at {2}. Total time elapsed is {3}.";
-    MessageFormat mf = new MessageFormat(message);
-    logger.debug(context, mf.format(new Object[] {operation, startTime, stopTime, elapsedTime}));
+    logger.debug(
+        context,
+        () ->
+            new MessageFormat(message)
+                .format(new Object[] {operation, startTime, stopTime, elapsedTime}));
+  }
+
+  private static String getQueryString(Object query) {
+    return query instanceof RegularStatement
+        ? ((RegularStatement) query).getQueryString()
+        : String.valueOf(query);
   }
 
   @Override
@@ -884,8 +893,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime(
-            "deleteRecordByCompositeKey", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecordByCompositeKey", startTime, delete, context);
       }
     }
   }
@@ -918,7 +926,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime("deleteRecords", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecords", startTime, delete, context);
       }
     }
     return resultSet.wasApplied();
@@ -960,8 +968,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByCompositeKey", startTime, selectQuery, context);
       }
     }
     return response;
@@ -1013,7 +1020,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
 
     selectWhere.and(clause);
     if (null != selectQuery) {
-      logQueryElapseTime("read", startTime, selectQuery.getQueryString(), context);
+      logQueryElapseTime("read", startTime, selectQuery, context);
     }
     ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
     response = CassandraUtil.createResponse(results);
@@ -1061,7 +1068,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
             });
     insert.using(QueryBuilder.ttl(ttl));
     if (null != insert) {
-      logQueryElapseTime("insertRecordWithTTL", startTime, insert.getQueryString(), context);
+      logQueryElapseTime("insertRecordWithTTL", startTime, insert, context);
     }
     ResultSet results = connectionManager.getSession(keyspaceName).execute(insert);
     Response response = CassandraUtil.createResponse(results);
@@ -1097,7 +1104,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
             });
     update.using(QueryBuilder.ttl(ttl));
     if (null != update) {
-      logQueryElapseTime("updateRecordWithTTL", startTime, update.getQueryString(), context);
+      logQueryElapseTime("updateRecordWithTTL", startTime, update, context);
     }
     ResultSet results = session.execute(update);
     Response response = CassandraUtil.createResponse(results);
@@ -1168,10 +1175,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     } finally {
       if (null != selectQuery) {
         logQueryElapseTime(
-            "getRecordsByIdsWithSpecifiedColumnsAndTTL",
-            startTime,
-            selectQuery.getQueryString(),
-            context);
+            "getRecordsByIdsWithSpecifiedColumnsAndTTL", startTime, selectQuery, context);
       }
     }
     return response;
@@ -1237,7 +1241,186 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     } finally {
       if (null != batchStatement) {
         logQueryElapseTime(
-            "batchInsertWithTTL", startTime, batchStatement.getStatements().toString(), context);
+            "batchInsertWithTTL", startTime, batchStatement.getStatements(), context);
+      }
+    }
+    return response;
+  }
+
+  @Override
+  public boolean batchUpsertIfWithTTL(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      List<Map<String, Object>> records,
+      List<Map<String, Object>> expectedValues,
+      List<Integer> ttls,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(
+        context, "CassandraOperationImpl:batchUpsertIfWithTTL: call started at " + startTime);
+    if (CollectionUtils.isEmpty(records)
+        || records.size() != ttls.size()
+        || records.size() != expectedValues.size()) {
+      logger.debug(
+          context,
+          "CassandraOperationImpl:batchUpsertIfWithTTL: records is empty or list sizes mismatch");
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    }
+    Session session = connectionManager.getSession(keyspaceName);
+    BatchStatement batchStatement = new BatchStatement();
+    ResultSet resultSet;
+    try {
+      for (int i = 0; i < records.size(); i++) {
+        Map<String, Object> record = records.get(i);
+        Map<String, Object> expected = expectedValues.get(i);
+        Integer ttl = ttls.get(i);
+        if (null == expected) {
+          Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
+          record.forEach(insert::value);
+          insert.ifNotExists();
+          if (null != ttl && ttl > 0) {
+            insert.using(QueryBuilder.ttl(ttl));
+          }
+          batchStatement.add(insert);
+        } else {
+          Update update = QueryBuilder.update(keyspaceName, tableName);
+          record.forEach(
+              (column, value) -> {
+                if (primaryKeys.contains(column)) {
+                  update.where(eq(column, value));
+                } else {
+                  update.with(QueryBuilder.set(column, value));
+                }
+              });
+          expected.forEach((column, value) -> update.onlyIf(eq(column, value)));
+          if (null != ttl && ttl > 0) {
+            update.using(QueryBuilder.ttl(ttl));
+          }
+          batchStatement.add(update);
+        }
+      }
+      resultSet = session.execute(batchStatement);
+    } catch (QueryExecutionException
+        | QueryValidationException
+        | NoHostAvailableException
+        | IllegalStateException e) {
+      logger.error(
+          context,
+          "CassandraOperationImpl:batchUpsertIfWithTTL: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime(
+          "batchUpsertIfWithTTL", startTime, batchStatement.getStatements(), context);
+    }
+    return resultSet.wasApplied();
+  }
+
+  @Override
+  public Response batchUpsertTables(
+      String keyspaceName,
+      Map<String, List<Map<String, Object>>> recordsByTable,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "CassandraOperationImpl:batchUpsertTables: call started at " + startTime);
+    Session session = connectionManager.getSession(keyspaceName);
+    Response response = new Response();
+    BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.LOGGED);
+    try {
+      recordsByTable.forEach(
+          (tableName, records) ->
+              records.forEach(
+                  record ->
+                      batchStatement.add(createInsertStatement(keyspaceName, tableName, record))));
+      session.execute(batchStatement);
+      response.put(Constants.RESPONSE, Constants.SUCCESS);
+    } catch (QueryExecutionException
+        | QueryValidationException
+        | NoHostAvailableException
+        | IllegalStateException e) {
+      logger.error(
+          context,
+          "CassandraOperationImpl:batchUpsertTables: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("batchUpsertTables", startTime, batchStatement.getStatements(), context);
+    }
+    return response;
+  }
+
+  @Override
+  public Response getRecordsByPage(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      String pagingState,
+      int pageSize,
+      RequestContext context) {
+    return getRecordsByPage(
+        keyspaceName, tableName, null, fields, pagingState, pageSize, context);
+  }
+
+  @Override
+  public Response getRecordsByPage(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> filters,
+      List<String> fields,
+      String pagingState,
+      int pageSize,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "CassandraOperationImpl:getRecordsByPage: call started at " + startTime);
+    Response response;
+    Select selectQuery = null;
+    try {
+      Builder selectBuilder;
+      if (CollectionUtils.isNotEmpty(fields)) {
+        selectBuilder = QueryBuilder.select(fields.toArray(new String[0]));
+      } else {
+        selectBuilder = QueryBuilder.select().all();
+      }
+      selectQuery = selectBuilder.from(keyspaceName, tableName);
+      if (MapUtils.isNotEmpty(filters)) {
+        Select.Where selectWhere = selectQuery.where();
+        filters.forEach((key, value) -> selectWhere.and(QueryBuilder.eq(key, value)));
+      }
+      selectQuery.setFetchSize(pageSize);
+      if (StringUtils.isNotBlank(pagingState)) {
+        selectQuery.setPagingState(PagingState.fromString(pagingState));
+      }
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      response = CassandraUtil.createPageResponse(results);
+    } catch (PagingStateException e) {
+      // not a paging state of this query, as returned with a previous page
+      logger.info(
+          context,
+          "CassandraOperationImpl:getRecordsByPage: invalid paging state " + e.getMessage());
+      throw new ProjectCommonException(
+          ResponseCode.invalidParameterValue.getErrorCode(),
+          ResponseCode.invalidParameterValue.getErrorMessage(),
+          ResponseCode.CLIENT_ERROR.getResponseCode(),
+          pagingState,
+          JsonKey.PAGING_STATE);
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      if (null != selectQuery) {
+        logQueryElapseTime("getRecordsByPage", startTime, selectQuery, context);
       }
     }
     return response;
@@ -1246,7 +1429,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
   @Override
   public Response searchValueInList(
       String keyspace, String tableName, String key, String value, RequestContext context) {
-    return searchValueInList(keyspace, tableName, key, value, context);
+    return searchValueInList(keyspace, tableName, key, value, null, context);
   }
 
   @Override
@@ -1277,7 +1460,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       }
     }
     if (null != selectQuery) {
-      logQueryElapseTime("searchValueInList", startTime, selectQuery.getQueryString(), context);
+      logQueryElapseTime("searchValueInList", startTime, selectQuery, context);
     }
     ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
     Response response = CassandraUtil.createResponse(resultSet);
@@ -1329,8 +1512,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByCompositeKey", startTime, selectQuery, context);
       }
     }
     return response;
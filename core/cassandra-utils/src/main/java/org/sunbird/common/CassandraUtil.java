@@ -1,5 +1,6 @@
 package org.sunbird.common;
 
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -90,6 +91,28 @@ public final class CassandraUtil {
     return response;
   }
 
+  /**
+   * Creates a response of the rows of the current page of the result set only, without fetching
+   * the next page. The paging state of the next page is put under JsonKey.PAGING_STATE, it is null
+   * after the last page.
+   */
+  public static Response createPageResponse(ResultSet results) {
+    Response response = new Response();
+    List<Map<String, Object>> responseList = new ArrayList<>();
+    Map<String, String> columnsMapping = fetchColumnsMapping(results);
+    int remaining = results.getAvailableWithoutFetching();
+    for (int i = 0; i < remaining; i++) {
+      Row row = results.one();
+      Map<String, Object> rowMap = new HashMap<>();
+      columnsMapping.forEach((key, column) -> rowMap.put(key, row.getObject(column)));
+      responseList.add(rowMap);
+    }
+    PagingState pagingState = results.getExecutionInfo().getPagingState();
+    response.put(Constants.RESPONSE, responseList);
+    response.put(JsonKey.PAGING_STATE, null == pagingState ? null : pagingState.toString());
+    return response;
+  }
+
   public static Map<String, String> fetchColumnsMapping(ResultSet results) {
     return results
         .getColumnDefinitions()
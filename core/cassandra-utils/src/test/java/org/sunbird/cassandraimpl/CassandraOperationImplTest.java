@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -396,4 +397,23 @@ public class CassandraOperationImplTest {
       assertNotNull(ex);
     }
   }
+
+  @Test
+  public void testGetRecordsByPageWithInvalidPagingState() {
+    CassandraConnectionManager connectionManager =
+        PowerMockito.mock(CassandraConnectionManagerImpl.class);
+    PowerMockito.mockStatic(CassandraConnectionMngrFactory.class);
+    when(CassandraConnectionMngrFactory.getInstance()).thenReturn(connectionManager);
+    when(connectionManager.getSession(Mockito.anyString()))
+        .thenReturn(PowerMockito.mock(Session.class));
+    CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+    try {
+      cassandraOperation.getRecordsByPage(
+          "sunbird", "user_feed", null, null, "not a paging state", 10, null);
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.invalidParameterValue.getErrorCode(), e.getCode());
+      assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), e.getResponseCode());
+    }
+  }
 }
@@ -2,6 +2,7 @@ package org.sunbird.common;
 
 import akka.util.Timeout;
 import com.typesafe.config.Config;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -168,7 +169,8 @@ public class ElasticSearchHelper {
   public static void addAdditionalProperties(
       BoolQueryBuilder query, Entry<String, Object> entry, Map<String, Float> constraintsMap) {
     long startTime = System.currentTimeMillis();
-    logger.debug("ElasticSearchHelper:addAdditionalProperties: method started at ==" + startTime);
+    logger.debug(
+        () -> "ElasticSearchHelper:addAdditionalProperties: method started at ==" + startTime);
     String key = entry.getKey();
     if (JsonKey.FILTERS.equalsIgnoreCase(key)) {
 
@@ -187,11 +189,11 @@ public class ElasticSearchHelper {
         query = createNestedFilterESOpperation(en, query, constraintsMap);
       }
     }
-    long elapsedTime = calculateEndTime(startTime);
     logger.debug(
-        "ElasticSearchHelper:addAdditionalProperties: method end =="
-            + " ,Total time elapsed = "
-            + elapsedTime);
+        () ->
+            "ElasticSearchHelper:addAdditionalProperties: method end =="
+                + " ,Total time elapsed = "
+                + calculateEndTime(startTime));
   }
 
   /**
@@ -613,6 +615,33 @@ public class ElasticSearchHelper {
               (Collection<? extends Map<String, Object>>) searchQueryMap.get(JsonKey.GROUP_QUERY));
     }
     search = getSoftConstraints(search, searchQueryMap);
+    search = getSearchAfter(search, searchQueryMap);
+    return search;
+  }
+
+  /**
+   * This method enables cursor based pagination if searchAfter is present in the search query. An
+   * empty searchAfter requests the first page, otherwise it carries the sort values returned with
+   * the previous page.
+   *
+   * @param search search which contains the search parameters for elastic search.
+   * @param searchQueryMap searchQueryMap which contains searchAfter
+   * @return SearchDTO updated searchDTO which contains searchAfter
+   */
+  private static SearchDTO getSearchAfter(SearchDTO search, Map<String, Object> searchQueryMap) {
+    if (searchQueryMap.get(JsonKey.SEARCH_AFTER) instanceof List) {
+      List<Object> searchAfter = new ArrayList<>();
+      for (Object value : (List<Object>) searchQueryMap.get(JsonKey.SEARCH_AFTER)) {
+        if (value instanceof BigInteger) {
+          searchAfter.add(((BigInteger) value).longValue());
+        } else if (value instanceof BigDecimal) {
+          searchAfter.add(((BigDecimal) value).doubleValue());
+        } else {
+          searchAfter.add(value);
+        }
+      }
+      search.setSearchAfter(searchAfter);
+    }
     return search;
   }
 
@@ -727,6 +756,14 @@ public class ElasticSearchHelper {
       for (SearchHit hit : hits) {
         esSource.add(hit.getSourceAsMap());
       }
+      // a full page in cursor mode may be followed by more hits, hand out the cursor for them
+      SearchHit[] pageHits = hits.getHits();
+      if (null != searchDTO.getSearchAfter()
+          && pageHits.length > 0
+          && pageHits.length == searchDTO.getLimit()) {
+        responseMap.put(
+            JsonKey.SEARCH_AFTER, Arrays.asList(pageHits[pageHits.length - 1].getSortValues()));
+      }
 
       // fetch aggregations aggregations
       finalFacetList = getFinalFacetList(response, searchDTO, finalFacetList);
@@ -35,6 +35,7 @@ import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInter
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.elasticsearch.search.sort.SortMode;
+import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.exception.ResponseCode;
@@ -55,6 +56,7 @@ import scala.concurrent.Promise;
 public class ElasticSearchRestHighImpl implements ElasticSearchService {
   private static final String ERROR = "ERROR";
   private static final LoggerUtil logger = new LoggerUtil(ElasticSearchRestHighImpl.class);
+  private static volatile String esChannel;
 
   /**
    * This method will put a new data entry inside Elastic search. identifier value becomes _id
@@ -363,7 +365,7 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     BoolQueryBuilder query = new BoolQueryBuilder();
 
     // add channel field as mandatory
-    String channel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
+    String channel = getEsChannel();
     if (!(StringUtils.isBlank(channel) || JsonKey.SUNBIRD_ES_CHANNEL.equals(channel))) {
       query.must(
           ElasticSearchHelper.createMatchQuery(
@@ -415,8 +417,17 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             ? searchDTO.getExcludedFields().stream().toArray(String[]::new)
             : null);
 
-    // setting the offset
-    if (searchDTO.getOffset() != null) {
+    if (searchDTO.getSearchAfter() != null) {
+      // cursor based pagination, the id keyword keeps the sort order total so that pages never
+      // overlap, id itself is an analyzed field
+      if (!searchDTO.getSortBy().containsKey(JsonKey.ID)) {
+        searchSourceBuilder.sort(JsonKey.ID + ElasticSearchHelper.RAW_APPEND, SortOrder.ASC);
+      }
+      if (!searchDTO.getSearchAfter().isEmpty()) {
+        searchSourceBuilder.searchAfter(searchDTO.getSearchAfter().toArray());
+      }
+    } else if (searchDTO.getOffset() != null) {
+      // setting the offset
       searchSourceBuilder.from(searchDTO.getOffset());
     }
 
@@ -439,12 +450,14 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     if (null != searchDTO.getFacets() && !searchDTO.getFacets().isEmpty()) {
       searchSourceBuilder = addAggregations(searchSourceBuilder, searchDTO.getFacets());
     }
-    logger.info(
-        context,
-        "ElasticSearchRestHighImpl:search: calling search for index "
-            + index
-            + ", with query = "
-            + searchSourceBuilder.toString());
+    if (logger.isDebugEnabled(context)) {
+      logger.debug(
+          context,
+          "ElasticSearchRestHighImpl:search: calling search for index "
+              + index
+              + ", with query = "
+              + searchSourceBuilder.toString());
+    }
 
     searchRequest.source(searchSourceBuilder);
     Promise<Map<String, Object>> promise = Futures.promise();
@@ -454,7 +467,8 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           @Override
           public void onResponse(SearchResponse response) {
             logger.debug(
-                context, "ElasticSearchRestHighImpl:search:onResponse  response1 = " + response);
+                context,
+                () -> "ElasticSearchRestHighImpl:search:onResponse  response1 = " + response);
             if (response.getHits() == null || response.getHits().getTotalHits() == 0) {
 
               Map<String, Object> responseMap = new HashMap<>();
@@ -467,9 +481,10 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
                   ElasticSearchHelper.getSearchResponseMap(response, searchDTO, finalFacetList);
               logger.debug(
                   context,
-                  "ElasticSearchRestHighImpl:search: method end "
-                      + " ,Total time elapsed = "
-                      + calculateEndTime(startTime));
+                  () ->
+                      "ElasticSearchRestHighImpl:search: method end "
+                          + " ,Total time elapsed = "
+                          + calculateEndTime(startTime));
               promise.success(responseMap);
             }
           }
@@ -493,6 +508,17 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     return promise.future();
   }
 
+  /**
+   * Returns the channel every search is restricted to. It is fixed for a deployment, so it is read
+   * once instead of looking up the environment on each search.
+   */
+  private static String getEsChannel() {
+    if (null == esChannel) {
+      esChannel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
+    }
+    return esChannel;
+  }
+
   /**
    * This method will do the health check of elastic search.
    *
@@ -59,7 +59,8 @@ public interface ElasticSearchService {
   /**
    * Method to perform the elastic search on the basis of SearchDTO . SearchDTO contains the search
    * criteria like fields, facets, sort by , filters etc. here user can pass single type to search
-   * or multiple type or null
+   * or multiple type or null. If SearchDTO carries searchAfter the search pages by cursor instead
+   * of offset and a full page returns the cursor of the next page under searchAfter.
    *
    * @param context
    * @return search result as Map.
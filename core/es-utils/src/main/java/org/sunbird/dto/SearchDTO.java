@@ -26,6 +26,8 @@ public class SearchDTO {
 
   private Integer limit = 250;
   private Integer offset = 0;
+  // sort values of the last hit of the previous page, non null for cursor based pagination
+  private List<Object> searchAfter;
   private boolean fuzzySearch = false;
   // additional properties will hold , filters, exist , not exist
   private Map<String, Object> additionalProperties = new HashMap<>();
@@ -135,6 +137,14 @@ public class SearchDTO {
     this.offset = offset;
   }
 
+  public List<Object> getSearchAfter() {
+    return searchAfter;
+  }
+
+  public void setSearchAfter(List<Object> searchAfter) {
+    this.searchAfter = searchAfter;
+  }
+
   public Map<String, Integer> getSoftConstraints() {
     return softConstraints;
   }
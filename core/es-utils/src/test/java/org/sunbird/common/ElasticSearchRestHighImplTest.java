@@ -7,6 +7,7 @@ import static org.powermock.api.mockito.PowerMockito.doNothing;
 import static org.powermock.api.mockito.PowerMockito.mock;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -27,6 +29,7 @@ import org.elasticsearch.common.util.concurrent.FutureUtils;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
@@ -42,6 +45,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ConnectionManager;
@@ -277,6 +281,29 @@ public class ElasticSearchRestHighImplTest {
     assertEquals(false, res);
   }
 
+  @Test
+  public void testSearchAfterSortsOnIdKeyword() {
+    PropertiesCache propertiesCache = mock(PropertiesCache.class);
+    when(PropertiesCache.getInstance()).thenReturn(propertiesCache);
+    List<SearchRequest> requests = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              requests.add((SearchRequest) invocation.getArguments()[0]);
+              ((ActionListener) invocation.getArguments()[1])
+                  .onFailure(new NullPointerException());
+              return null;
+            })
+        .when(client)
+        .searchAsync(Mockito.any(), Mockito.any());
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setLimit(10);
+    searchDTO.setSearchAfter(Collections.singletonList("0001"));
+    esService.search(searchDTO, "test", null);
+    assertEquals(1, requests.size());
+    FieldSortBuilder sort = (FieldSortBuilder) requests.get(0).source().sorts().get(0);
+    assertEquals(JsonKey.ID + ElasticSearchHelper.RAW_APPEND, sort.getFieldName());
+  }
+
   private void mockBaseRules() {
     client = mock(RestHighLevelClient.class);
     PowerMockito.mockStatic(ConnectionManager.class);
@@ -0,0 +1,83 @@
+package org.sunbird.notification.sms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Sends an SMS to many recipients by splitting them into batches of the provider's multi recipient
+ * payload size. Batches are sent on a shared pool of sunbird_sms_dispatch_pool_size threads, which
+ * bounds the number of concurrent gateway calls of the node.
+ */
+public final class SmsBatchDispatcher {
+
+  private static final LoggerUtil logger = new LoggerUtil(SmsBatchDispatcher.class);
+  private static final int POOL_SIZE =
+      NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_sms_dispatch_pool_size"), 8);
+  private static final AtomicInteger threadCount = new AtomicInteger();
+  private static final ExecutorService executor =
+      Executors.newFixedThreadPool(
+          POOL_SIZE,
+          runnable -> {
+            Thread thread = new Thread(runnable, "sms-dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private SmsBatchDispatcher() {}
+
+  /**
+   * Sends the recipients in batches and waits for all batches to complete.
+   *
+   * @param recipients Recipients of the SMS
+   * @param batchSize Maximum recipients of one gateway call
+   * @param batchSender Sends one batch, returns whether the gateway accepted it
+   * @param context Request context
+   * @return true if every batch was accepted, false if there are no recipients
+   */
+  public static boolean dispatch(
+      List<String> recipients,
+      int batchSize,
+      Predicate<List<String>> batchSender,
+      RequestContext context) {
+    List<List<String>> batches = partition(recipients, batchSize);
+    if (batches.isEmpty()) {
+      return false;
+    }
+    if (batches.size() == 1) {
+      return batchSender.test(batches.get(0));
+    }
+    List<CompletableFuture<Boolean>> results = new ArrayList<>(batches.size());
+    for (List<String> batch : batches) {
+      results.add(
+          CompletableFuture.supplyAsync(() -> batchSender.test(batch), executor)
+              .exceptionally(
+                  e -> {
+                    logger.error(context, "SmsBatchDispatcher: sending sms batch failed", e);
+                    return false;
+                  }));
+    }
+    boolean success = true;
+    for (CompletableFuture<Boolean> result : results) {
+      success &= result.join();
+    }
+    return success;
+  }
+
+  static <T> List<List<T>> partition(List<T> items, int batchSize) {
+    int size = Math.max(1, batchSize);
+    List<List<T>> batches = new ArrayList<>();
+    for (int from = 0; from < items.size(); from += size) {
+      batches.add(new ArrayList<>(items.subList(from, Math.min(items.size(), from + size))));
+    }
+    return batches;
+  }
+}
@@ -0,0 +1,191 @@
+package org.sunbird.notification.sms;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Keep-alive HTTP transport of an SMS provider. Every provider gets its own connection pool, so a
+ * slow gateway can only exhaust its own connections, and its own connect and socket timeouts.
+ * Latency and failures of the calls are recorded per provider.
+ *
+ * <p>Limits are read from sunbird_sms_http_max_connections, sunbird_sms_http_connect_timeout_ms
+ * and sunbird_sms_http_socket_timeout_ms, each of which can be overridden for a provider by
+ * suffixing the key with the lower case provider name, e.g. sunbird_sms_http_max_connections_nic.
+ */
+public class SmsHttpTransport {
+
+  private static final LoggerUtil logger = new LoggerUtil(SmsHttpTransport.class);
+  private static final Map<String, SmsHttpTransport> transports = new ConcurrentHashMap<>();
+
+  private final String provider;
+  private final CloseableHttpClient httpClient;
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final LongAdder totalLatencyMillis = new LongAdder();
+  private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+  public SmsHttpTransport(String provider, CloseableHttpClient httpClient) {
+    this.provider = provider;
+    this.httpClient = httpClient;
+  }
+
+  public static SmsHttpTransport getInstance(String provider) {
+    return transports.computeIfAbsent(
+        provider, key -> new SmsHttpTransport(key, createHttpClient(key)));
+  }
+
+  /**
+   * Returns request count, failure count, total and max latency in milliseconds of every provider
+   * which has sent SMS through this node.
+   */
+  public static Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new HashMap<>();
+    transports.forEach((provider, transport) -> metrics.put(provider, transport.getStats()));
+    return metrics;
+  }
+
+  /**
+   * Executes the request and returns the status line of the response. The response body is
+   * consumed so that the connection goes back to the pool.
+   *
+   * @param request Gateway request
+   * @param context Request context
+   * @return Status line of the gateway response
+   * @throws IOException if the gateway can not be reached
+   */
+  public StatusLine execute(HttpUriRequest request, RequestContext context) throws IOException {
+    return execute(
+        request,
+        context,
+        response -> {
+          EntityUtils.consume(response.getEntity());
+          return response.getStatusLine();
+        });
+  }
+
+  /**
+   * Executes the request and returns the body of a successful response.
+   *
+   * @param request Gateway request
+   * @param context Request context
+   * @return Response body, empty if the gateway did not answer with a 2xx status
+   * @throws IOException if the gateway can not be reached
+   */
+  public String executeForBody(HttpUriRequest request, RequestContext context)
+      throws IOException {
+    return execute(
+        request,
+        context,
+        response -> {
+          HttpEntity entity = response.getEntity();
+          if (isSuccess(response.getStatusLine()) && null != entity) {
+            return EntityUtils.toString(entity);
+          }
+          EntityUtils.consume(entity);
+          return "";
+        });
+  }
+
+  private <T> T execute(
+      HttpUriRequest request, RequestContext context, ResponseReader<T> responseReader)
+      throws IOException {
+    long startTime = System.currentTimeMillis();
+    boolean success = false;
+    CloseableHttpResponse response = null;
+    try {
+      response = httpClient.execute(request);
+      success = isSuccess(response.getStatusLine());
+      return responseReader.read(response);
+    } finally {
+      if (null != response) {
+        response.close();
+      }
+      record(System.currentTimeMillis() - startTime, success);
+      logger.debug(
+          context,
+          "SmsHttpTransport:execute: provider = "
+              + provider
+              + ", success = "
+              + success
+              + ", time taken = "
+              + (System.currentTimeMillis() - startTime));
+    }
+  }
+
+  private static boolean isSuccess(StatusLine statusLine) {
+    return null != statusLine
+        && statusLine.getStatusCode() >= 200
+        && statusLine.getStatusCode() < 300;
+  }
+
+  private void record(long latencyMillis, boolean success) {
+    requestCount.increment();
+    totalLatencyMillis.add(latencyMillis);
+    maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    if (!success) {
+      failureCount.increment();
+    }
+  }
+
+  private Map<String, Long> getStats() {
+    Map<String, Long> stats = new HashMap<>();
+    stats.put("requests", requestCount.sum());
+    stats.put("failures", failureCount.sum());
+    stats.put("totalLatencyMillis", totalLatencyMillis.sum());
+    stats.put("maxLatencyMillis", maxLatencyMillis.get());
+    return stats;
+  }
+
+  private static CloseableHttpClient createHttpClient(String provider) {
+    int maxConnections = getConfig("sunbird_sms_http_max_connections", provider, 20);
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnections);
+    connectionManager.setValidateAfterInactivity(
+        getConfig("sunbird_sms_http_validate_after_inactivity_ms", provider, 2000));
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectTimeout(getConfig("sunbird_sms_http_connect_timeout_ms", provider, 5000))
+            .setConnectionRequestTimeout(
+                getConfig("sunbird_sms_http_connect_timeout_ms", provider, 5000))
+            .setSocketTimeout(getConfig("sunbird_sms_http_socket_timeout_ms", provider, 10000))
+            .build();
+    return HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .evictIdleConnections(60, TimeUnit.SECONDS)
+        .useSystemProperties()
+        .build();
+  }
+
+  private static int getConfig(String key, String provider, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key + "_" + StringUtils.lowerCase(provider));
+    if (StringUtils.isBlank(value)) {
+      value = ProjectUtil.getConfigValue(key);
+    }
+    return NumberUtils.toInt(value, defaultValue);
+  }
+
+  private interface ResponseReader<T> {
+    T read(CloseableHttpResponse response) throws IOException;
+  }
+}
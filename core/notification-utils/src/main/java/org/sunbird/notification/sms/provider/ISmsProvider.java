@@ -1,9 +1,8 @@
 package org.sunbird.notification.sms.provider;
 
 import java.util.List;
-import java.util.Map;
 import org.sunbird.keys.JsonKey;
-import org.sunbird.notification.utils.SmsTemplateUtil;
+import org.sunbird.notification.utils.SmsTemplateMatcher;
 import org.sunbird.request.RequestContext;
 
 public interface ISmsProvider {
@@ -12,15 +11,7 @@ public interface ISmsProvider {
   String NIC_PROVIDER = JsonKey.NIC;
 
   default String getTemplateId(String sms, String provider) {
-    Map<String, Map<String, String>> smsTemplateConfig = SmsTemplateUtil.getSmsTemplateConfigMap();
-    Map<String, String> providerTemplateConfig = smsTemplateConfig.get(provider);
-    for (Map.Entry<String, String> entry : providerTemplateConfig.entrySet()) {
-      String pattern = entry.getKey().replaceAll("\\$[^ .]+", ".*?");
-      if (sms.matches(pattern)) {
-        return entry.getValue();
-      }
-    }
-    return "";
+    return SmsTemplateMatcher.getInstance(provider).getTemplateId(sms);
   }
 
   /**
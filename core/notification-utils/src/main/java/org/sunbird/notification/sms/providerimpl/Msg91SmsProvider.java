@@ -7,20 +7,21 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.notification.sms.Sms;
+import org.sunbird.notification.sms.SmsBatchDispatcher;
+import org.sunbird.notification.sms.SmsHttpTransport;
 import org.sunbird.notification.sms.provider.ISmsProvider;
 import org.sunbird.notification.utils.JsonUtil;
 import org.sunbird.notification.utils.PropertiesCache;
 import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
 
 public class Msg91SmsProvider implements ISmsProvider {
   private static final LoggerUtil logger = new LoggerUtil(Msg91SmsProvider.class);
@@ -33,12 +34,24 @@ public class Msg91SmsProvider implements ISmsProvider {
   private static String smsMethodType = null;
   private static String authKey = null;
   private static String country = null;
+  private static final int BATCH_SIZE =
+      NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_msg_91_sms_batch_size"), 100);
 
   static {
     boolean response = init();
     logger.info("SMS configuration values are set ==" + response);
   }
 
+  private final SmsHttpTransport transport;
+
+  public Msg91SmsProvider() {
+    this(SmsHttpTransport.getInstance(MSG_91_PROVIDER));
+  }
+
+  Msg91SmsProvider(SmsHttpTransport transport) {
+    this.transport = transport;
+  }
+
   /** this method will do the SMS properties initialization. */
   public static boolean init() {
     baseUrl = PropertiesCache.getInstance().getProperty("sunbird.msg.91.baseurl");
@@ -109,86 +122,106 @@ public class Msg91SmsProvider implements ISmsProvider {
             + smsRoute
             + "\n");
 
-    CloseableHttpClient httpClient = null;
+    if (!validateSettings(mobileNumber, smsText)) {
+      logger.debug(context, "Msg91SmsProvider - Some mandatory parameters are empty!");
+      return false;
+    }
+    String tempMobileNumber = removePlusFromMobileNumber(mobileNumber);
+    logger.debug(
+        context, "Msg91SmsProvider - after removePlusFromMobileNumber " + tempMobileNumber);
+    String templateId = getDltTemplateId(smsText, context);
+    if (null == templateId) {
+      return false;
+    }
+    List<String> mobileNumbers = new ArrayList<>();
+    mobileNumbers.add(tempMobileNumber);
+    return postSms(mobileNumbers, smsText, templateId, context);
+  }
+
+  /**
+   * This method will find the dlt template id of the SMS.
+   *
+   * @param smsText String
+   * @return String template id, empty if no template matches and null if the templates could not
+   *     be read
+   */
+  private String getDltTemplateId(String smsText, RequestContext context) {
     try {
-      httpClient = HttpClients.createDefault();
+      String templateId = getTemplateId(smsText, MSG_91_PROVIDER);
+      if (StringUtils.isBlank(templateId)) {
+        logger.info(context, "dlt template id is empty for sms : " + smsText);
+      }
+      return templateId;
+    } catch (Exception e) {
+      logger.error(context, "Msg91SmsProvider : error in reading sms template config", e);
+      return null;
+    }
+  }
 
-      String path = null;
+  /**
+   * This method will send one SMS to the given mobile numbers in a single gateway call.
+   *
+   * @param mobileNumbers List<String> mobile numbers without +
+   * @param smsText String
+   * @param templateId String dlt template id of the SMS
+   * @return boolean
+   */
+  private boolean postSms(
+      List<String> mobileNumbers, String smsText, String templateId, RequestContext context) {
+    try {
+      String path = baseUrl + postUrl;
+      logger.debug(context, "Msg91SmsProvider -Executing request - " + path);
 
-      if (validateSettings(mobileNumber, smsText)) {
-        String tempMobileNumber = removePlusFromMobileNumber(mobileNumber);
+      HttpPost httpPost = new HttpPost(path);
 
-        logger.debug(
-            context, "Msg91SmsProvider - after removePlusFromMobileNumber " + tempMobileNumber);
-        // add dlt template id header
-        String templateId = getTemplateId(smsText, MSG_91_PROVIDER);
-        if (StringUtils.isBlank(templateId)) {
-          logger.info(context, "dlt template id is empty for sms : " + smsText);
-        }
-        path = baseUrl + postUrl;
-        logger.debug(context, "Msg91SmsProvider -Executing request - " + path);
+      // add content-type headers
+      httpPost.setHeader("content-type", "application/json");
+
+      // add authkey header
+      httpPost.setHeader("authkey", authKey);
 
-        HttpPost httpPost = new HttpPost(path);
-
-        // add content-type headers
-        httpPost.setHeader("content-type", "application/json");
-
-        // add authkey header
-        httpPost.setHeader("authkey", authKey);
-        logger.debug(context, "Msg91SmsProvider -request header- " + httpPost.getAllHeaders());
-
-        List<String> mobileNumbers = new ArrayList<>();
-        mobileNumbers.add(tempMobileNumber);
-
-        // create sms
-        Sms sms = new Sms(getDoubleEncodedSMS(smsText), mobileNumbers);
-
-        List<Sms> smsList = new ArrayList<>();
-        smsList.add(sms);
-
-        // create body
-        ProviderDetails providerDetails =
-            new ProviderDetails(sender, smsRoute, country, 1, smsList, templateId);
-        String providerDetailsString = JsonUtil.toJson(providerDetails, context);
-        providerDetailsString = providerDetailsString.replaceAll("dlt_TE_ID", "DLT_TE_ID");
-
-        if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
-          logger.debug(context, "Msg91SmsProvider - Body - " + providerDetailsString);
-
-          HttpEntity entity =
-              new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
-          httpPost.setEntity(entity);
-
-          CloseableHttpResponse response = httpClient.execute(httpPost);
-          StatusLine sl = response.getStatusLine();
-          response.close();
-          if (sl.getStatusCode() != 200) {
-            logger.info(
-                context,
-                "SMS code for "
-                    + tempMobileNumber
-                    + " could not be sent: "
-                    + sl.getStatusCode()
-                    + " - "
-                    + sl.getReasonPhrase());
-          }
-          logger.info(context, "Status code for Msg91SmsProvider : " + sl.getStatusCode());
-          return sl.getStatusCode() == 200;
-        } else {
-          return false;
+      // create sms
+      Sms sms = new Sms(getDoubleEncodedSMS(smsText), mobileNumbers);
+
+      List<Sms> smsList = new ArrayList<>();
+      smsList.add(sms);
+
+      // create body
+      ProviderDetails providerDetails =
+          new ProviderDetails(sender, smsRoute, country, 1, smsList, templateId);
+      String providerDetailsString = JsonUtil.toJson(providerDetails, context);
+      providerDetailsString = providerDetailsString.replaceAll("dlt_TE_ID", "DLT_TE_ID");
+
+      if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
+        logger.debug(context, "Msg91SmsProvider - Body - " + providerDetailsString);
+
+        HttpEntity entity =
+            new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
+        httpPost.setEntity(entity);
+
+        StatusLine sl = transport.execute(httpPost, context);
+        if (sl.getStatusCode() != 200) {
+          logger.info(
+              context,
+              "SMS code for "
+                  + mobileNumbers
+                  + " could not be sent: "
+                  + sl.getStatusCode()
+                  + " - "
+                  + sl.getReasonPhrase());
         }
+        logger.info(context, "Status code for Msg91SmsProvider : " + sl.getStatusCode());
+        return sl.getStatusCode() == 200;
       } else {
-        logger.debug(context, "Msg91SmsProvider - Some mandatory parameters are empty!");
         return false;
       }
     } catch (IOException e) {
       logger.error(context, "Error occurred :", e);
       return false;
     } catch (Exception e) {
-      logger.info(context, "Msg91SmsProvider - Error in converting providerDetails to string!");
+      logger.error(
+          context, "Msg91SmsProvider : send : error in converting providerDetails to String", e);
       return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
   }
 
@@ -200,9 +233,7 @@ public class Msg91SmsProvider implements ISmsProvider {
    * @return boolean
    */
   public boolean sendSmsGetMethod(String mobileNumber, String smsText, RequestContext context) {
-    CloseableHttpClient httpClient = null;
     try {
-      httpClient = HttpClients.createDefault();
       String path = null;
       if (validateSettings(mobileNumber, smsText)) {
 
@@ -224,9 +255,7 @@ public class Msg91SmsProvider implements ISmsProvider {
 
         HttpGet httpGet = new HttpGet(path);
 
-        CloseableHttpResponse response = httpClient.execute(httpGet);
-        StatusLine sl = response.getStatusLine();
-        response.close();
+        StatusLine sl = transport.execute(httpGet, context);
         if (sl.getStatusCode() != 200) {
           logger.info(
               "SMS code for "
@@ -246,8 +275,6 @@ public class Msg91SmsProvider implements ISmsProvider {
     } catch (IOException e) {
       logger.error(context, "Error occurred : ", e);
       return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
   }
 
@@ -291,21 +318,6 @@ public class Msg91SmsProvider implements ISmsProvider {
     return builder.toString();
   }
 
-  /**
-   * This method will close the http resource.
-   *
-   * @param httpClient
-   */
-  private void closeHttpResource(CloseableHttpClient httpClient) {
-    if (httpClient != null) {
-      try {
-        httpClient.close();
-      } catch (IOException e) {
-        logger.error("Error occurred while closing http connection", e);
-      }
-    }
-  }
-
   /**
    * @param phone
    * @param smsText
@@ -370,73 +382,15 @@ public class Msg91SmsProvider implements ISmsProvider {
       logger.debug(context, "can't sent msg with empty phone list.");
       return false;
     }
-    CloseableHttpClient httpClient = null;
-    try {
-      httpClient = HttpClients.createDefault();
-
-      String path = null;
-      // add dlt template id header
-      String templateId = getTemplateId(smsText, MSG_91_PROVIDER);
-      if (StringUtils.isBlank(templateId)) {
-        logger.info(context, "dlt template id is empty for sms : " + smsText);
-      }
-      path = baseUrl + postUrl;
-      logger.debug(context, "Msg91SmsProvider -Executing request - " + path);
-      HttpPost httpPost = new HttpPost(path);
-
-      // add content-type headers
-      httpPost.setHeader("content-type", "application/json");
-
-      // add authkey header
-      httpPost.setHeader("authkey", authKey);
-
-      // create sms
-      Sms sms = new Sms(getDoubleEncodedSMS(smsText), phoneNumberList);
-
-      List<Sms> smsList = new ArrayList<>();
-      smsList.add(sms);
-
-      // create body
-      ProviderDetails providerDetails =
-          new ProviderDetails(sender, smsRoute, country, 1, smsList, templateId);
-      String providerDetailsString = JsonUtil.toJson(providerDetails, context);
-      providerDetailsString = providerDetailsString.replaceAll("dlt_TE_ID", "DLT_TE_ID");
-
-      if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
-        logger.debug(context, "Msg91SmsProvider - Body - " + providerDetailsString);
-
-        HttpEntity entity =
-            new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
-        httpPost.setEntity(entity);
-        CloseableHttpResponse response = httpClient.execute(httpPost);
-        StatusLine sl = response.getStatusLine();
-        response.close();
-        if (sl.getStatusCode() != 200) {
-          logger.info(
-              context,
-              "SMS code for "
-                  + phoneNumberList
-                  + " could not be sent: "
-                  + sl.getStatusCode()
-                  + " - "
-                  + sl.getReasonPhrase());
-        }
-        logger.info(context, "Status code for Msg91SmsProvider : " + sl.getStatusCode());
-        return sl.getStatusCode() == 200;
-      } else {
-        return false;
-      }
-
-    } catch (IOException e) {
-      logger.error(context, "error in converting providerDetails to String", e);
-      return false;
-    } catch (Exception e) {
-      logger.error(
-          context, "Msg91SmsProvider : send : error in converting providerDetails to String", e);
+    String templateId = getDltTemplateId(smsText, context);
+    if (null == templateId) {
       return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
+    return SmsBatchDispatcher.dispatch(
+        phoneNumberList,
+        BATCH_SIZE,
+        batch -> postSms(batch, smsText, templateId, context),
+        context);
   }
 
   /**
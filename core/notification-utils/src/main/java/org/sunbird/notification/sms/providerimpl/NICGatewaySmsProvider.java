@@ -1,13 +1,13 @@
 package org.sunbird.notification.sms.providerimpl;
 
 import java.net.URLEncoder;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Consts;
-import org.sunbird.http.HttpClientUtil;
+import org.apache.http.client.methods.HttpGet;
 import org.sunbird.logging.LoggerUtil;
+import org.sunbird.notification.sms.SmsBatchDispatcher;
+import org.sunbird.notification.sms.SmsHttpTransport;
 import org.sunbird.notification.sms.provider.ISmsProvider;
 import org.sunbird.notification.utils.JsonUtil;
 import org.sunbird.notification.utils.PropertiesCache;
@@ -27,6 +27,16 @@ public class NICGatewaySmsProvider implements ISmsProvider {
     logger.info("SMS configuration values are set : " + response);
   }
 
+  private final SmsHttpTransport transport;
+
+  public NICGatewaySmsProvider() {
+    this(SmsHttpTransport.getInstance(NIC_PROVIDER));
+  }
+
+  NICGatewaySmsProvider(SmsHttpTransport transport) {
+    this.transport = transport;
+  }
+
   @Override
   public boolean send(String phoneNumber, String smsText, RequestContext context) {
     return sendSms(phoneNumber, smsText, context);
@@ -40,12 +50,9 @@ public class NICGatewaySmsProvider implements ISmsProvider {
 
   @Override
   public boolean send(List<String> phoneNumbers, String smsText, RequestContext context) {
-    phoneNumbers
-        .stream()
-        .forEach(
-            phone -> {
-              sendSms(phone, smsText, context);
-            });
+    // the gateway takes one recipient per call, failures are logged by sendSms
+    SmsBatchDispatcher.dispatch(
+        phoneNumbers, 1, batch -> sendSms(batch.get(0), smsText, context), context);
     return true;
   }
 
@@ -73,10 +80,10 @@ public class NICGatewaySmsProvider implements ISmsProvider {
       URI.append("&dlt_entity_id=" + dltEntityId);
       URI.append("&dlt_template_id=" + dltTemplateId);
 
-      Map<String, String> headers = new HashMap<>();
-      headers.put("Content-Type", "application/json");
-      headers.put("Accept", "application/json");
-      String response = HttpClientUtil.get(URI.toString(), headers, context);
+      HttpGet httpGet = new HttpGet(URI.toString());
+      httpGet.addHeader("Content-Type", "application/json");
+      httpGet.addHeader("Accept", "application/json");
+      String response = transport.executeForBody(httpGet, context);
       if (StringUtils.isNotBlank(response)) {
         logger.info(context, "NICGatewaySmsProvider:Result:" + response);
         return true;
@@ -0,0 +1,147 @@
+package org.sunbird.notification.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Matches SMS text against the DLT templates of one provider. Templates are configured as message
+ * text with $placeholders, each is compiled once into a pattern where a placeholder matches any
+ * text. Before running a pattern the literal text ahead of its first placeholder is compared, which
+ * rules out most templates without touching the regex engine.
+ */
+public class SmsTemplateMatcher {
+
+  private static final String PLACEHOLDER_REGEX = "\\$[^ .]+";
+  private static final String REGEX_META_CHARS = "\\.[]{}()*+?^$|";
+  private static final String REGEX_QUANTIFIERS = "*+?{";
+  private static final LoggerUtil logger = new LoggerUtil(SmsTemplateMatcher.class);
+  private static final long REFRESH_INTERVAL_MILLIS =
+      TimeUnit.SECONDS.toMillis(
+          NumberUtils.toLong(
+              ProjectUtil.getConfigValue("sunbird_sms_template_config_refresh_seconds"), 60));
+
+  private static volatile Map<String, SmsTemplateMatcher> providerMatchers;
+  private static volatile long providerMatchersLoadedAt;
+
+  private final List<Template> templates;
+
+  /**
+   * @param templateConfig Template text to template id, in the order templates are to be tried
+   */
+  public SmsTemplateMatcher(Map<String, String> templateConfig) {
+    List<Template> compiled = new ArrayList<>();
+    if (null != templateConfig) {
+      for (Map.Entry<String, String> entry : templateConfig.entrySet()) {
+        try {
+          compiled.add(new Template(entry.getKey(), entry.getValue()));
+        } catch (PatternSyntaxException e) {
+          logger.error("SmsTemplateMatcher: invalid sms template " + entry.getKey(), e);
+        }
+      }
+    }
+    this.templates = Collections.unmodifiableList(compiled);
+  }
+
+  /**
+   * Returns the template matcher of the given provider. Matchers are built from the sms template
+   * config and reused until the refresh interval elapses or {@link #refresh()} is called.
+   *
+   * @param provider SMS provider name
+   * @return Template matcher, without templates if the provider has none configured
+   */
+  public static SmsTemplateMatcher getInstance(String provider) {
+    Map<String, SmsTemplateMatcher> matchers = providerMatchers;
+    if (null == matchers || isExpired()) {
+      matchers = loadProviderMatchers();
+    }
+    SmsTemplateMatcher matcher = matchers.get(provider);
+    return null != matcher ? matcher : new SmsTemplateMatcher(Collections.emptyMap());
+  }
+
+  /** Drops the built matchers so that the next SMS reads the sms template config again. */
+  public static void refresh() {
+    providerMatchers = null;
+  }
+
+  private static boolean isExpired() {
+    return System.currentTimeMillis() - providerMatchersLoadedAt > REFRESH_INTERVAL_MILLIS;
+  }
+
+  private static synchronized Map<String, SmsTemplateMatcher> loadProviderMatchers() {
+    Map<String, SmsTemplateMatcher> matchers = providerMatchers;
+    if (null != matchers && !isExpired()) {
+      return matchers;
+    }
+    matchers = new HashMap<>();
+    Map<String, Map<String, String>> templateConfig = SmsTemplateUtil.getSmsTemplateConfigMap();
+    if (null != templateConfig) {
+      for (Map.Entry<String, Map<String, String>> entry : templateConfig.entrySet()) {
+        matchers.put(entry.getKey(), new SmsTemplateMatcher(entry.getValue()));
+      }
+    }
+    providerMatchersLoadedAt = System.currentTimeMillis();
+    providerMatchers = matchers;
+    return matchers;
+  }
+
+  /**
+   * Returns the id of the first template the SMS text matches.
+   *
+   * @param sms SMS text
+   * @return Template id, empty if no template matches
+   */
+  public String getTemplateId(String sms) {
+    if (null == sms) {
+      return "";
+    }
+    for (Template template : templates) {
+      if (sms.startsWith(template.prefix) && template.pattern.matcher(sms).matches()) {
+        return template.templateId;
+      }
+    }
+    return "";
+  }
+
+  public int size() {
+    return templates.size();
+  }
+
+  // leading part of the template which every matching text has to start with
+  private static String getLiteralPrefix(String template) {
+    if (template.indexOf('|') >= 0) {
+      return "";
+    }
+    for (int i = 0; i < template.length(); i++) {
+      char c = template.charAt(i);
+      if (REGEX_QUANTIFIERS.indexOf(c) >= 0) {
+        // the quantifier applies to the character before it
+        return template.substring(0, Math.max(0, i - 1));
+      }
+      if (REGEX_META_CHARS.indexOf(c) >= 0) {
+        return template.substring(0, i);
+      }
+    }
+    return template;
+  }
+
+  private static final class Template {
+    private final String prefix;
+    private final Pattern pattern;
+    private final String templateId;
+
+    private Template(String template, String templateId) {
+      this.prefix = getLiteralPrefix(template);
+      this.pattern = Pattern.compile(template.replaceAll(PLACEHOLDER_REGEX, ".*?"));
+      this.templateId = templateId;
+    }
+  }
+}
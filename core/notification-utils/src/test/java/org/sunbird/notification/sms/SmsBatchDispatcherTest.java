@@ -0,0 +1,59 @@
+package org.sunbird.notification.sms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.request.RequestContext;
+
+public class SmsBatchDispatcherTest {
+
+  @Test
+  public void testPartition() {
+    List<List<String>> batches =
+        SmsBatchDispatcher.partition(Arrays.asList("1", "2", "3", "4", "5"), 2);
+    Assert.assertEquals(3, batches.size());
+    Assert.assertEquals(Arrays.asList("5"), batches.get(2));
+  }
+
+  @Test
+  public void testDispatchSendsEveryRecipientOnce() {
+    List<String> recipients = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      recipients.add("98765432" + i);
+    }
+    List<String> sent = new CopyOnWriteArrayList<>();
+    boolean result =
+        SmsBatchDispatcher.dispatch(
+            recipients, 10, batch -> sent.addAll(batch), new RequestContext());
+    Assert.assertTrue(result);
+    Assert.assertEquals(recipients.size(), sent.size());
+    Assert.assertTrue(sent.containsAll(recipients));
+  }
+
+  @Test
+  public void testDispatchFailsIfAnyBatchFails() {
+    boolean result =
+        SmsBatchDispatcher.dispatch(
+            Arrays.asList("1", "2", "3"),
+            1,
+            batch -> {
+              if ("2".equals(batch.get(0))) {
+                throw new RuntimeException("gateway unavailable");
+              }
+              return true;
+            },
+            new RequestContext());
+    Assert.assertFalse(result);
+  }
+
+  @Test
+  public void testDispatchWithoutRecipients() {
+    Assert.assertFalse(
+        SmsBatchDispatcher.dispatch(
+            Collections.emptyList(), 10, batch -> true, new RequestContext()));
+  }
+}
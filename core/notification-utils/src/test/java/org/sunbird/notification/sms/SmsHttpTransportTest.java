@@ -0,0 +1,66 @@
+package org.sunbird.notification.sms;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.request.RequestContext;
+
+public class SmsHttpTransportTest {
+
+  private static final String PROVIDER = "transportTest";
+
+  private HttpServer server;
+  private String baseUrl;
+
+  @Before
+  public void startGatewayStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/send",
+        exchange -> {
+          byte[] body = "accepted".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+    server.createContext(
+        "/fail",
+        exchange -> {
+          exchange.sendResponseHeaders(500, -1);
+          exchange.close();
+        });
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @After
+  public void stopGatewayStub() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testExecuteAgainstGatewayStub() throws IOException {
+    SmsHttpTransport transport = SmsHttpTransport.getInstance(PROVIDER);
+    RequestContext context = new RequestContext();
+    Assert.assertEquals(
+        "accepted", transport.executeForBody(new HttpGet(baseUrl + "/send"), context));
+    Assert.assertEquals(
+        "accepted", transport.executeForBody(new HttpGet(baseUrl + "/send"), context));
+    Assert.assertEquals(
+        500, transport.execute(new HttpGet(baseUrl + "/fail"), context).getStatusCode());
+    Assert.assertEquals("", transport.executeForBody(new HttpGet(baseUrl + "/fail"), context));
+
+    Map<String, Long> stats = SmsHttpTransport.getMetrics().get(PROVIDER);
+    Assert.assertEquals(4L, (long) stats.get("requests"));
+    Assert.assertEquals(2L, (long) stats.get("failures"));
+  }
+}
@@ -1,14 +1,19 @@
 package org.sunbird.notification.sms.providerimpl;
 
+import org.apache.http.impl.client.HttpClients;
 import org.junit.Assert;
 import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.notification.sms.SmsHttpTransport;
 import org.sunbird.request.RequestContext;
 
 public class Message91GetSMSTest extends BaseMessageTest {
 
   @Test
   public void testSendSmsGetMethodSuccess() {
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj =
+        new Msg91SmsProvider(
+            new SmsHttpTransport(JsonKey.MSG_91, HttpClients.createDefault()));
     boolean response = megObj.sendSmsGetMethod("4321111111", "say hai!", new RequestContext());
     Assert.assertTrue(response);
   }
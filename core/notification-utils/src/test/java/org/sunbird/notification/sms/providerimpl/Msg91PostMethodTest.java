@@ -22,9 +22,9 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.notification.sms.SmsHttpTransport;
 import org.sunbird.notification.sms.provider.ISmsProvider;
 import org.sunbird.notification.utils.PropertiesCache;
-import org.sunbird.notification.utils.SMSFactory;
 import org.sunbird.notification.utils.SmsTemplateUtil;
 import org.sunbird.request.RequestContext;
 
@@ -82,6 +82,12 @@ public class Msg91PostMethodTest {
     }
   }
 
+  private ISmsProvider getProvider() {
+    // SMSFactory keeps one provider, each test gives a new one the client mocked for the test
+    return new Msg91SmsProvider(
+        new SmsHttpTransport(JsonKey.MSG_91, HttpClients.createDefault()));
+  }
+
   @Test
   public void testSendSms() {
     initMockRulesFor200();
@@ -99,7 +105,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to reset your password on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", sms, new RequestContext());
@@ -123,7 +129,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", sms, new RequestContext());
@@ -147,7 +153,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     List<String> phoneList = new ArrayList<>();
@@ -174,7 +180,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     List<String> phoneList = new ArrayList<>();
@@ -201,7 +207,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", "+91", sms, new RequestContext());
@@ -225,7 +231,7 @@ public class Msg91PostMethodTest {
         "3");
     template.put(JsonKey.MSG_91, template1);
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template);
-    ISmsProvider megObj = SMSFactory.getInstance();
+    ISmsProvider megObj = getProvider();
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", "+91", sms, new RequestContext());
@@ -0,0 +1,63 @@
+package org.sunbird.notification.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SmsTemplateMatcherTest {
+
+  private static final String OTP_TEMPLATE =
+      "OTP to verify your phone number on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.";
+  private static final String RESET_TEMPLATE =
+      "OTP to reset your password on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.";
+  private static final String WELCOME_TEMPLATE =
+      "Welcome to $instanceName. Your user account has now been created. Click on the link below to  set a password  and start using your account: $link";
+
+  private SmsTemplateMatcher getMatcher() {
+    Map<String, String> templateConfig = new LinkedHashMap<>();
+    templateConfig.put(OTP_TEMPLATE, "1");
+    templateConfig.put(RESET_TEMPLATE, "2");
+    templateConfig.put(WELCOME_TEMPLATE, "4");
+    return new SmsTemplateMatcher(templateConfig);
+  }
+
+  @Test
+  public void testGetTemplateIdMatchesPlaceholders() {
+    SmsTemplateMatcher matcher = getMatcher();
+    Assert.assertEquals(
+        "2",
+        matcher.getTemplateId(
+            "OTP to reset your password on Sunbird is 123456. This is valid for 30 minutes only."));
+    Assert.assertEquals(
+        "4",
+        matcher.getTemplateId(
+            "Welcome to Sunbird. Your user account has now been created. Click on the link below to  set a password  and start using your account: https://sunbird.org/reset"));
+  }
+
+  @Test
+  public void testGetTemplateIdWithoutMatch() {
+    SmsTemplateMatcher matcher = getMatcher();
+    Assert.assertEquals("", matcher.getTemplateId("Your OTP is 123456"));
+    Assert.assertEquals("", matcher.getTemplateId(null));
+  }
+
+  @Test
+  public void testGetTemplateIdSkipsInvalidTemplate() {
+    Map<String, String> templateConfig = new LinkedHashMap<>();
+    templateConfig.put("Invalid (template $name", "1");
+    templateConfig.put("Hello $name", "2");
+    SmsTemplateMatcher matcher = new SmsTemplateMatcher(templateConfig);
+    Assert.assertEquals(1, matcher.size());
+    Assert.assertEquals("2", matcher.getTemplateId("Hello Sunbird"));
+  }
+
+  @Test
+  public void testGetTemplateIdWithQuantifierInTemplate() {
+    Map<String, String> templateConfig = new LinkedHashMap<>();
+    templateConfig.put("Colou?r $name", "1");
+    SmsTemplateMatcher matcher = new SmsTemplateMatcher(templateConfig);
+    Assert.assertEquals("1", matcher.getTemplateId("Color red"));
+    Assert.assertEquals("1", matcher.getTemplateId("Colour red"));
+  }
+}
@@ -24,14 +24,13 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
 
   private String sunbirdEncryption = "";
 
-  private static Cipher c;
+  // Cipher instances are not thread safe, each thread decrypts with its own instance
+  private static final ThreadLocal<Cipher> cipher =
+      ThreadLocal.withInitial(DefaultDecryptionServiceImpl::createCipher);
 
   static {
     try {
       sunbird_encryption = DefaultEncryptionServiceImpl.getSalt();
-      Key key = generateKey();
-      c = Cipher.getInstance(ALGORITHM);
-      c.init(Cipher.DECRYPT_MODE, key);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -100,6 +99,7 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
     try {
       String dValue = null;
       String valueToDecrypt = value.trim();
+      Cipher c = cipher.get();
       for (int i = 0; i < ITERATIONS; i++) {
         byte[] decordedValue = new BASE64Decoder().decodeBuffer(valueToDecrypt);
         byte[] decValue = c.doFinal(decordedValue);
@@ -120,6 +120,17 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
     return value;
   }
 
+  private static Cipher createCipher() {
+    try {
+      Cipher c = Cipher.getInstance(ALGORITHM);
+      c.init(Cipher.DECRYPT_MODE, generateKey());
+      return c;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+    }
+    return null;
+  }
+
   private static Key generateKey() {
     return new SecretKeySpec(keyValue, ALGORITHM);
   }
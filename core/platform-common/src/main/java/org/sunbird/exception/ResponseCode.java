@@ -224,6 +224,9 @@ public enum ResponseCode {
   errorRateLimitExceeded(
       ResponseMessage.Key.ERROR_RATE_LIMIT_EXCEEDED,
       ResponseMessage.Message.ERROR_RATE_LIMIT_EXCEEDED),
+  errorTooManyConcurrentRequests(
+      ResponseMessage.Key.ERROR_TOO_MANY_CONCURRENT_REQUESTS,
+      ResponseMessage.Message.ERROR_TOO_MANY_CONCURRENT_REQUESTS),
   invalidRequestTimeout(
       ResponseMessage.Key.INVALID_REQUEST_TIMEOUT, ResponseMessage.Message.INVALID_REQUEST_TIMEOUT),
   errorUserMigrationFailed(
@@ -147,6 +147,8 @@ public interface ResponseMessage {
         "Parameter {0} is of invalid size (expected: {1}, actual: {2}).";
     String ERROR_RATE_LIMIT_EXCEEDED =
         "Your per {0} rate limit has exceeded. You can retry after some time.";
+    String ERROR_TOO_MANY_CONCURRENT_REQUESTS =
+        "Too many requests are in process. You can retry after some time.";
     String INVALID_REQUEST_TIMEOUT = "Invalid request timeout value {0}.";
     String ERROR_USER_UPDATE_PASSWORD = "User is created but password couldn't be updated.";
     String ERROR_USER_MIGRATION_FAILED = "User migration failed.";
@@ -295,6 +297,7 @@ public interface ResponseMessage {
     String ERROR_INVALID_OTP = "ERROR_INVALID_OTP";
     String ERROR_INVALID_PARAMETER_SIZE = "ERROR_INVALID_PARAMETER_SIZE";
     String ERROR_RATE_LIMIT_EXCEEDED = "ERROR_RATE_LIMIT_EXCEEDED";
+    String ERROR_TOO_MANY_CONCURRENT_REQUESTS = "ERROR_TOO_MANY_CONCURRENT_REQUESTS";
     String INVALID_REQUEST_TIMEOUT = "INVALID_REQUEST_TIMEOUT";
     String ERROR_USER_MIGRATION_FAILED = "ERROR_USER_MIGRATION_FAILED";
     String VALID_IDENTIFIER_ABSENSE = "IDENTIFIER IN LIST IS NOT SUPPORTED OR INCORRECT";
@@ -1,16 +1,14 @@
 package org.sunbird.kafka;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.sunbird.exception.ProjectCommonException;
@@ -19,7 +17,8 @@ import org.sunbird.logging.LoggerUtil;
 import org.sunbird.util.ProjectUtil;
 
 /**
- * Helper class for creating a Kafka consumer and producer.
+ * Helper class for creating a Kafka consumer and producer. Events are sent through a
+ * KafkaPublisher, which accounts for their delivery.
  *
  * @author Pradyumna
  */
@@ -30,12 +29,12 @@ public class KafkaClient {
   private static final String BOOTSTRAP_SERVERS = ProjectUtil.getConfigValue("kafka_urls");
   private static Producer<String, String> producer;
   private static Consumer<String, String> consumer;
-  private static volatile Map<String, List<PartitionInfo>> topics;
+  private static KafkaPublisher publisher;
 
   static {
     loadProducerProperties();
     loadConsumerProperties();
-    loadTopics();
+    loadPublisher();
   }
 
   private static void loadProducerProperties() {
@@ -45,15 +44,33 @@ public class KafkaClient {
     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
     props.put(ProducerConfig.LINGER_MS_CONFIG, ProjectUtil.getConfigValue("kafka_linger_ms"));
+    props.put(ProducerConfig.BATCH_SIZE_CONFIG, ProjectUtil.getConfigValue("kafka_batch_size"));
+    props.put(
+        ProducerConfig.COMPRESSION_TYPE_CONFIG,
+        ProjectUtil.getConfigValue("kafka_compression_type"));
+    props.put(ProducerConfig.ACKS_CONFIG, ProjectUtil.getConfigValue("kafka_acks"));
+    props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, ProjectUtil.getConfigValue("kafka_max_block_ms"));
     producer = new KafkaProducer<String, String>(props);
   }
 
-  private static void loadTopics() {
+  private static void loadPublisher() {
+    publisher =
+        new KafkaPublisher(
+            producer,
+            KafkaClient::listTopics,
+            NumberUtils.toInt(ProjectUtil.getConfigValue("kafka_max_in_flight_events"), 10000),
+            ProjectUtil.getConfigValue("kafka_overflow_policy"),
+            NumberUtils.toLong(ProjectUtil.getConfigValue("kafka_overflow_block_ms"), 100),
+            NumberUtils.toLong(
+                ProjectUtil.getConfigValue("kafka_topic_refresh_interval_ms"), 300000));
+    KafkaPublisher.setDefault(publisher);
+  }
+
+  private static synchronized Set<String> listTopics() {
     if (consumer == null) {
       loadConsumerProperties();
     }
-    topics = consumer.listTopics();
-    logger.info("KafkaClient:loadTopics Kafka topic info" + topics);
+    return consumer.listTopics().keySet();
   }
 
   private static void loadConsumerProperties() {
@@ -73,38 +90,26 @@ public class KafkaClient {
     return consumer;
   }
 
+  public static KafkaPublisher getPublisher() {
+    return publisher;
+  }
+
   public static void send(String event, String topic) throws Exception {
-    if (validate(topic)) {
-      final Producer<String, String> producer = getProducer();
-      ProducerRecord<String, String> record = new ProducerRecord<String, String>(topic, event);
-      producer.send(record);
-    } else {
-      logger.info("Topic id: " + topic + ", does not exists.");
-      throw new ProjectCommonException(
-          "TOPIC_NOT_EXISTS_EXCEPTION",
-          "Topic id: " + topic + ", does not exists.",
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
+    send(null, event, topic);
   }
 
+  /**
+   * Sends the event without waiting for the broker.
+   *
+   * @throws ProjectCommonException with service unavailable if the event was dropped because too
+   *     many events are in flight, the caller decides whether to retry or give up on the event
+   */
   public static void send(String key, String event, String topic) {
-    if (validate(topic)) {
-      final Producer<String, String> producer = getProducer();
-      ProducerRecord<String, String> record = new ProducerRecord<String, String>(topic, key, event);
-      producer.send(record);
-    } else {
-      logger.info("Topic id: " + topic + ", does not exists.");
+    if (!publisher.publish(topic, key, event)) {
       throw new ProjectCommonException(
-          "TOPIC_NOT_EXISTS_EXCEPTION",
-          "Topic id: " + topic + ", does not exists.",
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
-  }
-
-  private static boolean validate(String topic) {
-    if (topics == null) {
-      loadTopics();
+          ResponseCode.serviceUnAvailable.getErrorCode(),
+          ResponseCode.serviceUnAvailable.getErrorMessage(),
+          ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
     }
-    return topics.keySet().contains(topic);
   }
 }
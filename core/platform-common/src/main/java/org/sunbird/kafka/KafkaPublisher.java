@@ -0,0 +1,219 @@
+package org.sunbird.kafka;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Publishes events to Kafka without waiting for the broker. Every send registers a callback which
+ * counts the event as acknowledged or failed and records its publish latency.
+ *
+ * <p>At most maxInFlight events may be sent and not yet acknowledged. When the limit is reached,
+ * the block overflow policy makes the publisher wait up to blockMillis for an acknowledgement and
+ * the drop policy does not wait; an event which still has no room is dropped and counted.
+ *
+ * <p>The known topics are loaded once on creation and reloaded every topicRefreshMillis. A publish
+ * to an unknown topic is rejected and schedules a reload if the topics were not reloaded in the
+ * last MISS_REFRESH_INTERVAL_MILLIS, so a new topic is seen without a restart. Topics are never
+ * loaded on the publishing thread.
+ */
+public class KafkaPublisher {
+
+  public static final String OVERFLOW_POLICY_DROP = "drop";
+
+  private static final LoggerUtil logger = new LoggerUtil(KafkaPublisher.class);
+  private static final long MISS_REFRESH_INTERVAL_MILLIS = 10000;
+  private static volatile KafkaPublisher defaultPublisher;
+
+  private final Producer<String, String> producer;
+  private final Supplier<Set<String>> topicLoader;
+  private final int maxInFlight;
+  private final Semaphore inFlightPermits;
+  private final boolean dropOnOverflow;
+  private final long blockMillis;
+  private final ScheduledExecutorService scheduler;
+  private final AtomicBoolean refreshPending = new AtomicBoolean();
+  private volatile Set<String> topics = Collections.emptySet();
+  private volatile long topicsLoadedAt;
+
+  private final LongAdder sentCount = new LongAdder();
+  private final LongAdder ackedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+  private final LongAdder latencyTotalMillis = new LongAdder();
+  private final AtomicLong maxLatencyMillis = new AtomicLong();
+  private final LongAdder topicRefreshCount = new LongAdder();
+  private final LongAdder topicRefreshFailureCount = new LongAdder();
+
+  KafkaPublisher(
+      Producer<String, String> producer,
+      Supplier<Set<String>> topicLoader,
+      int maxInFlight,
+      String overflowPolicy,
+      long blockMillis,
+      long topicRefreshMillis) {
+    this.producer = producer;
+    this.topicLoader = topicLoader;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.inFlightPermits = new Semaphore(this.maxInFlight);
+    this.dropOnOverflow = OVERFLOW_POLICY_DROP.equalsIgnoreCase(overflowPolicy);
+    this.blockMillis = Math.max(0, blockMillis);
+    refreshTopics();
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "kafka-topic-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (topicRefreshMillis > 0) {
+      scheduler.scheduleWithFixedDelay(
+          this::refreshTopics, topicRefreshMillis, topicRefreshMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  static void setDefault(KafkaPublisher publisher) {
+    defaultPublisher = publisher;
+  }
+
+  /** Returns the metrics of the publisher of KafkaClient, empty until KafkaClient is loaded. */
+  public static Map<String, Object> getDefaultMetrics() {
+    KafkaPublisher publisher = defaultPublisher;
+    return null == publisher ? Collections.emptyMap() : publisher.getMetrics();
+  }
+
+  public Producer<String, String> getProducer() {
+    return producer;
+  }
+
+  /**
+   * Sends the event to the topic without waiting for the broker.
+   *
+   * @param topic Topic name, it must exist
+   * @param key Key of the event, may be null
+   * @param event Event
+   * @return false if the event was dropped because too many events are in flight
+   */
+  public boolean publish(String topic, String key, String event) {
+    if (!hasTopic(topic)) {
+      logger.info("Topic id: " + topic + ", does not exists.");
+      throw new ProjectCommonException(
+          "TOPIC_NOT_EXISTS_EXCEPTION",
+          "Topic id: " + topic + ", does not exists.",
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    if (!acquire()) {
+      droppedCount.increment();
+      logger.info("KafkaPublisher:publish: event dropped for topic " + topic);
+      return false;
+    }
+    long startTime = System.currentTimeMillis();
+    ProducerRecord<String, String> record =
+        null == key ? new ProducerRecord<>(topic, event) : new ProducerRecord<>(topic, key, event);
+    try {
+      producer.send(
+          record, (metadata, exception) -> onCompletion(topic, startTime, exception));
+    } catch (RuntimeException e) {
+      inFlightPermits.release();
+      failedCount.increment();
+      throw e;
+    }
+    sentCount.increment();
+    return true;
+  }
+
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    long acked = ackedCount.sum();
+    long failed = failedCount.sum();
+    metrics.put("sent", sentCount.sum());
+    metrics.put("acked", acked);
+    metrics.put("failed", failed);
+    metrics.put("dropped", droppedCount.sum());
+    metrics.put("inFlight", maxInFlight - inFlightPermits.availablePermits());
+    metrics.put("maxInFlight", maxInFlight);
+    metrics.put(
+        "avgLatencyMs", acked + failed == 0 ? 0 : latencyTotalMillis.sum() / (acked + failed));
+    metrics.put("maxLatencyMs", maxLatencyMillis.get());
+    metrics.put("topics", topics.size());
+    metrics.put("topicRefreshes", topicRefreshCount.sum());
+    metrics.put("topicRefreshFailures", topicRefreshFailureCount.sum());
+    return metrics;
+  }
+
+  private boolean acquire() {
+    if (dropOnOverflow) {
+      return inFlightPermits.tryAcquire();
+    }
+    try {
+      return inFlightPermits.tryAcquire(blockMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void onCompletion(String topic, long startTime, Exception exception) {
+    inFlightPermits.release();
+    long latency = System.currentTimeMillis() - startTime;
+    latencyTotalMillis.add(latency);
+    maxLatencyMillis.accumulateAndGet(latency, Math::max);
+    if (null == exception) {
+      ackedCount.increment();
+    } else {
+      failedCount.increment();
+      logger.error(
+          "KafkaPublisher:onCompletion: event not delivered to topic "
+              + topic
+              + " with error message = "
+              + exception.getMessage(),
+          exception);
+    }
+  }
+
+  private boolean hasTopic(String topic) {
+    if (topics.contains(topic)) {
+      return true;
+    }
+    if (System.currentTimeMillis() - topicsLoadedAt >= MISS_REFRESH_INTERVAL_MILLIS
+        && refreshPending.compareAndSet(false, true)) {
+      scheduler.execute(
+          () -> {
+            try {
+              refreshTopics();
+            } finally {
+              refreshPending.set(false);
+            }
+          });
+    }
+    return false;
+  }
+
+  private synchronized void refreshTopics() {
+    try {
+      topics = new HashSet<>(topicLoader.get());
+      topicRefreshCount.increment();
+      logger.info("KafkaPublisher:refreshTopics Kafka topic info" + topics);
+    } catch (Exception e) {
+      topicRefreshFailureCount.increment();
+      logger.error("KafkaPublisher:refreshTopics: " + e.getMessage(), e);
+    } finally {
+      topicsLoadedAt = System.currentTimeMillis();
+    }
+  }
+}
@@ -221,6 +221,7 @@ public final class JsonKey {
   public static final String ROOT_ORG_ID = "rootOrgId";
   public static final String SEARCH = "search";
   public static final String SEARCH_TOP_N = "searchTopN";
+  public static final String SEARCH_AFTER = "searchAfter";
   public static final String SIZE = "size";
   public static final String SLUG = "slug";
   public static final String SORT = "sort";
@@ -450,6 +451,11 @@ public final class JsonKey {
   public static final String RECOVERY_PHONE = "recoveryPhone";
   public static final String NESTED_KEY_FILTER = "nestedFilters";
   public static final String SHADOW_USER = "shadow_user";
+  public static final String SHADOW_USER_LOOKUP = "shadow_user_lookup";
+  public static final String PAGING_STATE = "pagingState";
+  public static final String STAGE_LATENCY = "stageLatency";
+  public static final String VALIDATE = "validate";
+  public static final String USER_ATTRIBUTES = "userAttributes";
   public static final String USER_EXT_ID = "userExtId";
   public static final String STATE_VALIDATED = "stateValidated";
   public static final String FLAGS_VALUE = "flagsValue";
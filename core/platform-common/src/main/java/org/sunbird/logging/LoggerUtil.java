@@ -1,8 +1,14 @@
 package org.sunbird.logging;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import net.logstash.logback.marker.LogstashMarker;
 import net.logstash.logback.marker.Markers;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sunbird.exception.ProjectCommonException;
@@ -12,30 +18,66 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.telemetry.util.TelemetryEvents;
 import org.sunbird.telemetry.util.TelemetryWriter;
-
+import org.sunbird.util.PropertiesCache;
+
+/**
+ * Logger which adds the request context to the log lines as structured fields. The marker holding
+ * the context is built once per request and kept in its request cache.
+ *
+ * <p>The info and debug lines of a logger may be sampled with sunbird_log_sampling_rates, a comma
+ * separated list of logger name prefixes and the share of lines to write, for example
+ * "org.sunbird.cassandraimpl:0.1". The longest matching prefix applies. Lines of requests with
+ * debug enabled, warnings and errors are always written. Callers pass a Supplier for messages
+ * which are costly to build, it is called only when the line is written.
+ */
 public class LoggerUtil {
 
+  private static final String MARKER_KEY = "logMarker";
+
   private Logger logger;
+  private volatile double samplingRate = -1;
 
   public LoggerUtil(Class c) {
     logger = LoggerFactory.getLogger(c);
   }
 
+  LoggerUtil(Class c, double samplingRate) {
+    this(c);
+    this.samplingRate = samplingRate;
+  }
+
   public void info(RequestContext requestContext, String message) {
+    if (!isInfoWritten(requestContext)) {
+      return;
+    }
     if (null != requestContext) {
-      logger.info(Markers.appendEntries(requestContext.getContextMap()), message);
+      logger.info(getMarker(requestContext), message);
     } else {
       logger.info(message);
     }
   }
 
+  public void info(RequestContext requestContext, Supplier<String> message) {
+    if (isInfoWritten(requestContext)) {
+      info(requestContext, message.get());
+    }
+  }
+
   public void info(String message) {
-    logger.info(message);
+    if (logger.isInfoEnabled() && isSampled()) {
+      logger.info(message);
+    }
+  }
+
+  public void info(Supplier<String> message) {
+    if (logger.isInfoEnabled() && isSampled()) {
+      logger.info(message.get());
+    }
   }
 
   public void error(RequestContext requestContext, String message, Throwable e) {
     if (null != requestContext) {
-      logger.error(Markers.appendEntries(requestContext.getContextMap()), message, e);
+      logger.error(getMarker(requestContext), message, e);
     } else {
       logger.error(message, e);
     }
@@ -51,7 +93,7 @@ public class LoggerUtil {
       Throwable e,
       Map<String, Object> telemetryInfo) {
     if (null != requestContext) {
-      logger.error(Markers.appendEntries(requestContext.getContextMap()), message, e);
+      logger.error(getMarker(requestContext), message, e);
     } else {
       logger.error(message, e);
     }
@@ -60,29 +102,117 @@ public class LoggerUtil {
 
   public void warn(RequestContext requestContext, String message, Throwable e) {
     if (null != requestContext) {
-      logger.warn(Markers.appendEntries(requestContext.getContextMap()), message, e);
+      logger.warn(getMarker(requestContext), message, e);
     } else {
       logger.warn(message, e);
     }
   }
 
   public void debug(RequestContext requestContext, String message) {
-    if (isDebugEnabled(requestContext)) {
-      logger.info(Markers.appendEntries(requestContext.getContextMap()), message);
-    } else {
+    if (isDebugRequest(requestContext)) {
+      logger.info(getMarker(requestContext), message);
+    } else if (logger.isDebugEnabled() && isSampled()) {
       logger.debug(message);
     }
   }
 
+  public void debug(RequestContext requestContext, Supplier<String> message) {
+    if (isDebugRequest(requestContext)) {
+      logger.info(getMarker(requestContext), message.get());
+    } else if (logger.isDebugEnabled() && isSampled()) {
+      logger.debug(message.get());
+    }
+  }
+
   public void debug(String message) {
-    logger.debug(message);
+    if (logger.isDebugEnabled() && isSampled()) {
+      logger.debug(message);
+    }
+  }
+
+  public void debug(Supplier<String> message) {
+    if (logger.isDebugEnabled() && isSampled()) {
+      logger.debug(message.get());
+    }
   }
 
-  private static boolean isDebugEnabled(RequestContext requestContext) {
+  /**
+   * Tells whether a debug message would be written, either because the request asked for debug
+   * logs or the logger is at debug level. Callers use it to skip building costly messages.
+   */
+  public boolean isDebugEnabled(RequestContext requestContext) {
+    return isDebugRequest(requestContext) || logger.isDebugEnabled();
+  }
+
+  private static boolean isDebugRequest(RequestContext requestContext) {
     return (null != requestContext
         && StringUtils.equalsIgnoreCase("true", requestContext.getDebugEnabled()));
   }
 
+  private boolean isInfoWritten(RequestContext requestContext) {
+    return isDebugRequest(requestContext) || (logger.isInfoEnabled() && isSampled());
+  }
+
+  private boolean isSampled() {
+    double rate = samplingRate;
+    if (rate < 0) {
+      rate = SamplingRates.get(logger.getName());
+      samplingRate = rate;
+    }
+    return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  private static LogstashMarker getMarker(RequestContext requestContext) {
+    // the marker reads the context map when the line is written, so it may be reused
+    return (LogstashMarker)
+        requestContext
+            .getRequestCache()
+            .computeIfAbsent(
+                MARKER_KEY, key -> Markers.appendEntries(requestContext.getContextMap()));
+  }
+
+  /** Sampling rates of sunbird_log_sampling_rates, read when the first line is sampled. */
+  private static final class SamplingRates {
+
+    private static final Map<String, Double> rates = load();
+
+    static double get(String loggerName) {
+      String prefix = null;
+      for (String name : rates.keySet()) {
+        if (loggerName.startsWith(name) && (null == prefix || name.length() > prefix.length())) {
+          prefix = name;
+        }
+      }
+      return null == prefix ? 1 : rates.get(prefix);
+    }
+
+    private static Map<String, Double> load() {
+      try {
+        PropertiesCache propertiesCache = PropertiesCache.getInstance();
+        return null == propertiesCache
+            ? Collections.emptyMap()
+            : parse(propertiesCache.readProperty("sunbird_log_sampling_rates"));
+      } catch (Exception e) {
+        return Collections.emptyMap();
+      }
+    }
+
+    private static Map<String, Double> parse(String config) {
+      if (StringUtils.isBlank(config)) {
+        return Collections.emptyMap();
+      }
+      Map<String, Double> rates = new HashMap<>();
+      for (String entry : config.split(",")) {
+        String name = StringUtils.substringBeforeLast(entry, ":").trim();
+        double rate = NumberUtils.toDouble(StringUtils.substringAfterLast(entry, ":").trim(), -1);
+        if (StringUtils.isNotBlank(name) && rate >= 0) {
+          rates.put(name, Math.min(rate, 1));
+        }
+      }
+      return rates;
+    }
+  }
+
   private void telemetryProcess(
       RequestContext requestContext, Map<String, Object> telemetryInfo, Throwable e) {
     ProjectCommonException projectCommonException = null;
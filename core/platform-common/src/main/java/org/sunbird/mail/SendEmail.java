@@ -6,14 +6,19 @@ import javax.mail.Session;
 import javax.mail.Transport;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.velocity.VelocityContext;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.PropertiesCache;
 
 public class SendEmail {
 
   public LoggerUtil logger = new LoggerUtil(SendEmail.class);
-  private static final String fromEmail = System.getenv(JsonKey.EMAIL_SERVER_FROM);
+  private static final String fromEmail =
+      StringUtils.isNotBlank(System.getenv(JsonKey.EMAIL_SERVER_FROM))
+          ? System.getenv(JsonKey.EMAIL_SERVER_FROM)
+          : PropertiesCache.getInstance().getProperty(JsonKey.EMAIL_SERVER_FROM);
 
   public boolean send(
       String[] emailList,
@@ -0,0 +1,304 @@
+package org.sunbird.mail;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.mail.Transport;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Sends emails through a fixed pool of SMTP transports. Recipients of an email are split into BCC
+ * groups of at most sunbird_email_max_recipients_per_message addresses, and every group is sent
+ * asynchronously on one of the sunbird_email_transport_pool_size transports. A transport is
+ * reconnected before use if it is disconnected or older than sendgrid_connection_reset_interval.
+ *
+ * <p>A group which could not be sent is retried sunbird_email_send_max_retries times with an
+ * exponential backoff starting at sunbird_email_send_retry_backoff_ms, after which it is logged as
+ * a dead letter.
+ */
+public class SmtpSenderPool {
+
+  private static final LoggerUtil logger = new LoggerUtil(SmtpSenderPool.class);
+  private static volatile SmtpSenderPool instance;
+
+  private final int batchSize;
+  private final int maxRetries;
+  private final long retryBackoffMillis;
+  private final long resetIntervalMillis;
+  private final List<PooledTransport> transports = new ArrayList<>();
+  private final BlockingQueue<PooledTransport> idleTransports = new LinkedBlockingQueue<>();
+  private final ScheduledExecutorService executor;
+  private final LongAdder deadLetterCount = new LongAdder();
+  private final AtomicLong taskSequence = new AtomicLong();
+
+  SmtpSenderPool(
+      int poolSize,
+      int batchSize,
+      int maxRetries,
+      long retryBackoffMillis,
+      long resetIntervalMillis) {
+    int size = Math.max(1, poolSize);
+    this.batchSize = Math.max(1, batchSize);
+    this.maxRetries = Math.max(0, maxRetries);
+    this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+    this.resetIntervalMillis = resetIntervalMillis;
+    for (int i = 0; i < size; i++) {
+      PooledTransport transport = new PooledTransport(i);
+      transports.add(transport);
+      idleTransports.add(transport);
+    }
+    AtomicInteger threadCount = new AtomicInteger();
+    // one thread per transport, so a task never waits long for an idle transport
+    this.executor =
+        new ScheduledThreadPoolExecutor(
+            size,
+            runnable -> {
+              Thread thread = new Thread(runnable, "smtp-sender-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public static SmtpSenderPool getInstance() {
+    if (null == instance) {
+      synchronized (SmtpSenderPool.class) {
+        if (null == instance) {
+          instance =
+              new SmtpSenderPool(
+                  NumberUtils.toInt(
+                      ProjectUtil.getConfigValue("sunbird_email_transport_pool_size"), 4),
+                  NumberUtils.toInt(
+                      ProjectUtil.getConfigValue("sunbird_email_max_recipients_per_message"), 50),
+                  NumberUtils.toInt(
+                      ProjectUtil.getConfigValue("sunbird_email_send_max_retries"), 3),
+                  NumberUtils.toLong(
+                      ProjectUtil.getConfigValue("sunbird_email_send_retry_backoff_ms"), 1000),
+                  NumberUtils.toLong(
+                      ProjectUtil.getConfigValue("sendgrid_connection_reset_interval"), 60000));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Sends the rendered email to the recipients in BCC groups.
+   *
+   * @param emails Recipient email addresses
+   * @param subject Email subject
+   * @param body Rendered email body
+   * @param requestContext Request context
+   * @return Completes with true once every group is sent, false if any group ended as dead letter
+   */
+  public CompletableFuture<Boolean> send(
+      List<String> emails, String subject, String body, RequestContext requestContext) {
+    List<CompletableFuture<Boolean>> results = new ArrayList<>();
+    for (int from = 0; from < emails.size(); from += batchSize) {
+      List<String> batch = emails.subList(from, Math.min(emails.size(), from + batchSize));
+      CompletableFuture<Boolean> result = new CompletableFuture<>();
+      EmailTask task =
+          new EmailTask(
+              taskSequence.incrementAndGet(),
+              batch.toArray(new String[0]),
+              subject,
+              body,
+              requestContext,
+              result);
+      executor.execute(() -> attempt(task));
+      results.add(result);
+    }
+    return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+        .thenApply(done -> results.stream().allMatch(CompletableFuture::join));
+  }
+
+  /**
+   * Returns sent message, recipient and failure counts, total and max latency in milliseconds and
+   * reconnect count of every transport, and the dead letter count of the pool.
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    for (PooledTransport transport : transports) {
+      metrics.put("transport-" + transport.id, transport.getStats());
+    }
+    metrics.put("deadLetters", deadLetterCount.sum());
+    return metrics;
+  }
+
+  private void attempt(EmailTask task) {
+    PooledTransport transport = null;
+    boolean sent = false;
+    task.attempts++;
+    try {
+      transport = idleTransports.take();
+      sent = transport.send(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      logger.error(
+          task.requestContext,
+          "SmtpSenderPool:attempt: Exception occurred with message = " + e.getMessage(),
+          e);
+    } finally {
+      if (null != transport) {
+        idleTransports.add(transport);
+      }
+    }
+    if (sent) {
+      task.result.complete(true);
+    } else if (task.attempts <= maxRetries) {
+      long delay = retryBackoffMillis << Math.min(task.attempts - 1, 16);
+      logger.info(
+          task.requestContext,
+          "SmtpSenderPool:attempt: sending email task "
+              + task.id
+              + " failed, retry "
+              + task.attempts
+              + " in "
+              + delay
+              + " ms");
+      executor.schedule(() -> attempt(task), delay, TimeUnit.MILLISECONDS);
+    } else {
+      deadLetter(task);
+      task.result.complete(false);
+    }
+  }
+
+  private void deadLetter(EmailTask task) {
+    deadLetterCount.increment();
+    logger.error(
+        task.requestContext,
+        "SmtpSenderPool:deadLetter: email task "
+            + task.id
+            + " could not be sent after "
+            + task.attempts
+            + " attempts, subject = "
+            + task.subject
+            + ", recipient count = "
+            + task.emails.length,
+        null);
+  }
+
+  private final class PooledTransport {
+    private final int id;
+    private SendgridConnection connection;
+    private long connectedAt;
+    private final LongAdder messageCount = new LongAdder();
+    private final LongAdder recipientCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder reconnectCount = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    private PooledTransport(int id) {
+      this.id = id;
+    }
+
+    private boolean send(EmailTask task) {
+      if (!isHealthy()) {
+        reconnect(task.requestContext);
+      }
+      if (null == connection.getTransport()) {
+        failureCount.increment();
+        return false;
+      }
+      long startTime = System.currentTimeMillis();
+      boolean sent =
+          new SendEmail()
+              .send(
+                  task.emails,
+                  task.subject,
+                  null,
+                  new StringWriter().append(task.body),
+                  connection.getSession(),
+                  connection.getTransport());
+      long latency = System.currentTimeMillis() - startTime;
+      totalLatencyMillis.add(latency);
+      maxLatencyMillis.accumulateAndGet(latency, Math::max);
+      if (sent) {
+        messageCount.increment();
+        recipientCount.add(task.emails.length);
+      } else {
+        failureCount.increment();
+        // the connection may be broken, do not reuse it for the retry
+        connectedAt = 0;
+      }
+      return sent;
+    }
+
+    private boolean isHealthy() {
+      Transport transport = null == connection ? null : connection.getTransport();
+      return null != transport
+          && System.currentTimeMillis() - connectedAt < resetIntervalMillis
+          && transport.isConnected();
+    }
+
+    private void reconnect(RequestContext context) {
+      logger.info(
+          context,
+          "SmtpSenderPool:reconnect: SMTP transport "
+              + id
+              + " is closed or timed out. Create new connection.");
+      if (null != connection && null != connection.getTransport()) {
+        try {
+          connection.getTransport().close();
+        } catch (Exception e) {
+          logger.debug(context, "SmtpSenderPool:reconnect: closing transport failed " + e);
+        }
+      }
+      connection = new SendgridConnection();
+      connection.createConnection(context);
+      connectedAt = System.currentTimeMillis();
+      reconnectCount.increment();
+    }
+
+    private Map<String, Long> getStats() {
+      Map<String, Long> stats = new HashMap<>();
+      stats.put("messages", messageCount.sum());
+      stats.put("recipients", recipientCount.sum());
+      stats.put("failures", failureCount.sum());
+      stats.put("reconnects", reconnectCount.sum());
+      stats.put("totalLatencyMillis", totalLatencyMillis.sum());
+      stats.put("maxLatencyMillis", maxLatencyMillis.get());
+      return stats;
+    }
+  }
+
+  private static final class EmailTask {
+    private final long id;
+    private final String[] emails;
+    private final String subject;
+    private final String body;
+    private final RequestContext requestContext;
+    private final CompletableFuture<Boolean> result;
+    private int attempts;
+
+    private EmailTask(
+        long id,
+        String[] emails,
+        String subject,
+        String body,
+        RequestContext requestContext,
+        CompletableFuture<Boolean> result) {
+      this.id = id;
+      this.emails = emails;
+      this.subject = subject;
+      this.body = body;
+      this.requestContext = requestContext;
+      this.result = result;
+    }
+  }
+}
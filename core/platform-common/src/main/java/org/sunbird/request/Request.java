@@ -39,6 +39,8 @@ public class Request implements Serializable {
   private int env;
 
   private Integer timeout; // in seconds
+  // set by the actor when it takes the request out of its mailbox, not serialized
+  private transient volatile long dequeueTime;
 
   public Request() {
     this.context = new WeakHashMap<>();
@@ -157,6 +159,15 @@ public class Request implements Serializable {
     this.env = env;
   }
 
+  /** Returns the epoch millis at which an actor took the request from its mailbox, 0 if not yet. */
+  public long getDequeueTime() {
+    return dequeueTime;
+  }
+
+  public void setDequeueTime(long dequeueTime) {
+    this.dequeueTime = dequeueTime;
+  }
+
   public Integer getTimeout() {
     return timeout == null ? WAIT_TIME_VALUE : timeout;
   }
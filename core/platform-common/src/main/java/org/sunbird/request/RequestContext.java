@@ -2,6 +2,7 @@ package org.sunbird.request;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RequestContext {
   private String uid;
@@ -13,6 +14,8 @@ public class RequestContext {
   private String debugEnabled;
   private String op;
   private Map<String, Object> contextMap = new HashMap<>();
+  // values read while the request is handled, shared by the calls which handle it
+  private final Map<String, Object> requestCache = new ConcurrentHashMap<>();
 
   public RequestContext() {}
 
@@ -111,4 +114,8 @@ public class RequestContext {
   public Map<String, Object> getContextMap() {
     return contextMap;
   }
+
+  public Map<String, Object> getRequestCache() {
+    return requestCache;
+  }
 }
@@ -1,5 +1,6 @@
 package org.sunbird.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +20,8 @@ public class Response implements Serializable, Cloneable {
   protected ResponseParams params;
   protected ResponseCode responseCode = ResponseCode.OK;
   protected Map<String, Object> result = new HashMap<>();
+  // latency of each stage of the request, for the telemetry only, never part of the payload
+  protected Map<String, Long> stageLatency;
 
   /**
    * This will provide request unique id.
@@ -127,6 +130,15 @@ public class Response implements Serializable, Cloneable {
    *
    * @param code ResponseCode
    */
+  @JsonIgnore
+  public Map<String, Long> getStageLatency() {
+    return stageLatency;
+  }
+
+  public void setStageLatency(Map<String, Long> stageLatency) {
+    this.stageLatency = stageLatency;
+  }
+
   public void setResponseCode(ResponseCode code) {
     this.responseCode = code;
   }
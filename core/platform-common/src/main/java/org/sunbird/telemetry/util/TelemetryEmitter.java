@@ -0,0 +1,121 @@
+package org.sunbird.telemetry.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.LoggerFactory;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.telemetry.dto.Telemetry;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Writes validated telemetry events to the TelemetryEventLogger off the request thread. An event is
+ * serialized on the calling thread, so the queued event does not share the maps of the caller, and
+ * waits in a queue of sunbird_telemetry_queue_size events drained by a single daemon thread; an
+ * event which finds the queue full is dropped and counted. A queue size of 0 writes the events on
+ * the calling thread.
+ */
+public class TelemetryEmitter {
+
+  private static final LoggerUtil logger = new LoggerUtil(TelemetryEmitter.class);
+  private static final TelemetryEmitter instance =
+      new TelemetryEmitter(
+          LoggerFactory.getLogger("TelemetryEventLogger")::info,
+          NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_telemetry_queue_size"), 10000),
+          true);
+
+  private final Consumer<String> sink;
+  private final int capacity;
+  private final BlockingQueue<String> queue;
+
+  private final LongAdder queuedCount = new LongAdder();
+  private final LongAdder emittedCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+
+  TelemetryEmitter(Consumer<String> sink, int capacity, boolean startWorker) {
+    this.sink = sink;
+    this.capacity = Math.max(0, capacity);
+    this.queue = this.capacity > 0 ? new ArrayBlockingQueue<>(this.capacity) : null;
+    if (null != queue && startWorker) {
+      Thread worker = new Thread(this::run, "telemetry-emitter");
+      worker.setDaemon(true);
+      worker.start();
+      // write the events still queued when the service stops
+      Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "telemetry-emitter-drain"));
+    }
+  }
+
+  public static TelemetryEmitter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Serializes the event and queues it to be written.
+   *
+   * @param telemetry Validated telemetry event
+   * @return false if the event could not be serialized or was dropped because the queue is full
+   */
+  public boolean emit(Telemetry telemetry) {
+    String event = TelemetryGenerator.getTelemetry(telemetry);
+    if (StringUtils.isBlank(event)) {
+      failedCount.increment();
+      return false;
+    }
+    if (null == queue) {
+      write(event);
+      return true;
+    }
+    if (!queue.offer(event)) {
+      droppedCount.increment();
+      return false;
+    }
+    queuedCount.increment();
+    return true;
+  }
+
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("queued", queuedCount.sum());
+    metrics.put("emitted", emittedCount.sum());
+    metrics.put("dropped", droppedCount.sum());
+    metrics.put("failed", failedCount.sum());
+    metrics.put("queueSize", null == queue ? 0 : queue.size());
+    metrics.put("capacity", capacity);
+    return metrics;
+  }
+
+  /** Writes the queued events on the calling thread. */
+  void drain() {
+    String event;
+    while (null != queue && null != (event = queue.poll())) {
+      write(event);
+    }
+  }
+
+  private void run() {
+    while (true) {
+      try {
+        write(queue.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void write(String event) {
+    try {
+      sink.accept(event);
+      emittedCount.increment();
+    } catch (Exception e) {
+      failedCount.increment();
+      logger.error("TelemetryEmitter:write: failed to write event", e);
+    }
+  }
+}
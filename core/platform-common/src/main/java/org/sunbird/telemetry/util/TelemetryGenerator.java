@@ -1,6 +1,7 @@
 package org.sunbird.telemetry.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -27,7 +28,7 @@ import org.sunbird.util.ProjectUtil;
 public class TelemetryGenerator {
   private static final LoggerUtil logger = new LoggerUtil(TelemetryGenerator.class);
 
-  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final ObjectWriter writer = new ObjectMapper().writerFor(Telemetry.class);
 
   private TelemetryGenerator() {}
 
@@ -39,8 +40,20 @@ public class TelemetryGenerator {
    * @return Telemetry event
    */
   public static String audit(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = buildAudit(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Builds the audit telemetry event without serializing it.
+   *
+   * @param context Map contains the telemetry context info like actor info, env info etc.
+   * @param params Map contains the telemetry event data info
+   * @return Telemetry event, or null if the context or the params are empty
+   */
+  public static Telemetry buildAudit(Map<String, Object> context, Map<String, Object> params) {
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -67,7 +80,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.AUDIT.getName(), actor, eventContext, edata, targetObject);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static void setCorrelatedDataToContext(Object correlatedObjects, Context eventContext) {
@@ -179,10 +192,10 @@ public class TelemetryGenerator {
     }
   }
 
-  private static String getTelemetry(Telemetry telemetry) {
+  static String getTelemetry(Telemetry telemetry) {
     String event = "";
     try {
-      event = mapper.writeValueAsString(telemetry);
+      event = writer.writeValueAsString(telemetry);
       logger.debug("TelemetryGenerator:getTelemetry = Telemetry Event : " + event);
     } catch (Exception e) {
       logger.error(
@@ -199,9 +212,21 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String search(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = buildSearch(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Builds the search telemetry event without serializing it.
+   *
+   * @param context Map contains the telemetry context info like actor info, env info etc.
+   * @param params Map contains the telemetry event data info
+   * @return Telemetry event, or null if the context or the params are empty
+   */
+  public static Telemetry buildSearch(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -220,7 +245,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.SEARCH.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateSearchEdata(Map<String, Object> params) {
@@ -252,9 +277,21 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String log(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = buildLog(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Builds the log telemetry event without serializing it.
+   *
+   * @param context Map contains the telemetry context info like actor info, env info etc.
+   * @param params Map contains the telemetry event data info
+   * @return Telemetry event, or null if the context or the params are empty
+   */
+  public static Telemetry buildLog(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -274,7 +311,7 @@ public class TelemetryGenerator {
     Map<String, Object> edata = generateLogEdata(params);
     Telemetry telemetry = new Telemetry(TelemetryEvents.LOG.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateLogEdata(Map<String, Object> params) {
@@ -317,9 +354,21 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String error(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = buildError(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Builds the error telemetry event without serializing it.
+   *
+   * @param context Map contains the telemetry context info like actor info, env info etc.
+   * @param params Map contains the telemetry event data info
+   * @return Telemetry event, or null if the context or the params are empty
+   */
+  public static Telemetry buildError(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -340,7 +389,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.ERROR.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateErrorEdata(Map<String, Object> params) {
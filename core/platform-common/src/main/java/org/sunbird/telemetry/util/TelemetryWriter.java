@@ -2,26 +2,23 @@ package org.sunbird.telemetry.util;
 
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.Request;
-import org.sunbird.telemetry.collector.TelemetryAssemblerFactory;
-import org.sunbird.telemetry.collector.TelemetryDataAssembler;
+import org.sunbird.telemetry.dto.Telemetry;
 import org.sunbird.telemetry.validator.TelemetryObjectValidator;
 import org.sunbird.telemetry.validator.TelemetryObjectValidatorV3;
 
+/**
+ * Builds the telemetry event of a request, validates it before it is serialized and hands it to
+ * the TelemetryEmitter, which serializes it once and queues it to be written off the request
+ * thread.
+ */
 public class TelemetryWriter {
 
-  private static final TelemetryDataAssembler telemetryDataAssembler =
-      TelemetryAssemblerFactory.get();
   private static final TelemetryObjectValidator telemetryObjectValidator =
       new TelemetryObjectValidatorV3();
   private static final LoggerUtil logger = new LoggerUtil(TelemetryWriter.class);
-  private static final Logger telemetryEventLogger =
-      LoggerFactory.getLogger("TelemetryEventLogger");
 
   public static void write(Request request) {
     try {
@@ -44,31 +41,26 @@ public class TelemetryWriter {
   private static void processLogEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.getRequest().get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.getRequest().get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.log(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateLog(telemetry)) {
-      telemetryEventLogger.info(telemetry);
+    Telemetry telemetry = TelemetryGenerator.buildLog(context, params);
+    if (null != telemetry && telemetryObjectValidator.validate(telemetry)) {
+      TelemetryEmitter.getInstance().emit(telemetry);
     } else {
       logger.info(
-          "TelemetryWriter:processLogEvent: Audit Telemetry validation failed: " + telemetry);
+          "TelemetryWriter:processLogEvent: Log Telemetry validation failed for mid: "
+              + (null == telemetry ? null : telemetry.getMid()));
     }
   }
 
   private static void processErrorEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.error(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateError(telemetry)) {
-      telemetryEventLogger.info(telemetry);
-    }
+    emit(TelemetryGenerator.buildError(context, params));
   }
 
   private static void processSearchEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.search(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateSearch(telemetry)) {
-      telemetryEventLogger.info(telemetry);
-    }
+    emit(TelemetryGenerator.buildSearch(context, params));
   }
 
   private static void processAuditEvent(Request request) {
@@ -84,9 +76,12 @@ public class TelemetryWriter {
     }
     params.put(JsonKey.TARGET_OBJECT, targetObject);
     params.put(JsonKey.CORRELATED_OBJECTS, correlatedObjects);
-    String telemetry = telemetryDataAssembler.audit(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateAudit(telemetry)) {
-      telemetryEventLogger.info(telemetry);
+    emit(TelemetryGenerator.buildAudit(context, params));
+  }
+
+  private static void emit(Telemetry telemetry) {
+    if (null != telemetry && telemetryObjectValidator.validate(telemetry)) {
+      TelemetryEmitter.getInstance().emit(telemetry);
     }
   }
 }
@@ -1,5 +1,7 @@
 package org.sunbird.telemetry.validator;
 
+import org.sunbird.telemetry.dto.Telemetry;
+
 /** @author arvind */
 public interface TelemetryObjectValidator {
 
@@ -10,4 +12,13 @@ public interface TelemetryObjectValidator {
   public boolean validateLog(String jsonString);
 
   public boolean validateError(String jsonString);
+
+  /**
+   * Validates an event built by TelemetryGenerator before it is serialized, by the rules of its
+   * eid. A LOG event without message has the empty message removed.
+   *
+   * @param telemetry Telemetry event
+   * @return true if the event has all the required fields
+   */
+  public boolean validate(Telemetry telemetry);
 }
@@ -19,56 +19,63 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
 
   @Override
   public boolean validateAudit(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateAuditEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.AUDIT.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validate(mapper.readValue(jsonString, Telemetry.class), TelemetryEvents.AUDIT);
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error(e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
   }
 
   @Override
   public boolean validateSearch(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateSearchEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.SEARCH.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validate(mapper.readValue(jsonString, Telemetry.class), TelemetryEvents.SEARCH);
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateSearch" + e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
   }
 
-  private void validateSearchEventData(Map<String, Object> edata, List<String> missingFields) {
+  @Override
+  public boolean validate(Telemetry telemetry) {
+    for (TelemetryEvents event : TelemetryEvents.values()) {
+      if (event.getName().equals(telemetry.getEid())) {
+        return validate(telemetry, event);
+      }
+    }
+    logger.info("Telemetry Object Creation Error for unknown event : " + telemetry.getEid());
+    return false;
+  }
+
+  private boolean validate(Telemetry telemetryObj, TelemetryEvents event) {
+    List<String> missingFields = new ArrayList<>();
+    validateBasics(telemetryObj, missingFields);
+    switch (event) {
+      case AUDIT:
+        validateAuditEventData(telemetryObj.getEdata(), missingFields);
+        break;
+      case SEARCH:
+        validateSearchEventData(telemetryObj.getEdata(), missingFields);
+        break;
+      case LOG:
+        validateLogEventData(telemetryObj.getEdata(), missingFields);
+        break;
+      default:
+        validateErrorEventData(telemetryObj.getEdata(), missingFields);
+    }
+    if (!missingFields.isEmpty()) {
+      logger.info(
+          "Telemetry Object Creation Error for event : "
+              + event.getName()
+              + "  missing required fields :"
+              + String.join(",", missingFields));
+      return false;
+    }
+    return true;
+  }
 
+  private void validateSearchEventData(Map<String, Object> edata, List<String> missingFields) {
     if (edata == null || edata.isEmpty()) {
       missingFields.add("edata");
     } else {
@@ -91,7 +98,6 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
   }
 
   private void validateBasics(Telemetry telemetryObj, List<String> missingFields) {
-
     if (StringUtils.isBlank(telemetryObj.getEid())) {
       missingFields.add("eid");
     }
@@ -127,27 +133,12 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
 
   @Override
   public boolean validateLog(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateLogEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.LOG.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validate(mapper.readValue(jsonString, Telemetry.class), TelemetryEvents.LOG);
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateLog" + e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
   }
 
   private void validateLogEventData(Map<String, Object> edata, List<String> missingFields) {
@@ -169,27 +160,12 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
 
   @Override
   public boolean validateError(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateErrorEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.ERROR.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validate(mapper.readValue(jsonString, Telemetry.class), TelemetryEvents.ERROR);
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateError" + e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
   }
 
   private void validateErrorEventData(Map<String, Object> edata, List<String> missingFields) {
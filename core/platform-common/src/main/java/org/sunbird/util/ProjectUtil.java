@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.text.MessageFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -35,9 +38,12 @@ import org.sunbird.request.RequestContext;
 public class ProjectUtil {
   private static LoggerUtil logger = new LoggerUtil(ProjectUtil.class);
 
-  /** format the date in YYYY-MM-DD hh:mm:ss:SSZ */
   private static AtomicInteger atomicInteger = new AtomicInteger();
 
+  /** format the date in YYYY-MM-DD hh:mm:ss:SSZ, same as {@link #getDateFormatter()} */
+  private static final DateTimeFormatter DATE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss:SSSZ");
+
   public static final String YEAR_MONTH_DATE_FORMAT = "yyyy-MM-dd";
   public static PropertiesCache propertiesCache;
   private static Pattern pattern;
@@ -174,7 +180,7 @@ public class ProjectUtil {
    * @return
    */
   public static String getFormattedDate() {
-    return getDateFormatter().format(new Date());
+    return DATE_TIME_FORMATTER.format(ZonedDateTime.now());
   }
 
   /**
@@ -212,7 +218,7 @@ public class ProjectUtil {
    * @return String
    */
   public static String getUniqueIdFromTimestamp(int environmentId) {
-    Random random = new Random();
+    Random random = ThreadLocalRandom.current();
     long env = (environmentId + random.nextInt(99999)) / 10000000;
     long uid = System.currentTimeMillis() + random.nextInt(999999);
     uid = uid << 13;
@@ -224,8 +230,8 @@ public class ProjectUtil {
    *
    * @return
    */
-  public static synchronized String generateUniqueId() {
-    return UUID.randomUUID().toString();
+  public static String generateUniqueId() {
+    return UniqueIdGenerator.generate();
   }
 
   public enum Method {
@@ -501,6 +507,18 @@ public class ProjectUtil {
     return propertiesCache.readProperty(key);
   }
 
+  /**
+   * Returns the configured value of the key, or the default value if the key is not configured.
+   *
+   * @param key Config key
+   * @param defaultValue Value used when the key is blank or missing
+   * @return String
+   */
+  public static String getConfigValue(String key, String defaultValue) {
+    String value = getConfigValue(key);
+    return StringUtils.isNotBlank(value) ? value : defaultValue;
+  }
+
   /**
    * This method will check whether Array contains only empty string or not
    *
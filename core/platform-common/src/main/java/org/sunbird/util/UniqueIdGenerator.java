@@ -0,0 +1,47 @@
+package org.sunbird.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates UUID identifiers from the random generator of the calling thread, so concurrent
+ * creates do not contend on the shared SecureRandom of {@link UUID#randomUUID()}. The ids are not
+ * meant to be secret.
+ *
+ * <p>With sunbird_unique_id_mode set to time_ordered, ids start with the creation time in
+ * milliseconds (UUID version 7 layout), which keeps ids of new rows close together in sorted
+ * indexes. The default mode random generates version 4 UUIDs.
+ */
+public final class UniqueIdGenerator {
+
+  private static final String TIME_ORDERED_MODE = "time_ordered";
+  private static final boolean timeOrdered =
+      TIME_ORDERED_MODE.equalsIgnoreCase(ProjectUtil.getConfigValue("sunbird_unique_id_mode"));
+
+  private UniqueIdGenerator() {}
+
+  /** @return Unique id in the configured mode */
+  public static String generate() {
+    return timeOrdered ? timeOrderedUuid().toString() : randomUuid().toString();
+  }
+
+  /** @return Version 4 UUID */
+  public static UUID randomUuid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+    return new UUID(mostSigBits, withVariant(random.nextLong()));
+  }
+
+  /** @return Version 7 UUID, 48 bits of epoch milliseconds followed by random bits */
+  public static UUID timeOrderedUuid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits =
+        (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+    return new UUID(mostSigBits, withVariant(random.nextLong()));
+  }
+
+  // IETF variant, the two most significant bits are 10
+  private static long withVariant(long leastSigBits) {
+    return (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+  }
+}
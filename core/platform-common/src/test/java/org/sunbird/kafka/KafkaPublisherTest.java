@@ -0,0 +1,71 @@
+package org.sunbird.kafka;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+
+public class KafkaPublisherTest {
+
+  private final MockProducer<String, String> producer =
+      new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+
+  @Test
+  public void testDeliveryIsAccountedAndOverflowDropped() {
+    KafkaPublisher publisher =
+        new KafkaPublisher(
+            producer,
+            () -> new HashSet<>(Arrays.asList("user_events")),
+            2,
+            KafkaPublisher.OVERFLOW_POLICY_DROP,
+            0,
+            0);
+    Assert.assertTrue(publisher.publish("user_events", null, "event1"));
+    Assert.assertTrue(publisher.publish("user_events", "key", "event2"));
+    // two events are in flight, the third is dropped
+    Assert.assertFalse(publisher.publish("user_events", null, "event3"));
+    Assert.assertEquals(2, publisher.getMetrics().get("inFlight"));
+    producer.completeNext();
+    producer.errorNext(new RuntimeException("broker unavailable"));
+    Map<String, Object> metrics = publisher.getMetrics();
+    Assert.assertEquals(2L, metrics.get("sent"));
+    Assert.assertEquals(1L, metrics.get("acked"));
+    Assert.assertEquals(1L, metrics.get("failed"));
+    Assert.assertEquals(1L, metrics.get("dropped"));
+    Assert.assertEquals(0, metrics.get("inFlight"));
+    Assert.assertEquals(2, producer.history().size());
+  }
+
+  @Test
+  public void testUnknownTopicIsRejected() {
+    AtomicInteger loads = new AtomicInteger();
+    Set<String> topics = new HashSet<>();
+    KafkaPublisher publisher =
+        new KafkaPublisher(
+            producer,
+            () -> {
+              loads.incrementAndGet();
+              return topics;
+            },
+            10,
+            "block",
+            10,
+            0);
+    topics.add("user_events");
+    try {
+      publisher.publish("user_events", null, "event");
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      Assert.assertEquals("TOPIC_NOT_EXISTS_EXCEPTION", e.getCode());
+    }
+    // the topics were loaded just now, a miss does not reload them
+    Assert.assertEquals(1, loads.get());
+    Assert.assertEquals(0, producer.history().size());
+  }
+}
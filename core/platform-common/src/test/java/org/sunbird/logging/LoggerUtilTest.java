@@ -0,0 +1,43 @@
+package org.sunbird.logging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.request.RequestContext;
+
+public class LoggerUtilTest {
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final Supplier<String> message =
+      () -> {
+        calls.incrementAndGet();
+        return "message";
+      };
+
+  @Test
+  public void testMarkerIsBuiltOncePerRequest() {
+    LoggerUtil logger = new LoggerUtil(LoggerUtilTest.class);
+    RequestContext context =
+        new RequestContext("uid", "did", "sid", "appId", "appVer", "reqId", "true", "op");
+    logger.info(context, message);
+    Object marker = context.getRequestCache().get("logMarker");
+    Assert.assertNotNull(marker);
+    logger.info(context, "message");
+    Assert.assertSame(marker, context.getRequestCache().get("logMarker"));
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void testSampledOutMessageIsNotBuilt() {
+    LoggerUtil logger = new LoggerUtil(LoggerUtilTest.class, 0);
+    logger.info(message);
+    logger.info(new RequestContext(), message);
+    Assert.assertEquals(0, calls.get());
+    // requests with debug enabled are always logged
+    RequestContext context = new RequestContext();
+    context.setDebugEnabled("true");
+    logger.debug(context, message);
+    Assert.assertEquals(1, calls.get());
+  }
+}
@@ -0,0 +1,67 @@
+package org.sunbird.mail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.mail.Message;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvnet.mock_javamail.Mailbox;
+
+public class SmtpSenderPoolTest {
+
+  @Before
+  public void setUp() {
+    // mock-javamail registers itself as the smtp transport and delivers into Mailbox
+    Mailbox.clearAll();
+  }
+
+  @After
+  public void tearDown() {
+    Mailbox.clearAll();
+  }
+
+  @Test
+  public void testSendInBccGroups() throws Exception {
+    SmtpSenderPool pool = new SmtpSenderPool(2, 2, 0, 0, 60000);
+    List<String> emails = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      emails.add("user" + i + "@xyz.com");
+    }
+    Assert.assertTrue(pool.send(emails, "subject", "body", null).get());
+    for (String email : emails) {
+      Mailbox mailbox = Mailbox.get(email);
+      Assert.assertEquals(1, mailbox.size());
+      Message message = mailbox.get(0);
+      Assert.assertEquals("subject", message.getSubject());
+      // a group of more than one recipient is sent as BCC with the sender as TO
+      Assert.assertTrue(message.getAllRecipients().length <= 3);
+    }
+    long messages = 0;
+    long recipients = 0;
+    Map<String, Object> metrics = pool.getMetrics();
+    for (int i = 0; i < 2; i++) {
+      Map<String, Long> stats = (Map<String, Long>) metrics.get("transport-" + i);
+      messages += stats.get("messages");
+      recipients += stats.get("recipients");
+    }
+    Assert.assertEquals(3, messages);
+    Assert.assertEquals(5, recipients);
+    Assert.assertEquals(0L, metrics.get("deadLetters"));
+  }
+
+  @Test
+  public void testSendFailureIsRetriedAndDeadLettered() throws Exception {
+    SmtpSenderPool pool = new SmtpSenderPool(1, 10, 2, 1, 60000);
+    Assert.assertFalse(
+        pool.send(Arrays.asList("user@xyz.com", "invalid@@xyz"), "subject", "body", null).get());
+    Map<String, Object> metrics = pool.getMetrics();
+    Map<String, Long> stats = (Map<String, Long>) metrics.get("transport-0");
+    Assert.assertEquals(3L, (long) stats.get("failures"));
+    Assert.assertEquals(1L, metrics.get("deadLetters"));
+    Assert.assertTrue(Mailbox.get("user@xyz.com").isEmpty());
+  }
+}
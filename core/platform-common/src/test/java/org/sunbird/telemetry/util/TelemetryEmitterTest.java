@@ -0,0 +1,73 @@
+package org.sunbird.telemetry.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.telemetry.dto.Telemetry;
+import org.sunbird.telemetry.validator.TelemetryObjectValidatorV3;
+
+public class TelemetryEmitterTest {
+
+  private final TelemetryObjectValidatorV3 validator = new TelemetryObjectValidatorV3();
+
+  @Test
+  public void testEventsAreWrittenOnDrainAndOverflowDropped() {
+    List<String> events = new ArrayList<>();
+    TelemetryEmitter emitter = new TelemetryEmitter(events::add, 1, false);
+    Telemetry telemetry = TelemetryGenerator.buildLog(getContext("request1"), getParams(""));
+    Assert.assertTrue(validator.validate(telemetry));
+    Assert.assertTrue(emitter.emit(telemetry));
+    // the queue is full, the event is dropped
+    Assert.assertFalse(emitter.emit(telemetry));
+    Assert.assertTrue(events.isEmpty());
+    emitter.drain();
+    Assert.assertEquals(1, events.size());
+    Assert.assertTrue(events.get(0).contains("\"eid\":\"LOG\""));
+    // the blank message was removed by the validation
+    Assert.assertFalse(events.get(0).contains("\"message\""));
+    Map<String, Object> metrics = emitter.getMetrics();
+    Assert.assertEquals(1L, metrics.get("emitted"));
+    Assert.assertEquals(1L, metrics.get("dropped"));
+  }
+
+  @Test
+  public void testQueuedEventIsNotChangedByTheCaller() {
+    List<String> events = new ArrayList<>();
+    TelemetryEmitter emitter = new TelemetryEmitter(events::add, 1, false);
+    Map<String, Object> params = getParams("message");
+    Telemetry telemetry = TelemetryGenerator.buildLog(getContext("request1"), params);
+    Assert.assertTrue(validator.validate(telemetry));
+    Assert.assertTrue(emitter.emit(telemetry));
+    telemetry.getEdata().put(JsonKey.MESSAGE, "changed");
+    emitter.drain();
+    Assert.assertTrue(events.get(0).contains("\"message\":\"message\""));
+  }
+
+  @Test
+  public void testEventWithoutRequestIdIsInvalid() {
+    Telemetry telemetry = TelemetryGenerator.buildLog(getContext(null), getParams("message"));
+    Assert.assertFalse(validator.validate(telemetry));
+  }
+
+  private Map<String, Object> getContext(String requestId) {
+    Map<String, Object> context = new HashMap<>();
+    context.put(JsonKey.ACTOR_ID, "Internal");
+    context.put(JsonKey.ACTOR_TYPE, "consumer");
+    context.put(JsonKey.CHANNEL, "ORG_001");
+    context.put(JsonKey.ENV, "User");
+    context.put(JsonKey.X_REQUEST_ID, requestId);
+    return context;
+  }
+
+  private Map<String, Object> getParams(String message) {
+    Map<String, Object> params = new HashMap<>();
+    params.put(JsonKey.LOG_TYPE, JsonKey.API_ACCESS);
+    params.put(JsonKey.LOG_LEVEL, JsonKey.INFO);
+    params.put(JsonKey.MESSAGE, message);
+    return params;
+  }
+}
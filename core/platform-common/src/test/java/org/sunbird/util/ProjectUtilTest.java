@@ -284,6 +284,13 @@ public class ProjectUtilTest extends BaseHttpTest {
     Assert.assertNotNull(ProjectUtil.getFormattedDate());
   }
 
+  @Test
+  public void testGetFormattedDateParsesWithDateFormatter() throws Exception {
+    String date = ProjectUtil.getFormattedDate();
+    Assert.assertEquals(
+        date, ProjectUtil.getDateFormatter().format(ProjectUtil.getDateFormatter().parse(date)));
+  }
+
   @Test
   public void testGetUniqueIdFromTimestamp() {
     Assert.assertNotNull(ProjectUtil.getUniqueIdFromTimestamp(1)); // generateUniqueId
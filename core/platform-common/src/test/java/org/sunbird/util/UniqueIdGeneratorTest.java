@@ -0,0 +1,59 @@
+package org.sunbird.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UniqueIdGeneratorTest {
+
+  @Test
+  public void testRandomUuidVersionAndVariant() {
+    UUID uuid = UniqueIdGenerator.randomUuid();
+    Assert.assertEquals(4, uuid.version());
+    Assert.assertEquals(2, uuid.variant());
+    Assert.assertTrue(ProjectUtil.validateUUID(uuid.toString()));
+  }
+
+  @Test
+  public void testTimeOrderedUuidStartsWithCreationTime() throws Exception {
+    long startTime = System.currentTimeMillis();
+    UUID first = UniqueIdGenerator.timeOrderedUuid();
+    Thread.sleep(2);
+    UUID second = UniqueIdGenerator.timeOrderedUuid();
+    Assert.assertEquals(7, first.version());
+    Assert.assertEquals(2, first.variant());
+    Assert.assertTrue((first.getMostSignificantBits() >>> 16) >= startTime);
+    Assert.assertTrue(first.toString().compareTo(second.toString()) < 0);
+  }
+
+  @Test
+  public void testGenerateIsUniqueAcrossThreads() throws Exception {
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10000; j++) {
+                    ids.add(UniqueIdGenerator.generate());
+                  }
+                }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assert.assertEquals(80000, ids.size());
+  }
+}
@@ -3,6 +3,8 @@ package org.sunbird.actor.feed;
 import java.util.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.Feed;
@@ -28,8 +30,7 @@ public class UserFeedActor extends BaseActor {
     logger.debug(context, "UserFeedActor:onReceive called for operation : " + operation);
     switch (operation) {
       case "getUserFeedById":
-        String userId = (String) request.getRequest().get(JsonKey.USER_ID);
-        getUserFeed(userId, context);
+        getUserFeed(request, context);
         break;
       case "createUserFeed":
         createUserFeed(request, context);
@@ -45,12 +46,28 @@ public class UserFeedActor extends BaseActor {
     }
   }
 
-  private void getUserFeed(String userId, RequestContext context) {
+  private void getUserFeed(Request request, RequestContext context) {
     Map<String, Object> reqMap = new WeakHashMap<>(2);
-    reqMap.put(JsonKey.USER_ID, userId);
-    List<Feed> feedList = feedService.getFeedsByProperties(reqMap, context);
+    reqMap.put(JsonKey.USER_ID, request.getRequest().get(JsonKey.USER_ID));
+    String category = (String) request.getContext().get(JsonKey.CATEGORY);
+    if (StringUtils.isNotBlank(category)) {
+      reqMap.put(JsonKey.CATEGORY, category);
+    }
+    String fields = (String) request.getContext().get(JsonKey.FIELDS);
+    boolean withData =
+        StringUtils.isBlank(fields) || Arrays.asList(fields.split(",")).contains(JsonKey.DATA);
+    String limit = (String) request.getContext().get(JsonKey.LIMIT);
+    String pagingState = (String) request.getContext().get(JsonKey.PAGING_STATE);
     Map<String, Object> result = new HashMap<>();
-    result.put(JsonKey.USER_FEED, feedList);
+    if (StringUtils.isBlank(limit) && StringUtils.isBlank(pagingState)) {
+      result.put(JsonKey.USER_FEED, feedService.getFeedsByProperties(reqMap, withData, context));
+    } else {
+      int pageSize =
+          NumberUtils.toInt(limit, Integer.parseInt(ProjectUtil.getConfigValue(JsonKey.FEED_LIMIT)));
+      Response page = feedService.getFeedsByPage(reqMap, pagingState, pageSize, withData, context);
+      result.put(JsonKey.USER_FEED, page.get(JsonKey.RESPONSE));
+      result.put(JsonKey.PAGING_STATE, page.get(JsonKey.PAGING_STATE));
+    }
     Response response = new Response();
     response.put(JsonKey.RESPONSE, result);
     sender().tell(response, self());
@@ -65,7 +82,7 @@ public class UserFeedActor extends BaseActor {
     // Delete the old user feed
     Map<String, Object> reqMap = new WeakHashMap<>(2);
     reqMap.put(JsonKey.USER_ID, feed.getUserId());
-    List<Feed> feedList = feedService.getFeedsByProperties(reqMap, context);
+    List<Feed> feedList = feedService.getFeedsByProperties(reqMap, false, context);
     if (feedList.size() >= Integer.parseInt(ProjectUtil.getConfigValue(JsonKey.FEED_LIMIT))) {
       feedList.sort(Comparator.comparing(Feed::getCreatedOn));
       Feed delRecord = feedList.get(0);
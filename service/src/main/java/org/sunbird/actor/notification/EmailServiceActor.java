@@ -1,18 +1,23 @@
 package org.sunbird.actor.notification;
 
+import akka.actor.ActorRef;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang.StringUtils;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.Velocity;
 import org.sunbird.actor.BackgroundOperations;
 import org.sunbird.actor.core.BaseActor;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
-import org.sunbird.mail.SendEmail;
-import org.sunbird.mail.SendgridConnection;
+import org.sunbird.mail.SmtpSenderPool;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -22,18 +27,9 @@ import org.sunbird.util.ProjectUtil;
 public class EmailServiceActor extends BaseActor {
 
   private final NotificationService notificationService = new NotificationService();
-  private final SendgridConnection connection = new SendgridConnection();
-  private final String resetInterval =
-      ProjectUtil.getConfigValue("sendgrid_connection_reset_interval");
-  private volatile long timer;
 
   @Override
   public void onReceive(Request request) throws Throwable {
-    if (null == connection.getTransport()) {
-      connection.createConnection(request.getRequestContext());
-      // set timer value
-      timer = System.currentTimeMillis();
-    }
     if (request.getOperation().equalsIgnoreCase(BackgroundOperations.emailService.name())) {
       sendMail(request);
     } else {
@@ -74,66 +70,132 @@ public class EmailServiceActor extends BaseActor {
       // request.
       Map<String, Object> recipientSearchQuery =
           (Map<String, Object>) request.get(JsonKey.RECIPIENT_SEARCH_QUERY);
-      List<String> emailList =
-          notificationService.validateAndGetEmailList(
-              userIds, emails, recipientSearchQuery, requestContext);
-      notificationService.updateFirstNameAndOrgNameInEmailContext(
-          userIds, emailList, request, requestContext);
-
-      if (CollectionUtils.isNotEmpty(emailList)) {
+      Iterator<List<String>> emailChunks =
+          notificationService.getRecipientChunks(
+              userIds, emails, recipientSearchQuery, JsonKey.EMAIL, requestContext);
+      if (emailChunks.hasNext()) {
+        List<String> emailList = emailChunks.next();
+        if (!emailChunks.hasNext()) {
+          notificationService.updateFirstNameAndOrgNameInEmailContext(
+              userIds, emailList, request, requestContext);
+        }
         String template =
             notificationService.getEmailTemplateFile(
                 (String) request.get(JsonKey.EMAIL_TEMPLATE_TYPE), requestContext);
-        sendMail(request, emailList, template, requestContext);
+        String body = renderTemplate(request, template, requestContext);
+        if (null != body) {
+          CompletableFuture<Boolean> sent =
+              sendRemaining(
+                  sendMail(request, emailList, body, requestContext),
+                  emailChunks,
+                  request,
+                  body,
+                  requestContext,
+                  getContext().dispatcher());
+          replyOnComplete(sent, requestContext);
+          return;
+        }
       }
     }
 
+    sender().tell(getSuccessResponse(), self());
+  }
+
+  /**
+   * Sends the next chunk once the previous one is sent, one chunk is sending while the next is
+   * resolved, which keeps memory flat. The chunks are resolved on the given dispatcher, not on the
+   * SMTP threads. A failed chunk does not stop the remaining ones, the returned future completes
+   * with false if any chunk failed.
+   */
+  private CompletableFuture<Boolean> sendRemaining(
+      CompletableFuture<Boolean> sent,
+      Iterator<List<String>> emailChunks,
+      Map<String, Object> request,
+      String body,
+      RequestContext requestContext,
+      Executor dispatcher) {
+    return sent.handle(
+            (result, failure) -> {
+              if (null != failure) {
+                Throwable cause =
+                    failure instanceof CompletionException ? failure.getCause() : failure;
+                logger.error(
+                    requestContext, "EmailServiceActor:sendMail: " + cause.getMessage(), cause);
+              }
+              return null == failure && Boolean.TRUE.equals(result);
+            })
+        .thenComposeAsync(
+            chunkSent ->
+                emailChunks.hasNext()
+                    ? sendRemaining(
+                            sendMail(request, emailChunks.next(), body, requestContext),
+                            emailChunks,
+                            request,
+                            body,
+                            requestContext,
+                            dispatcher)
+                        .thenApply(remainingSent -> chunkSent && remainingSent)
+                    : CompletableFuture.completedFuture(chunkSent),
+            dispatcher);
+  }
+
+  private void replyOnComplete(CompletableFuture<Boolean> sent, RequestContext requestContext) {
+    ActorRef sender = sender();
+    ActorRef self = self();
+    sent.whenComplete(
+        (allSent, failure) -> {
+          if (null != failure) {
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            logger.error(
+                requestContext, "EmailServiceActor:sendMail: " + cause.getMessage(), cause);
+            sender.tell(cause, self);
+          } else if (!allSent) {
+            logger.info(requestContext, "EmailServiceActor:sendMail: email not sent to all");
+            sender.tell(
+                new ProjectCommonException(
+                    ResponseCode.internalError.getErrorCode(),
+                    ResponseCode.internalError.getErrorMessage(),
+                    ResponseCode.SERVER_ERROR.getResponseCode()),
+                self);
+          } else {
+            sender.tell(getSuccessResponse(), self);
+          }
+        });
+  }
+
+  private Response getSuccessResponse() {
     Response res = new Response();
     res.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
-    sender().tell(res, self());
+    return res;
   }
 
-  private void sendMail(
-      Map<String, Object> request,
-      List<String> emails,
-      String template,
-      RequestContext requestContext) {
+  private String renderTemplate(
+      Map<String, Object> request, String template, RequestContext requestContext) {
     try {
-      SendEmail sendEmail = new SendEmail();
       Velocity.init();
       VelocityContext context = ProjectUtil.getContext(request);
       StringWriter writer = new StringWriter();
       Velocity.evaluate(context, writer, "SimpleVelocity", template);
-      long interval = 60000L;
-      if (StringUtils.isNotBlank(resetInterval)) {
-        interval = Long.parseLong(resetInterval);
-      }
-      if (null == connection.getTransport()
-          || ((System.currentTimeMillis()) - timer >= interval)
-          || (!connection.getTransport().isConnected())) {
-        resetConnection(requestContext);
-      }
-      sendEmail.send(
-          emails.toArray(new String[emails.size()]),
-          (String) request.get(JsonKey.SUBJECT),
-          context,
-          writer,
-          connection.getSession(),
-          connection.getTransport());
+      return writer.toString();
     } catch (Exception e) {
       logger.error(
           requestContext,
-          "EmailServiceActor:sendMail: Exception occurred with message = " + e.getMessage(),
+          "EmailServiceActor:renderTemplate: Exception occurred with message = " + e.getMessage(),
           e);
+      return null;
     }
   }
 
-  private void resetConnection(RequestContext context) {
+  private CompletableFuture<Boolean> sendMail(
+      Map<String, Object> request,
+      List<String> emails,
+      String body,
+      RequestContext requestContext) {
     logger.info(
-        context,
-        "EmailServiceActor:resetConnection : SMTP Transport client connection is closed or timed out. Create new connection.");
-    connection.createConnection(context);
-    // set timer value
-    timer = System.currentTimeMillis();
+        requestContext,
+        "EmailServiceActor:sendMail: Sending email to = " + emails.size() + " email(s)");
+    // sent in BCC groups on the SMTP pool, failed groups are retried and dead lettered there
+    return SmtpSenderPool.getInstance()
+        .send(emails, (String) request.get(JsonKey.SUBJECT), body, requestContext);
   }
 }
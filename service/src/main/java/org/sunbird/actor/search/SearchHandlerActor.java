@@ -34,6 +34,7 @@ import org.sunbird.util.PropertiesCache;
 import org.sunbird.util.UserUtility;
 import org.sunbird.util.Util;
 import org.sunbird.util.search.FuzzySearchManager;
+import org.sunbird.util.search.OrgNameCache;
 import scala.concurrent.Future;
 
 public class SearchHandlerActor extends BaseActor {
@@ -141,47 +142,17 @@ public class SearchHandlerActor extends BaseActor {
     List<Map<String, Object>> userMapList = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
     List<String> fields = (List<String>) searchQueryMap.get(JsonKey.FIELDS);
     Map<String, Object> userDefaultFieldValue = Util.getUserDefaultValue();
+    Set<String> userDefaultFields = new HashSet<>(userDefaultFieldValue.keySet());
     getDefaultValues(userDefaultFieldValue, fields);
-    for (Map<String, Object> userMap : userMapList) {
-      UserUtility.decryptUserDataFrmES(userMap);
-      if (!searchVersion.equalsIgnoreCase(ActorOperations.USER_SEARCH_V3.getValue())) {
-        updateUserSearchResponseWithOrgLevelRole(userMap, request.getRequestContext());
-      }
-      userMap.remove(JsonKey.ENC_EMAIL);
-      userMap.remove(JsonKey.ENC_PHONE);
-      Map<String, Object> userTypeDetail;
-      List<String> locationIds;
-      List<Map<String, String>> userLocList;
-      if (request.getOperation().equalsIgnoreCase(ActorOperations.USER_SEARCH.getValue())) {
-        if (userMap.containsKey(JsonKey.PROFILE_USERTYPE)) {
-          if (MapUtils.isNotEmpty((Map<String, Object>) userMap.get(JsonKey.PROFILE_USERTYPE))) {
-            userTypeDetail = (Map<String, Object>) userMap.get(JsonKey.PROFILE_USERTYPE);
-            userMap.put(JsonKey.USER_TYPE, userTypeDetail.get(JsonKey.TYPE));
-            userMap.put(JsonKey.USER_SUB_TYPE, userTypeDetail.get(JsonKey.SUB_TYPE));
-          } else {
-            userMap.put(JsonKey.USER_TYPE, null);
-            userMap.put(JsonKey.USER_SUB_TYPE, null);
-          }
-        }
-        if (userMap.containsKey(JsonKey.PROFILE_LOCATION)) {
-          if (CollectionUtils.isNotEmpty(
-              (List<Map<String, String>>) userMap.get(JsonKey.PROFILE_LOCATION))) {
-            userLocList = (List<Map<String, String>>) userMap.get(JsonKey.PROFILE_LOCATION);
-            locationIds =
-                userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
-            userMap.put(JsonKey.LOCATION_IDS, locationIds);
-          } else {
-            userMap.put(JsonKey.LOCATION_IDS, null);
-          }
-        }
-        userMap.putAll(userDefaultFieldValue);
-      } else {
-        userMap.remove(JsonKey.USER_TYPE);
-        userMap.remove(JsonKey.USER_SUB_TYPE);
-        userMap.remove(JsonKey.LOCATION_IDS);
-        Util.getUserDefaultValue().keySet().stream().forEach(key -> userMap.remove(key));
-      }
-    }
+    UserUtility.decryptUserDataFrmES(userMapList);
+    userMapList.forEach(
+        userMap ->
+            updateUserSearchHit(
+                userMap,
+                searchVersion,
+                userDefaultFieldValue,
+                userDefaultFields,
+                request.getRequestContext()));
     String requestedFields = (String) request.getContext().get(JsonKey.FIELDS);
     updateUserDetailsWithOrgName(requestedFields, userMapList, request.getRequestContext());
     response.put(JsonKey.RESPONSE, result);
@@ -190,6 +161,51 @@ public class SearchHandlerActor extends BaseActor {
         searchDto, ProjectUtil.EsType.user.getTypeName(), result, request.getContext());
   }
 
+  private void updateUserSearchHit(
+      Map<String, Object> userMap,
+      String searchVersion,
+      Map<String, Object> userDefaultFieldValue,
+      Set<String> userDefaultFields,
+      RequestContext context) {
+    if (!searchVersion.equalsIgnoreCase(ActorOperations.USER_SEARCH_V3.getValue())) {
+      updateUserSearchResponseWithOrgLevelRole(userMap, context);
+    }
+    userMap.remove(JsonKey.ENC_EMAIL);
+    userMap.remove(JsonKey.ENC_PHONE);
+    Map<String, Object> userTypeDetail;
+    List<String> locationIds;
+    List<Map<String, String>> userLocList;
+    if (searchVersion.equalsIgnoreCase(ActorOperations.USER_SEARCH.getValue())) {
+      if (userMap.containsKey(JsonKey.PROFILE_USERTYPE)) {
+        if (MapUtils.isNotEmpty((Map<String, Object>) userMap.get(JsonKey.PROFILE_USERTYPE))) {
+          userTypeDetail = (Map<String, Object>) userMap.get(JsonKey.PROFILE_USERTYPE);
+          userMap.put(JsonKey.USER_TYPE, userTypeDetail.get(JsonKey.TYPE));
+          userMap.put(JsonKey.USER_SUB_TYPE, userTypeDetail.get(JsonKey.SUB_TYPE));
+        } else {
+          userMap.put(JsonKey.USER_TYPE, null);
+          userMap.put(JsonKey.USER_SUB_TYPE, null);
+        }
+      }
+      if (userMap.containsKey(JsonKey.PROFILE_LOCATION)) {
+        if (CollectionUtils.isNotEmpty(
+            (List<Map<String, String>>) userMap.get(JsonKey.PROFILE_LOCATION))) {
+          userLocList = (List<Map<String, String>>) userMap.get(JsonKey.PROFILE_LOCATION);
+          locationIds =
+              userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
+          userMap.put(JsonKey.LOCATION_IDS, locationIds);
+        } else {
+          userMap.put(JsonKey.LOCATION_IDS, null);
+        }
+      }
+      userMap.putAll(userDefaultFieldValue);
+    } else {
+      userMap.remove(JsonKey.USER_TYPE);
+      userMap.remove(JsonKey.USER_SUB_TYPE);
+      userMap.remove(JsonKey.LOCATION_IDS);
+      userDefaultFields.forEach(userMap::remove);
+    }
+  }
+
   private void updateUserSearchResponseWithOrgLevelRole(
       Map<String, Object> userMap, RequestContext context) {
     try {
@@ -360,17 +376,14 @@ public class SearchHandlerActor extends BaseActor {
           filteredRequestedFields.add(JsonKey.ID);
         }
         if (fields.contains(JsonKey.ORG_NAME.toLowerCase())) {
-          Map<String, Map<String, Object>> filteredOrg = fetchOrgDetails(userMapList, context);
+          Map<String, String> orgNames = fetchOrgNames(userMapList, context);
           userMapList
               .stream()
               .forEach(
                   userMap -> {
                     String rootOrgId = (String) userMap.get(JsonKey.ROOT_ORG_ID);
-                    if (StringUtils.isNotBlank(rootOrgId)) {
-                      Map<String, Object> org = filteredOrg.get(rootOrgId);
-                      if (null != org) {
-                        userMap.put(JsonKey.ROOT_ORG_NAME, org.get(JsonKey.ORG_NAME));
-                      }
+                    if (StringUtils.isNotBlank(rootOrgId) && orgNames.containsKey(rootOrgId)) {
+                      userMap.put(JsonKey.ROOT_ORG_NAME, orgNames.get(rootOrgId));
                     }
                     List<Map<String, Object>> userOrgList =
                         (List<Map<String, Object>>) userMap.get(JsonKey.ORGANISATIONS);
@@ -380,11 +393,9 @@ public class SearchHandlerActor extends BaseActor {
                           .forEach(
                               userOrg -> {
                                 String userOrgId = (String) userOrg.get(JsonKey.ORGANISATION_ID);
-                                if (StringUtils.isNotBlank(userOrgId)) {
-                                  Map<String, Object> org = filteredOrg.get(userOrgId);
-                                  if (null != org) {
-                                    userOrg.put(JsonKey.ORG_NAME, org.get(JsonKey.ORG_NAME));
-                                  }
+                                if (StringUtils.isNotBlank(userOrgId)
+                                    && orgNames.containsKey(userOrgId)) {
+                                  userOrg.put(JsonKey.ORG_NAME, orgNames.get(userOrgId));
                                 }
                               });
                     }
@@ -401,7 +412,7 @@ public class SearchHandlerActor extends BaseActor {
   }
 
   @SuppressWarnings("unchecked")
-  private Map<String, Map<String, Object>> fetchOrgDetails(
+  private Map<String, String> fetchOrgNames(
       List<Map<String, Object>> userMapList, RequestContext context) {
     Set<String> orgIdList = new HashSet<>();
     userMapList
@@ -427,16 +438,27 @@ public class SearchHandlerActor extends BaseActor {
               }
             });
 
-    List<String> orgIds = new ArrayList<>(orgIdList);
-    List<Map<String, Object>> organisations = orgService.getOrgByIds(orgIds, context);
-    Map<String, Map<String, Object>> orgMap = new HashMap<>();
-    organisations
-        .stream()
-        .forEach(
-            org -> {
-              orgMap.put((String) org.get(JsonKey.ID), org);
-            });
-    return orgMap;
+    // org names are served from the shared cache, only the missing ones are fetched from ES
+    Map<String, String> orgNames = OrgNameCache.getOrgNames(orgIdList);
+    List<String> orgIds =
+        orgIdList
+            .stream()
+            .filter(orgId -> !orgNames.containsKey(orgId))
+            .collect(Collectors.toList());
+    if (CollectionUtils.isNotEmpty(orgIds)) {
+      List<Map<String, Object>> organisations =
+          orgService.getOrgByIds(orgIds, Arrays.asList(JsonKey.ID, JsonKey.ORG_NAME), context);
+      organisations
+          .stream()
+          .forEach(
+              org -> {
+                String orgId = (String) org.get(JsonKey.ID);
+                String orgName = (String) org.get(JsonKey.ORG_NAME);
+                orgNames.put(orgId, orgName);
+                OrgNameCache.put(orgId, orgName);
+              });
+    }
+    return orgNames;
   }
 
   private void generateSearchTelemetryEvent(
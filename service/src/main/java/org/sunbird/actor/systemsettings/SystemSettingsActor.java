@@ -4,10 +4,12 @@ import java.util.Map;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.systemsettings.SystemSetting;
+import org.sunbird.notification.utils.SmsTemplateMatcher;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.service.systemsettings.SystemSettingsService;
+import org.sunbird.service.systemsettings.SystemSettingsSnapshot;
 
 public class SystemSettingsActor extends BaseActor {
 
@@ -50,6 +52,11 @@ public class SystemSettingsActor extends BaseActor {
   private void setSystemSetting(Request actorMessage) {
     Map<String, Object> request = actorMessage.getRequest();
     Response response = service.setSystemSettings(request, actorMessage.getRequestContext());
+    SystemSettingsSnapshot.invalidate();
+    if (JsonKey.SMS_TEMPLATE_CONFIG.equals(request.get(JsonKey.ID))
+        || JsonKey.SMS_TEMPLATE_CONFIG.equals(request.get(JsonKey.FIELD))) {
+      SmsTemplateMatcher.refresh();
+    }
     sender().tell(response, self());
   }
 }
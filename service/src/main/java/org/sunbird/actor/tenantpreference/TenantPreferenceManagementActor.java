@@ -8,6 +8,7 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.service.tenantpreference.TenantPreferenceService;
+import org.sunbird.util.ConfigCache;
 
 public class TenantPreferenceManagementActor extends BaseActor {
 
@@ -70,6 +71,7 @@ public class TenantPreferenceManagementActor extends BaseActor {
     Map<String, Object> data = (Map<String, Object>) req.get(JsonKey.DATA);
     String updatedBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
     preferenceService.updatePreference(orgId, key, data, updatedBy, context);
+    ConfigCache.invalidateTenantPreference(orgId, key);
 
     finalResponse.getResult().put(JsonKey.RESPONSE, JsonKey.SUCCESS);
     sender().tell(finalResponse, self());
@@ -91,6 +93,7 @@ public class TenantPreferenceManagementActor extends BaseActor {
     Map<String, Object> data = (Map<String, Object>) req.get(JsonKey.DATA);
     String requestedBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
     preferenceService.createPreference(orgId, key, data, requestedBy, context);
+    ConfigCache.invalidateTenantPreference(orgId, key);
 
     Response finalResponse = new Response();
     finalResponse.getResult().put(JsonKey.ORG_ID, orgId);
@@ -1,8 +1,11 @@
 package org.sunbird.actor.user;
 
 import akka.actor.ActorRef;
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +34,7 @@ import org.sunbird.util.UserFlagUtil;
 import org.sunbird.util.Util;
 import org.sunbird.util.user.UserActorOperations;
 import org.sunbird.util.user.UserUtil;
+import scala.concurrent.Future;
 
 public class SSOUserCreateActor extends UserBaseActor {
 
@@ -73,6 +77,7 @@ public class SSOUserCreateActor extends UserBaseActor {
    */
   private void createSSOUser(Request actorMessage) {
     logger.debug(actorMessage.getRequestContext(), "SSOUserCreateActor:createSSOUser: starts : ");
+    long startTime = System.currentTimeMillis();
     actorMessage.toLower();
     Map<String, Object> userMap = actorMessage.getRequest();
     String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
@@ -86,11 +91,18 @@ public class SSOUserCreateActor extends UserBaseActor {
     }
     validateAndGetLocationCodes(actorMessage);
     ssoUserService.validateOrgIdAndPrimaryRecoveryKeys(userMap, actorMessage);
-    processSSOUser(userMap, callerId, actorMessage);
+    Map<String, Long> stageLatency = new LinkedHashMap<>();
+    stageLatency.put(JsonKey.VALIDATE, System.currentTimeMillis() - startTime);
+    processSSOUser(userMap, callerId, actorMessage, stageLatency);
     logger.debug(actorMessage.getRequestContext(), "SSOUserCreateActor:createSSOUser: ends : ");
   }
 
-  private void processSSOUser(Map<String, Object> userMap, String callerId, Request request) {
+  private void processSSOUser(
+      Map<String, Object> userMap,
+      String callerId,
+      Request request,
+      Map<String, Long> stageLatency) {
+    long startTime = System.currentTimeMillis();
     Map<String, Object> requestMap;
     UserUtil.setUserDefaultValue(userMap, request.getRequestContext());
     // Update external ids provider with OrgId
@@ -124,7 +136,8 @@ public class SSOUserCreateActor extends UserBaseActor {
           userRoleService.updateUserRole(requestMap, request.getRequestContext());
       requestMap.put(JsonKey.ROLES, formattedRoles);
     }
-    Response resp = null;
+    stageLatency.put(JsonKey.CREATE, System.currentTimeMillis() - startTime);
+    Future<Response> attributesFuture;
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       Map<String, Object> userRequest = new HashMap<>();
       userRequest.putAll(userMap);
@@ -134,13 +147,48 @@ public class SSOUserCreateActor extends UserBaseActor {
       if (StringUtils.isNotBlank(callerId) && callerId.equalsIgnoreCase(JsonKey.BULK_USER_UPLOAD)) {
         userRequest.put(JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SYSTEM_UPLOAD);
       }
-      resp =
+      attributesFuture =
           userService.saveUserAttributes(
               userRequest, userProfileUpdateActor, request.getRequestContext());
     } else {
       logger.info(
           request.getRequestContext(), "SSOUserCreateActor:processSSOUser: User creation failure");
+      attributesFuture = Futures.successful(null);
     }
+    // the actor is released here, the response is sent once the user attributes are saved
+    long attributesStartTime = System.currentTimeMillis();
+    Future<Object> future =
+        attributesFuture.map(
+            new Mapper<Response, Object>() {
+              @Override
+              public Object apply(Response resp) {
+                stageLatency.put(
+                    JsonKey.USER_ATTRIBUTES, System.currentTimeMillis() - attributesStartTime);
+                return onUserAttributesSaved(
+                    resp, response, requestMap, userMap, userId, request, stageLatency);
+              }
+            },
+            getContext().dispatcher());
+    pipeResponse(
+        future,
+        () -> {
+          requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
+          if (StringUtils.isNotBlank(callerId)) {
+            sendEmailAndSms(requestMap, request.getRequestContext());
+          }
+          generateUserTelemetry(userMap, request, userId, JsonKey.CREATE);
+        },
+        request.getRequestContext());
+  }
+
+  private Response onUserAttributesSaved(
+      Response resp,
+      Response response,
+      Map<String, Object> requestMap,
+      Map<String, Object> userMap,
+      String userId,
+      Request request,
+      Map<String, Long> stageLatency) {
     Map<String, Object> esResponse = new HashMap<>();
     if (null != resp) {
       esResponse.putAll((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE));
@@ -149,26 +197,18 @@ public class SSOUserCreateActor extends UserBaseActor {
           JsonKey.ERRORS,
           ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE)).get(JsonKey.ERRORS));
     }
-    Response syncResponse = new Response();
-    syncResponse.putAll(response.getResult());
-
     if (null != resp && userMap.containsKey("sync") && (boolean) userMap.get("sync")) {
+      long esStartTime = System.currentTimeMillis();
       Map<String, Object> userDetails =
           userService.getUserDetailsForES(userId, request.getRequestContext());
       userService.saveUserToES(
           (String) userDetails.get(JsonKey.USER_ID), userDetails, request.getRequestContext());
-      sender().tell(syncResponse, sender());
-    } else {
-      if (null != resp) {
-        saveUserDetailsToEs(esResponse, request.getRequestContext());
-      }
-      sender().tell(response, self());
-    }
-    requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
-    if (StringUtils.isNotBlank(callerId)) {
-      sendEmailAndSms(requestMap, request.getRequestContext());
+      stageLatency.put(JsonKey.SYNC, System.currentTimeMillis() - esStartTime);
+    } else if (null != resp) {
+      saveUserDetailsToEs(esResponse, request.getRequestContext());
     }
-    generateUserTelemetry(userMap, request, userId, JsonKey.CREATE);
+    response.setStageLatency(stageLatency);
+    return response;
   }
 
   private void setStateValidation(
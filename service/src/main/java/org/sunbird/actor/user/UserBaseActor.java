@@ -1,6 +1,7 @@
 package org.sunbird.actor.user;
 
 import akka.actor.ActorRef;
+import akka.dispatch.OnComplete;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.FormApiUtil;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
+import scala.concurrent.Future;
 
 public abstract class UserBaseActor extends BaseActor {
 
@@ -47,6 +49,34 @@ public abstract class UserBaseActor extends BaseActor {
   @Named("location_actor")
   private ActorRef locationActor;
 
+  /**
+   * Sends the response to the sender once the future completes, without blocking the actor. A
+   * failure is sent as the exception, as BaseActor does for exceptions thrown by onReceive. After a
+   * successful reply, afterReply is run on the dispatcher, its errors are only logged.
+   */
+  protected void pipeResponse(Future<Object> future, Runnable afterReply, RequestContext context) {
+    ActorRef sender = sender();
+    ActorRef self = self();
+    future.onComplete(
+        new OnComplete<Object>() {
+          @Override
+          public void onComplete(Throwable failure, Object response) {
+            if (null != failure) {
+              logger.error(context, "UserBaseActor:pipeResponse: " + failure.getMessage(), failure);
+              sender.tell(failure, self);
+              return;
+            }
+            sender.tell(response, self);
+            try {
+              afterReply.run();
+            } catch (Exception e) {
+              logger.error(context, "UserBaseActor:pipeResponse: " + e.getMessage(), e);
+            }
+          }
+        },
+        getContext().dispatcher());
+  }
+
   protected void generateUserTelemetry(
       Map<String, Object> userMap, Request request, String userId, String operationType) {
     Request telemetryReq = new Request();
@@ -12,8 +12,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.inject.Named;
-import org.apache.kafka.clients.producer.Producer;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.sunbird.auth.verifier.AccessTokenValidator;
 import org.sunbird.client.systemsettings.SystemSettingClient;
 import org.sunbird.client.systemsettings.impl.SystemSettingClientImpl;
@@ -50,7 +48,6 @@ import org.sunbird.util.user.UserUtil;
 
 public class UserMergeActor extends UserBaseActor {
   private String topic = null;
-  private Producer<String, String> producer = null;
   private final ObjectMapper objectMapper = new ObjectMapper();
   private final UserService userService = UserServiceImpl.getInstance();
   private final SSOManager keyCloakService = SSOServiceFactory.getInstance();
@@ -67,7 +64,7 @@ public class UserMergeActor extends UserBaseActor {
   @Override
   public void onReceive(Request userRequest) throws Throwable {
     Util.initializeContext(userRequest, TelemetryEnvKey.USER);
-    if (producer == null) {
+    if (topic == null) {
       initKafkaClient();
     }
     updateUserMergeDetails(userRequest);
@@ -206,12 +203,17 @@ public class UserMergeActor extends UserBaseActor {
 
     content = objectMapper.writeValueAsString(userCertMergeRequest);
     logger.info(context, "UserMergeActor:mergeCertCourseDetails: Kafka producer topic::" + content);
-    ProducerRecord<String, String> record = new ProducerRecord<>(topic, content);
-    if (producer != null) {
-      producer.send(record);
-    } else {
-      logger.info(
-          context, "UserMergeActor:mergeCertCourseDetails: Kafka producer is not initialised.");
+    try {
+      KafkaClient.send(content, topic);
+    } catch (Exception e) {
+      // the merge is already committed, the event is logged so that it can be sent again
+      logger.error(
+          context,
+          "UserMergeActor:mergeCertCourseDetails: Kafka event not sent. "
+              + e.getMessage()
+              + ", event = "
+              + content,
+          e);
     }
   }
 
@@ -283,17 +285,12 @@ public class UserMergeActor extends UserBaseActor {
     }
   }
 
-  /** Initialises Kafka producer required for dispatching messages on Kafka. */
+  /** Reads the Kafka topic required for dispatching messages on Kafka. */
   private void initKafkaClient() {
     logger.info("UserMergeActor:initKafkaClient: starts = ");
     Config config = ConfigUtil.getConfig();
     topic = config.getString(KafkaConfigConstants.SUNBIRD_USER_CERT_KAFKA_TOPIC);
     logger.info("UserMergeActor:initKafkaClient: topic = " + topic);
-    try {
-      producer = KafkaClient.getProducer();
-    } catch (Exception e) {
-      logger.error("UserMergeActor:initKafkaClient: An exception occurred." + e.getMessage(), e);
-    }
   }
 
   private String deactivateMergeeFromKC(String userId, RequestContext context) {
@@ -1,6 +1,8 @@
 package org.sunbird.actor.user;
 
 import akka.actor.ActorRef;
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
@@ -41,6 +43,7 @@ import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.*;
 import org.sunbird.util.user.UserActorOperations;
 import org.sunbird.util.user.UserUtil;
+import scala.concurrent.Future;
 
 public class UserUpdateActor extends UserBaseActor {
 
@@ -82,6 +85,7 @@ public class UserUpdateActor extends UserBaseActor {
   }
 
   private void updateUser(Request actorMessage) {
+    long startTime = System.currentTimeMillis();
     actorMessage.toLower();
     String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
     Map<String, Object> userMap = actorMessage.getRequest();
@@ -198,13 +202,16 @@ public class UserUpdateActor extends UserBaseActor {
       resetPasswordLink = true;
     }
 
+    Map<String, Long> stageLatency = new LinkedHashMap<>();
+    stageLatency.put(JsonKey.VALIDATE, System.currentTimeMillis() - startTime);
+    long updateStartTime = System.currentTimeMillis();
     Response response = userService.updateUser(requestMap, actorMessage.getRequestContext());
     userLookupService.insertRecords(userLookUpData, actorMessage.getRequestContext());
     removeUserLookupEntry(userLookUpData, userDbRecord, actorMessage.getRequestContext());
     if (StringUtils.isNotBlank(callerId)) {
       userMap.put(JsonKey.ROOT_ORG_ID, actorMessage.getContext().get(JsonKey.ROOT_ORG_ID));
     }
-    Response resp = null;
+    Future<Response> attributesFuture = Futures.successful(null);
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       List<Map<String, Object>> orgList = new ArrayList();
       if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.ORG_EXTERNAL_ID))) {
@@ -261,29 +268,48 @@ public class UserUpdateActor extends UserBaseActor {
       userRequest.put(JsonKey.OPERATION_TYPE, JsonKey.UPDATE);
       userRequest.put(JsonKey.CALLER_ID, callerId);
 
-      resp =
+      attributesFuture =
           userService.saveUserAttributes(
               userRequest, userProfileUpdateActor, actorMessage.getRequestContext());
     } else {
       logger.info(
           actorMessage.getRequestContext(), "UserUpdateActor:updateUser: User update failure");
     }
-    if (null != resp) {
-      response.put(
-          JsonKey.ERRORS,
-          ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE)).get(JsonKey.ERRORS));
-    }
-    sender().tell(response, self());
-    if (resetPasswordLink) {
-      sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
-    }
-    if (null != resp) {
-      Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
-      completeUserDetails.putAll(requestMap);
-      saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
-    }
-    generateUserTelemetry(
-        userMap, actorMessage, (String) userMap.get(JsonKey.USER_ID), JsonKey.UPDATE);
+    stageLatency.put(JsonKey.UPDATE, System.currentTimeMillis() - updateStartTime);
+    // the actor is released here, the response is sent once the user attributes are saved
+    long attributesStartTime = System.currentTimeMillis();
+    Future<Object> future =
+        attributesFuture.map(
+            new Mapper<Response, Object>() {
+              @Override
+              public Object apply(Response resp) {
+                stageLatency.put(
+                    JsonKey.USER_ATTRIBUTES, System.currentTimeMillis() - attributesStartTime);
+                if (null != resp) {
+                  response.put(
+                      JsonKey.ERRORS,
+                      ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE))
+                          .get(JsonKey.ERRORS));
+                  Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
+                  completeUserDetails.putAll(requestMap);
+                  saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
+                }
+                response.setStageLatency(stageLatency);
+                return response;
+              }
+            },
+            getContext().dispatcher());
+    boolean sendResetPasswordLink = resetPasswordLink;
+    pipeResponse(
+        future,
+        () -> {
+          if (sendResetPasswordLink) {
+            sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
+          }
+          generateUserTelemetry(
+              userMap, actorMessage, (String) userMap.get(JsonKey.USER_ID), JsonKey.UPDATE);
+        },
+        actorMessage.getRequestContext());
   }
 
   private <T> Predicate<T> distinctByValue(Function<? super T, ?> keyExtractor) {
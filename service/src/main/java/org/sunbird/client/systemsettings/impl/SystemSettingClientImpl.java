@@ -18,12 +18,14 @@ import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import org.sunbird.service.systemsettings.SystemSettingsSnapshot;
 import scala.concurrent.Await;
 import scala.concurrent.Future;
 import scala.concurrent.duration.Duration;
 
 public class SystemSettingClientImpl implements SystemSettingClient {
   private final LoggerUtil logger = new LoggerUtil(SystemSettingClientImpl.class);
+  private static final ObjectMapper objectMapper = new ObjectMapper();
   private static SystemSettingClient systemSettingClient = null;
 
   public static SystemSettingClient getInstance() {
@@ -37,7 +39,10 @@ public class SystemSettingClientImpl implements SystemSettingClient {
   public SystemSetting getSystemSettingByField(
       ActorRef actorRef, String field, RequestContext context) {
     logger.info(context, "SystemSettingClientImpl:getSystemSettingByField: field is " + field);
-    SystemSetting systemSetting = getSystemSetting(actorRef, JsonKey.FIELD, field, context);
+    SystemSetting systemSetting = SystemSettingsSnapshot.getInstance().get(field);
+    if (null == systemSetting) {
+      systemSetting = getSystemSetting(actorRef, JsonKey.FIELD, field, context);
+    }
     return systemSetting;
   }
 
@@ -48,28 +53,47 @@ public class SystemSettingClientImpl implements SystemSettingClient {
       String key,
       TypeReference typeReference,
       RequestContext context) {
-    SystemSetting systemSetting = getSystemSettingByField(actorRef, field, context);
-    ObjectMapper objectMapper = new ObjectMapper();
-    if (systemSetting != null) {
-      try {
-        Map<String, Object> valueMap = objectMapper.readValue(systemSetting.getValue(), Map.class);
-        String[] keys = key.split("\\.");
-        int numKeys = keys.length;
-        for (int i = 0; i < numKeys - 1; i++) {
-          valueMap = objectMapper.convertValue(valueMap.get(keys[i]), Map.class);
+    // parsed once per snapshot version, the actor is asked only for a field missing in it
+    Object value = SystemSettingsSnapshot.getInstance().getParsedValue(field);
+    try {
+      if (null == value) {
+        SystemSetting systemSetting = getSystemSetting(actorRef, JsonKey.FIELD, field, context);
+        if (null == systemSetting) {
+          return null;
         }
-        return (T) objectMapper.convertValue(valueMap.get(keys[numKeys - 1]), typeReference);
-      } catch (Exception e) {
-        logger.error(
-            context,
-            "SystemSettingClientImpl:getSystemSettingByFieldAndKey: Exception occurred with error message = "
-                + e.getMessage(),
-            e);
+        value = parse(systemSetting.getValue());
+      }
+      if (!(value instanceof Map)) {
+        // not a JSON object, there are no keys to resolve
+        return (T) objectMapper.convertValue(value, typeReference);
+      }
+      Map<String, Object> valueMap = (Map<String, Object>) value;
+      String[] keys = key.split("\\.");
+      int numKeys = keys.length;
+      for (int i = 0; i < numKeys - 1; i++) {
+        valueMap = objectMapper.convertValue(valueMap.get(keys[i]), Map.class);
       }
+      return (T) objectMapper.convertValue(valueMap.get(keys[numKeys - 1]), typeReference);
+    } catch (ProjectCommonException pce) {
+      throw pce;
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "SystemSettingClientImpl:getSystemSettingByFieldAndKey: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
     }
     return null;
   }
 
+  private static Object parse(String value) {
+    try {
+      return objectMapper.readValue(value, Map.class);
+    } catch (Exception e) {
+      return value;
+    }
+  }
+
   private SystemSetting getSystemSetting(
       ActorRef actorRef, String param, Object value, RequestContext context) {
     Request request = new Request();
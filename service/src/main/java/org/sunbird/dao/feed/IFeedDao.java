@@ -1,5 +1,6 @@
 package org.sunbird.dao.feed;
 
+import java.util.List;
 import java.util.Map;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -12,5 +13,23 @@ public interface IFeedDao {
 
   Response getFeedsByProperties(Map<String, Object> properties, RequestContext context);
 
+  /**
+   * Reads one page of the feeds matching the properties, which are the user id and optionally the
+   * category of the feed.
+   *
+   * @param properties User id and category of the feeds
+   * @param fields Columns to read, all if null
+   * @param pagingState Paging state of the page, null for the first page
+   * @param limit Maximum number of feeds in the page
+   * @param context
+   * @return Response with the feeds and the paging state of the next page
+   */
+  Response getFeedsByPage(
+      Map<String, Object> properties,
+      List<String> fields,
+      String pagingState,
+      int limit,
+      RequestContext context);
+
   void delete(String id, String userId, String category, RequestContext context);
 }
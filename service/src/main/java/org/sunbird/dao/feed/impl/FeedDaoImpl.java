@@ -1,6 +1,7 @@
 package org.sunbird.dao.feed.impl;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.dao.feed.IFeedDao;
@@ -69,6 +70,26 @@ public class FeedDaoImpl implements IFeedDao {
             usrFeedDbInfo.getKeySpace(), usrFeedDbInfo.getTableName(), properties, context);
   }
 
+  public Response getFeedsByPage(
+      Map<String, Object> properties,
+      List<String> fields,
+      String pagingState,
+      int limit,
+      RequestContext context) {
+    logger.debug(
+        context,
+        "FeedDaoImpl: getFeedsByPage called for userId : " + properties.get(JsonKey.USER_ID));
+    return getCassandraInstance()
+        .getRecordsByPage(
+            usrFeedDbInfo.getKeySpace(),
+            usrFeedDbInfo.getTableName(),
+            properties,
+            fields,
+            pagingState,
+            limit,
+            context);
+  }
+
   public void delete(String id, String userId, String category, RequestContext context) {
     logger.debug(
         context, "FeedDaoImpl: delete method called for feedId : " + id + " and userId:" + userId);
@@ -15,6 +15,18 @@ public interface RateLimitDao {
    */
   void insertRateLimits(List<RateLimit> rateLimits, RequestContext context);
 
+  /**
+   * Atomically writes the rate limits of a key if none of them was changed since it was read
+   *
+   * @param rateLimits List of rate limits of one key
+   * @param expectedCounts Count read for each existing rate limit by unit, a rate limit whose unit
+   *     is not present is written only if it does not exist
+   * @param context
+   * @return true if the rate limits were written
+   */
+  boolean compareAndSetRateLimits(
+      List<RateLimit> rateLimits, Map<String, Integer> expectedCounts, RequestContext context);
+
   /**
    * Fetches list of rate limits for given (partition) key
    *
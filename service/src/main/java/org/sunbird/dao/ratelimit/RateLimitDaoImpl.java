@@ -1,6 +1,8 @@
 package org.sunbird.dao.ratelimit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +45,32 @@ public class RateLimitDaoImpl implements RateLimitDao {
     cassandraOperation.batchInsertWithTTL(JsonKey.SUNBIRD, TABLE_NAME, records, ttl, context);
   }
 
+  @Override
+  public boolean compareAndSetRateLimits(
+      List<RateLimit> rateLimits, Map<String, Integer> expectedCounts, RequestContext context) {
+    if (CollectionUtils.isEmpty(rateLimits)) {
+      return true;
+    }
+    List<Integer> ttl = new ArrayList<>();
+    List<Map<String, Object>> records = new ArrayList<>();
+    List<Map<String, Object>> expectedValues = new ArrayList<>();
+    for (RateLimit rateLimit : rateLimits) {
+      ttl.add(rateLimit.getTTL());
+      records.add(rateLimit.getRecord());
+      Integer expectedCount = expectedCounts.get(rateLimit.getUnit());
+      expectedValues.add(
+          null == expectedCount ? null : Collections.singletonMap(JsonKey.COUNT, expectedCount));
+    }
+    return cassandraOperation.batchUpsertIfWithTTL(
+        JsonKey.SUNBIRD,
+        TABLE_NAME,
+        Arrays.asList(JsonKey.KEY, JsonKey.RATE_LIMIT_UNIT),
+        records,
+        expectedValues,
+        ttl,
+        context);
+  }
+
   @Override
   public List<Map<String, Object>> getRateLimits(String key, RequestContext context) {
     Map<String, Object> partitionKey = new HashMap<>();
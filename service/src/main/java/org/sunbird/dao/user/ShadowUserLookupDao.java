@@ -0,0 +1,47 @@
+package org.sunbird.dao.user;
+
+import java.util.List;
+import java.util.Map;
+import org.sunbird.request.RequestContext;
+import org.sunbird.response.Response;
+
+/**
+ * Reads and writes shadow_user rows together with shadow_user_lookup, the reverse index from the
+ * user ids of a shadow user to its channel and userExtId.
+ */
+public interface ShadowUserLookupDao {
+
+  /**
+   * Fetches the channel and userExtId of the shadow users whose userIds contain the user id. An
+   * entry may be stale, the shadow user must be read to confirm it.
+   */
+  List<Map<String, Object>> getLookupsByUserId(String userId, RequestContext context);
+
+  /** Fetches the shadow user of the channel with the userExtId, null if it does not exist. */
+  Map<String, Object> getShadowUser(String channel, String userExtId, RequestContext context);
+
+  /**
+   * Updates a shadow user and inserts a lookup entry for every one of its userIds in one logged
+   * batch. The lookup entries of the user ids removed from the shadow user are then deleted.
+   *
+   * @param shadowUser Properties of the shadow user including its channel and userExtId
+   * @param context
+   */
+  Response updateShadowUser(Map<String, Object> shadowUser, RequestContext context);
+
+  /** Inserts the lookup entries of the userIds of the shadow users. */
+  void insertLookups(List<Map<String, Object>> shadowUsers, RequestContext context);
+
+  /** Deletes the lookup entry of the user id to the shadow user of the channel and userExtId. */
+  void deleteLookup(String userId, String channel, String userExtId, RequestContext context);
+
+  /**
+   * Fetches one page of the channel, userExtId and userIds of all shadow users.
+   *
+   * @param pagingState Paging state of the page, null for the first page
+   * @param pageSize Number of shadow users in the page
+   * @param context
+   * @return Response with the shadow users and the paging state of the next page
+   */
+  Response getShadowUsersByPage(String pagingState, int pageSize, RequestContext context);
+}
@@ -0,0 +1,140 @@
+package org.sunbird.dao.user.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections.CollectionUtils;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.dao.user.ShadowUserLookupDao;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.request.RequestContext;
+import org.sunbird.response.Response;
+
+public class ShadowUserLookupDaoImpl implements ShadowUserLookupDao {
+
+  private final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
+  private static volatile ShadowUserLookupDao shadowUserLookupDao;
+
+  public static ShadowUserLookupDao getInstance() {
+    if (shadowUserLookupDao == null) {
+      synchronized (ShadowUserLookupDaoImpl.class) {
+        if (shadowUserLookupDao == null) {
+          shadowUserLookupDao = new ShadowUserLookupDaoImpl();
+        }
+      }
+    }
+    return shadowUserLookupDao;
+  }
+
+  @Override
+  public List<Map<String, Object>> getLookupsByUserId(String userId, RequestContext context) {
+    Map<String, Object> partitionKey = new HashMap<>();
+    partitionKey.put(JsonKey.USER_ID, userId);
+    return getRecords(
+        cassandraOperation.getRecordById(
+            JsonKey.SUNBIRD, JsonKey.SHADOW_USER_LOOKUP, partitionKey, context));
+  }
+
+  @Override
+  public Map<String, Object> getShadowUser(
+      String channel, String userExtId, RequestContext context) {
+    Map<String, Object> primaryKey = new HashMap<>();
+    primaryKey.put(JsonKey.CHANNEL, channel);
+    primaryKey.put(JsonKey.USER_EXT_ID, userExtId);
+    List<Map<String, Object>> records =
+        getRecords(
+            cassandraOperation.getRecordById(
+                JsonKey.SUNBIRD, JsonKey.SHADOW_USER, primaryKey, context));
+    return records.isEmpty() ? null : records.get(0);
+  }
+
+  @Override
+  public Response updateShadowUser(Map<String, Object> shadowUser, RequestContext context) {
+    String channel = (String) shadowUser.get(JsonKey.CHANNEL);
+    String userExtId = (String) shadowUser.get(JsonKey.USER_EXT_ID);
+    Map<String, Object> currentShadowUser = getShadowUser(channel, userExtId, context);
+    Map<String, List<Map<String, Object>>> recordsByTable = new HashMap<>();
+    recordsByTable.put(JsonKey.SHADOW_USER, Collections.singletonList(shadowUser));
+    List<Map<String, Object>> lookups = getLookups(shadowUser);
+    if (!lookups.isEmpty()) {
+      recordsByTable.put(JsonKey.SHADOW_USER_LOOKUP, lookups);
+    }
+    Response response =
+        cassandraOperation.batchUpsertTables(JsonKey.SUNBIRD, recordsByTable, context);
+    if (null != currentShadowUser && currentShadowUser.get(JsonKey.USERIDS) instanceof Collection) {
+      Collection userIds =
+          shadowUser.get(JsonKey.USERIDS) instanceof Collection
+              ? (Collection) shadowUser.get(JsonKey.USERIDS)
+              : Collections.emptyList();
+      for (Object userId : (Collection) currentShadowUser.get(JsonKey.USERIDS)) {
+        if (!userIds.contains(userId)) {
+          deleteLookup((String) userId, channel, userExtId, context);
+        }
+      }
+    }
+    return response;
+  }
+
+  @Override
+  public void insertLookups(List<Map<String, Object>> shadowUsers, RequestContext context) {
+    List<Map<String, Object>> lookups = new ArrayList<>();
+    shadowUsers.forEach(shadowUser -> lookups.addAll(getLookups(shadowUser)));
+    if (!lookups.isEmpty()) {
+      cassandraOperation.batchUpsertTables(
+          JsonKey.SUNBIRD, Collections.singletonMap(JsonKey.SHADOW_USER_LOOKUP, lookups), context);
+    }
+  }
+
+  @Override
+  public void deleteLookup(
+      String userId, String channel, String userExtId, RequestContext context) {
+    Map<String, String> primaryKey = new HashMap<>();
+    primaryKey.put(JsonKey.USER_ID, userId);
+    primaryKey.put(JsonKey.CHANNEL, channel);
+    primaryKey.put(JsonKey.USER_EXT_ID, userExtId);
+    cassandraOperation.deleteRecord(
+        JsonKey.SUNBIRD, JsonKey.SHADOW_USER_LOOKUP, primaryKey, context);
+  }
+
+  @Override
+  public Response getShadowUsersByPage(String pagingState, int pageSize, RequestContext context) {
+    return cassandraOperation.getRecordsByPage(
+        JsonKey.SUNBIRD,
+        JsonKey.SHADOW_USER,
+        Arrays.asList(JsonKey.CHANNEL, JsonKey.USER_EXT_ID, JsonKey.USERIDS),
+        pagingState,
+        pageSize,
+        context);
+  }
+
+  private static List<Map<String, Object>> getLookups(Map<String, Object> shadowUser) {
+    List<Map<String, Object>> lookups = new ArrayList<>();
+    Object channel = shadowUser.get(JsonKey.CHANNEL);
+    Object userExtId = shadowUser.get(JsonKey.USER_EXT_ID);
+    Object userIds = shadowUser.get(JsonKey.USERIDS);
+    if (null == channel || null == userExtId || !(userIds instanceof Collection)) {
+      return lookups;
+    }
+    for (Object userId : (Collection) userIds) {
+      Map<String, Object> lookup = new HashMap<>();
+      lookup.put(JsonKey.USER_ID, userId);
+      lookup.put(JsonKey.CHANNEL, channel);
+      lookup.put(JsonKey.USER_EXT_ID, userExtId);
+      lookups.add(lookup);
+    }
+    return lookups;
+  }
+
+  private static List<Map<String, Object>> getRecords(Response response) {
+    if (null == response
+        || CollectionUtils.isEmpty((List) response.getResult().get(JsonKey.RESPONSE))) {
+      return Collections.emptyList();
+    }
+    return (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
+  }
+}
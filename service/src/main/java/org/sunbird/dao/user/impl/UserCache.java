@@ -0,0 +1,126 @@
+package org.sunbird.dao.user.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.ReadThroughCache;
+
+/**
+ * Cache of user rows read by UserDaoImpl, on two levels:
+ *
+ * <ul>
+ *   <li>a memo in the request context, so a row is read once per request, enabled by
+ *       sunbird_user_request_cache_enabled,
+ *   <li>a node local cache which keeps a row for sunbird_user_cache_ttl_ms, enabled by
+ *       sunbird_user_cache_enabled. A write on another node is seen only once the row expires.
+ * </ul>
+ *
+ * Both are disabled by default. A write through UserDaoImpl removes the row from both levels.
+ * Callers get a copy of the cached row which they may modify.
+ */
+public final class UserCache {
+
+  private static final String MEMO_KEY_PREFIX = "user:";
+  private static final UserCache instance =
+      new UserCache(
+          Boolean.parseBoolean(ProjectUtil.getConfigValue("sunbird_user_request_cache_enabled")),
+          Boolean.parseBoolean(ProjectUtil.getConfigValue("sunbird_user_cache_enabled")),
+          NumberUtils.toLong(ProjectUtil.getConfigValue("sunbird_user_cache_ttl_ms"), 5000),
+          NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_user_cache_max_size"), 10000));
+
+  private final boolean requestCacheEnabled;
+  private final ReadThroughCache<String, Map<String, Object>> nodeCache;
+  private final LongAdder requestHitCount = new LongAdder();
+
+  UserCache(boolean requestCacheEnabled, boolean nodeCacheEnabled, long ttlMillis, int maxSize) {
+    this.requestCacheEnabled = requestCacheEnabled;
+    // a missing user is not cached, it may be created right after the read
+    this.nodeCache = nodeCacheEnabled ? new ReadThroughCache<>(ttlMillis, 0, maxSize) : null;
+  }
+
+  public static UserCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns a copy of the row of the user, read through the enabled cache levels.
+   *
+   * @param userId User id
+   * @param context Request context holding the memo of the request, may be null
+   * @param loader Reads the row of the user, returns null if the user does not exist
+   * @return the row of the user, or null if the user does not exist
+   */
+  public Map<String, Object> get(
+      String userId, RequestContext context, Function<String, Map<String, Object>> loader) {
+    Map<String, Object> memo = getMemo(context);
+    if (null == userId || (null == memo && null == nodeCache)) {
+      return loader.apply(userId);
+    }
+    Map<String, Object> row = null == memo ? null : (Map) memo.get(MEMO_KEY_PREFIX + userId);
+    if (null != row) {
+      requestHitCount.increment();
+    } else {
+      row = null == nodeCache ? loader.apply(userId) : nodeCache.get(userId, loader);
+      if (null != memo && null != row) {
+        memo.put(MEMO_KEY_PREFIX + userId, row);
+      }
+    }
+    return (Map<String, Object>) copy(row);
+  }
+
+  /** Removes the row of the user from the memo of the request and from the node cache. */
+  public void invalidate(Object userId, RequestContext context) {
+    if (null == userId) {
+      return;
+    }
+    Map<String, Object> memo = getMemo(context);
+    if (null != memo) {
+      memo.remove(MEMO_KEY_PREFIX + userId);
+    }
+    if (null != nodeCache) {
+      nodeCache.invalidate(String.valueOf(userId));
+    }
+  }
+
+  /** Returns the hit count of the request memo and the counts of the node cache. */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new HashMap<>();
+    if (null != nodeCache) {
+      metrics.putAll(nodeCache.getMetrics());
+    }
+    metrics.put("requestHits", requestHitCount.sum());
+    return metrics;
+  }
+
+  private Map<String, Object> getMemo(RequestContext context) {
+    return requestCacheEnabled && null != context ? context.getRequestCache() : null;
+  }
+
+  private static Object copy(Object value) {
+    if (value instanceof Map) {
+      Map<Object, Object> map = new HashMap<>();
+      ((Map<?, ?>) value).forEach((key, item) -> map.put(key, copy(item)));
+      return map;
+    }
+    if (value instanceof List) {
+      List<Object> list = new ArrayList<>();
+      ((List<?>) value).forEach(item -> list.add(copy(item)));
+      return list;
+    }
+    if (value instanceof Collection) {
+      Set<Object> set = new LinkedHashSet<>();
+      ((Collection<?>) value).forEach(item -> set.add(copy(item)));
+      return set;
+    }
+    return value;
+  }
+}
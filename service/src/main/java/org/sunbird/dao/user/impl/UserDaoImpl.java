@@ -35,6 +35,7 @@ public class UserDaoImpl implements UserDao {
   private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
   private final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private final ObjectMapper mapper = new ObjectMapper();
+  private final UserCache userCache = UserCache.getInstance();
   private static UserDao userDao = null;
 
   public static UserDao getInstance() {
@@ -46,18 +47,25 @@ public class UserDaoImpl implements UserDao {
 
   @Override
   public Response createUser(Map<String, Object> user, RequestContext context) {
-    return cassandraOperation.insertRecord(KEY_SPACE_NAME, TABLE_NAME, user, context);
+    Response response = cassandraOperation.insertRecord(KEY_SPACE_NAME, TABLE_NAME, user, context);
+    userCache.invalidate(user.get(JsonKey.ID), context);
+    return response;
   }
 
   @Override
   public Response updateUser(User user, RequestContext context) {
     Map<String, Object> map = mapper.convertValue(user, Map.class);
-    return cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, map, context);
+    Response response = cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, map, context);
+    userCache.invalidate(user.getId(), context);
+    return response;
   }
 
   @Override
   public Response updateUser(Map<String, Object> userMap, RequestContext context) {
-    return cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, userMap, context);
+    Response response =
+        cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, userMap, context);
+    userCache.invalidate(userMap.get(JsonKey.ID), context);
+    return response;
   }
 
   @Override
@@ -71,6 +79,10 @@ public class UserDaoImpl implements UserDao {
 
   @Override
   public Map<String, Object> getUserDetailsById(String userId, RequestContext context) {
+    return userCache.get(userId, context, id -> readUserDetailsById(id, context));
+  }
+
+  private Map<String, Object> readUserDetailsById(String userId, RequestContext context) {
     Response response =
         cassandraOperation.getRecordById(KEY_SPACE_NAME, TABLE_NAME, userId, context);
     List<Map<String, Object>> responseList =
@@ -38,6 +38,36 @@ public interface IFeedService {
    */
   List<Feed> getFeedsByProperties(Map<String, Object> properties, RequestContext context);
 
+  /**
+   * this method will be responsible to get the records by userId from the user_feed table,
+   * parsing the feed data only if withData is true
+   *
+   * @param properties
+   * @param withData
+   * @param context
+   * @return List<Feed>
+   */
+  List<Feed> getFeedsByProperties(
+      Map<String, Object> properties, boolean withData, RequestContext context);
+
+  /**
+   * this method will be responsible to get one page of the records by userId, and optionally
+   * category, from the user_feed table. The feed data is read and parsed only if withData is true
+   *
+   * @param properties
+   * @param pagingState paging state of the page, null for the first page
+   * @param limit maximum number of feeds in the page
+   * @param withData
+   * @param context
+   * @return response with the List<Feed> and the paging state of the next page
+   */
+  Response getFeedsByPage(
+      Map<String, Object> properties,
+      String pagingState,
+      int limit,
+      boolean withData,
+      RequestContext context);
+
   /**
    * this method will be holding responsibility to delete the feed from DB and ES.
    *
@@ -2,6 +2,8 @@ package org.sunbird.service.feed.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
 
 import java.sql.Timestamp;
 import java.util.*;
@@ -9,6 +11,7 @@ import java.util.*;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.dao.feed.IFeedDao;
 import org.sunbird.dao.feed.impl.FeedDaoImpl;
 import org.sunbird.exception.ProjectCommonException;
@@ -25,7 +28,24 @@ import org.sunbird.util.ProjectUtil;
 public class FeedServiceImpl implements IFeedService {
   private final LoggerUtil logger = new LoggerUtil(FeedServiceImpl.class);
   private static IFeedDao iFeedDao = FeedDaoImpl.getInstance();
+  private static final String EXPIRE_ON = "expireOn";
+  private static final List<String> FEED_FIELDS_WITHOUT_DATA =
+      Arrays.asList(
+          "id",
+          "userid",
+          "category",
+          "priority",
+          "createdby",
+          "status",
+          "updatedby",
+          "expireon",
+          "updatedon",
+          "createdon");
+  private static final int MAX_PAGE_SIZE =
+      NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_user_feed_max_page_size"), 100);
   private final ObjectMapper mapper = new ObjectMapper();
+  private final ObjectReader dataReader =
+      mapper.readerFor(new TypeReference<Map<String, Object>>() {});
 
   @Override
   public Response insert(Feed feed, RequestContext context) {
@@ -65,36 +85,98 @@ public class FeedServiceImpl implements IFeedService {
 
   @Override
   public List<Feed> getFeedsByProperties(Map<String, Object> properties, RequestContext context) {
+    return getFeedsByProperties(properties, true, context);
+  }
+
+  @Override
+  public List<Feed> getFeedsByProperties(
+      Map<String, Object> properties, boolean withData, RequestContext context) {
     logger.debug(context, "FeedServiceImpl:getFeedsByUserId method called : ");
     Response dbResponse = iFeedDao.getFeedsByProperties(properties, context);
-    List<Map<String, Object>> responseList = null;
+    return getFeeds(dbResponse, withData, context);
+  }
+
+  @Override
+  public Response getFeedsByPage(
+      Map<String, Object> properties,
+      String pagingState,
+      int limit,
+      boolean withData,
+      RequestContext context) {
+    logger.debug(context, "FeedServiceImpl:getFeedsByPage method called : ");
+    Response dbResponse =
+        iFeedDao.getFeedsByPage(
+            properties,
+            withData ? null : FEED_FIELDS_WITHOUT_DATA,
+            pagingState,
+            Math.min(limit, MAX_PAGE_SIZE),
+            context);
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, getFeeds(dbResponse, withData, context));
+    response.put(JsonKey.PAGING_STATE, dbResponse.getResult().get(JsonKey.PAGING_STATE));
+    return response;
+  }
+
+  private List<Feed> getFeeds(Response dbResponse, boolean withData, RequestContext context) {
     List<Feed> feedList = new ArrayList<>();
     if (null != dbResponse && null != dbResponse.getResult()) {
-      responseList = (List<Map<String, Object>>) dbResponse.getResult().get(JsonKey.RESPONSE);
+      List<Map<String, Object>> responseList =
+          (List<Map<String, Object>>) dbResponse.getResult().get(JsonKey.RESPONSE);
       if (CollectionUtils.isNotEmpty(responseList)) {
         responseList.forEach(
-                s -> {
-                  try {
-                    String data = (String) s.get(JsonKey.FEED_DATA);
-                    if (StringUtils.isNotBlank(data)) {
-                      s.put(
-                              JsonKey.FEED_DATA,
-                              mapper.readValue(data, new TypeReference<Map<String, Object>>() {}));
-                    } else {
-                      s.put(JsonKey.FEED_DATA, Collections.emptyMap());
-                    }
-                    feedList.add(mapper.convertValue(s, Feed.class));
-                  } catch (Exception ex) {
-                    logger.error(
-                            context,
-                            "FeedServiceImpl:getRecordsByUserId :Exception occurred while mapping feed data.",
-                            ex);
-                  } });
+            s -> {
+              try {
+                feedList.add(toFeed(s, withData));
+              } catch (Exception ex) {
+                logger.error(
+                    context,
+                    "FeedServiceImpl:getFeeds :Exception occurred while mapping feed data.",
+                    ex);
+              }
+            });
       }
     }
     return feedList;
   }
 
+  /**
+   * Builds the feed from a user_feed row. The feed data is stored as a json string and is parsed
+   * only if withData is true, otherwise the data of the feed is left null.
+   */
+  private Feed toFeed(Map<String, Object> row, boolean withData) throws IOException {
+    Feed feed = new Feed();
+    feed.setId((String) row.get(JsonKey.ID));
+    feed.setUserId((String) row.get(JsonKey.USER_ID));
+    feed.setCategory((String) row.get(JsonKey.CATEGORY));
+    Object priority = row.get(JsonKey.PRIORITY);
+    if (priority instanceof Number) {
+      feed.setPriority(((Number) priority).intValue());
+    }
+    feed.setCreatedBy((String) row.get(JsonKey.CREATED_BY));
+    feed.setStatus((String) row.get(JsonKey.STATUS));
+    feed.setUpdatedBy((String) row.get(JsonKey.UPDATED_BY));
+    feed.setExpireOn(toTimestamp(row.get(EXPIRE_ON)));
+    feed.setUpdatedOn(toTimestamp(row.get(JsonKey.UPDATED_ON)));
+    feed.setCreatedOn(toTimestamp(row.get(JsonKey.CREATED_ON)));
+    if (withData) {
+      String data = (String) row.get(JsonKey.FEED_DATA);
+      Map<String, Object> dataMap =
+          StringUtils.isNotBlank(data) ? dataReader.readValue(data) : Collections.emptyMap();
+      feed.setData(dataMap);
+    }
+    return feed;
+  }
+
+  private static Timestamp toTimestamp(Object value) {
+    if (value instanceof Date) {
+      return new Timestamp(((Date) value).getTime());
+    }
+    if (value instanceof Number) {
+      return new Timestamp(((Number) value).longValue());
+    }
+    return null;
+  }
+
   @Override
   public void delete(String id, String userId, String category, RequestContext context) {
     logger.debug(
@@ -5,12 +5,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.velocity.VelocityContext;
 import org.sunbird.dao.notification.EmailTemplateDao;
 import org.sunbird.dao.notification.impl.EmailTemplateDaoImpl;
@@ -30,21 +35,82 @@ import org.sunbird.util.ProjectUtil;
 
 public class NotificationService {
 
+  private static final int RECIPIENT_CHUNK_SIZE =
+      Math.max(
+          1,
+          NumberUtils.toInt(
+              ProjectUtil.getConfigValue("sunbird_notification_recipient_chunk_size"), 500));
+
   private final LoggerUtil logger = new LoggerUtil(NotificationService.class);
   private final UserService userService = UserServiceImpl.getInstance();
   private final OrgService orgService = OrgServiceImpl.getInstance();
 
   public boolean processSMS(
       List<String> userIds, List<String> phones, String smsText, RequestContext requestContext) {
-    validatePhoneOrEmail(phones, JsonKey.PHONE);
-    Set<String> phoneList = getEmailOrPhoneListByUserIds(userIds, JsonKey.PHONE, requestContext);
-    // Merge All Phone
-    if (CollectionUtils.isNotEmpty(phones)) {
-      phoneList.addAll(phones);
+    Iterator<List<String>> phoneChunks =
+        getRecipientChunks(userIds, phones, null, JsonKey.PHONE, requestContext);
+    boolean sent = phoneChunks.hasNext();
+    while (phoneChunks.hasNext()) {
+      sent &= sendSMS(phoneChunks.next(), smsText, requestContext);
     }
-    validateRecipientsLimit(phoneList);
+    return sent;
+  }
 
-    return sendSMS(new ArrayList<>(phoneList), smsText, requestContext);
+  /**
+   * Resolves the email or phone of the recipients chunk by chunk. The given emails or phones come
+   * first, followed by those of the user ids, read sunbird_notification_recipient_chunk_size users
+   * at a time, and then those of the users matching the search query, read page by page. So only
+   * one chunk of decrypted recipients is held in memory at a time.
+   *
+   * <p>The recipient limit is validated against the number of distinct recipients before the first
+   * chunk is sent. When the given emails or phones, user ids and search matches are within the
+   * limit the chunks are resolved lazily, else they are resolved up front and the request fails as
+   * soon as the distinct recipients exceed the limit. An invalid user id fails the chunk it is in.
+   *
+   * @param userIds Ids of the recipient users
+   * @param emailsOrPhones Emails or phones of the recipients
+   * @param recipientSearchQuery User search query of the recipients, only used for email
+   * @param type Email or phone
+   * @param context Request context
+   * @return Chunks of distinct recipients
+   */
+  public Iterator<List<String>> getRecipientChunks(
+      List<String> userIds,
+      List<String> emailsOrPhones,
+      Map<String, Object> recipientSearchQuery,
+      String type,
+      RequestContext context) {
+    validatePhoneOrEmail(emailsOrPhones, type);
+    Map<String, Object> pageQuery = null;
+    Map<String, Object> firstPage = null;
+    long searchCount = 0;
+    if (MapUtils.isNotEmpty(recipientSearchQuery)) {
+      pageQuery = getRecipientPageQuery(recipientSearchQuery);
+      firstPage = userService.getUserEmailPageBySearchQuery(pageQuery, context);
+      if (MapUtils.isNotEmpty(firstPage) && firstPage.get(JsonKey.COUNT) instanceof Number) {
+        searchCount = ((Number) firstPage.get(JsonKey.COUNT)).longValue();
+      }
+      if (recipientSearchQuery.get(JsonKey.LIMIT) instanceof Number) {
+        searchCount =
+            Math.min(searchCount, ((Number) recipientSearchQuery.get(JsonKey.LIMIT)).longValue());
+      }
+    }
+    List<String> ids = null == userIds ? Collections.emptyList() : userIds;
+    List<String> recipients = null == emailsOrPhones ? Collections.emptyList() : emailsOrPhones;
+    RecipientIterator recipientChunks =
+        new RecipientIterator(ids, recipients, pageQuery, firstPage, searchCount, type, context);
+    int maxLimit = getRecipientsLimit();
+    if (ids.size() + recipients.size() + searchCount <= maxLimit) {
+      return recipientChunks;
+    }
+    // duplicates may bring the recipients within the limit, the distinct count is known only
+    // once every chunk is resolved
+    List<List<String>> chunks = new ArrayList<>();
+    while (recipientChunks.hasNext()) {
+      chunks.add(recipientChunks.next());
+      validateRecipientsLimit(recipientChunks.getRecipientCount(), maxLimit);
+    }
+    return chunks.iterator();
   }
 
   private void findMissingUserIds(
@@ -68,7 +134,16 @@ public class NotificationService {
         });
   }
 
-  private void validateRecipientsLimit(Set<String> recipients) {
+  private void validateRecipientsLimit(long recipientCount, int maxLimit) {
+    if (recipientCount > maxLimit) {
+      ProjectCommonException.throwClientErrorException(
+          ResponseCode.emailNotSentRecipientsExceededMaxLimit,
+          MessageFormat.format(
+              ResponseCode.emailNotSentRecipientsExceededMaxLimit.getErrorMessage(), maxLimit));
+    }
+  }
+
+  private int getRecipientsLimit() {
     int maxLimit = 100;
     try {
       if (StringUtils.isNotBlank(
@@ -83,12 +158,7 @@ public class NotificationService {
           exception);
       maxLimit = 100;
     }
-    if (recipients.size() > maxLimit) {
-      ProjectCommonException.throwClientErrorException(
-          ResponseCode.emailNotSentRecipientsExceededMaxLimit,
-          MessageFormat.format(
-              ResponseCode.emailNotSentRecipientsExceededMaxLimit.getErrorMessage(), maxLimit));
-    }
+    return maxLimit;
   }
 
   private boolean sendSMS(List<String> phones, String smsText, RequestContext context) {
@@ -111,20 +181,9 @@ public class NotificationService {
       List<String> emails,
       Map<String, Object> recipientSearchQuery,
       RequestContext requestContext) {
-    validatePhoneOrEmail(emails, JsonKey.EMAIL);
-    List<Map<String, Object>> searchQueryResult =
-        getUserEmailsFromSearchQuery(recipientSearchQuery, requestContext);
-    for (Map<String, Object> result : searchQueryResult) {
-      if (StringUtils.isNotBlank((String) result.get(JsonKey.EMAIL))) {
-        emails.add((String) result.get(JsonKey.EMAIL));
-      }
-    }
-    Set<String> emailList = getEmailOrPhoneListByUserIds(userIds, JsonKey.EMAIL, requestContext);
-    // Merge All Phone
-    if (CollectionUtils.isNotEmpty(emails)) {
-      emailList.addAll(emails);
-    }
-    validateRecipientsLimit(emailList);
+    Set<String> emailList = new LinkedHashSet<>();
+    getRecipientChunks(userIds, emails, recipientSearchQuery, JsonKey.EMAIL, requestContext)
+        .forEachRemaining(emailList::addAll);
     return new ArrayList<>(emailList);
   }
 
@@ -190,39 +249,51 @@ public class NotificationService {
       List<String> userIds, String type, RequestContext requestContext) {
     Set<String> emailOrPhoneList = new HashSet<>();
     if (CollectionUtils.isNotEmpty(userIds)) {
-      List<Map<String, Object>> dbUserPhoneEmailList =
-          userService.getDecryptedEmailPhoneByUserIds(userIds, type, requestContext);
-      if (userIds.size() != dbUserPhoneEmailList.size()) {
-        findMissingUserIds(userIds, dbUserPhoneEmailList);
-      }
-      for (Map<String, Object> userMap : dbUserPhoneEmailList) {
-        String emailOrPhone = (String) userMap.get(type);
-        if (StringUtils.isNotBlank(emailOrPhone)) {
-          emailOrPhoneList.add(emailOrPhone);
-        }
+      for (int from = 0; from < userIds.size(); from += RECIPIENT_CHUNK_SIZE) {
+        emailOrPhoneList.addAll(
+            getEmailOrPhoneChunk(
+                userIds.subList(from, Math.min(userIds.size(), from + RECIPIENT_CHUNK_SIZE)),
+                type,
+                requestContext));
       }
     }
     return emailOrPhoneList;
   }
 
-  private List<Map<String, Object>> getUserEmailsFromSearchQuery(
-      Map<String, Object> recipientSearchQuery, RequestContext context) {
-    if (MapUtils.isNotEmpty(recipientSearchQuery)) {
-      if (MapUtils.isEmpty((Map<String, Object>) recipientSearchQuery.get(JsonKey.FILTERS))) {
-        ProjectCommonException.throwClientErrorException(
-            ResponseCode.invalidParameterValue,
-            MessageFormat.format(
-                ResponseCode.invalidParameterValue.getErrorMessage(),
-                recipientSearchQuery,
-                JsonKey.RECIPIENT_SEARCH_QUERY));
+  private Set<String> getEmailOrPhoneChunk(
+      List<String> userIds, String type, RequestContext requestContext) {
+    Set<String> emailOrPhoneList = new LinkedHashSet<>();
+    List<Map<String, Object>> dbUserPhoneEmailList =
+        userService.getDecryptedEmailPhoneByUserIds(userIds, type, requestContext);
+    if (userIds.size() != dbUserPhoneEmailList.size()) {
+      findMissingUserIds(userIds, dbUserPhoneEmailList);
+    }
+    for (Map<String, Object> userMap : dbUserPhoneEmailList) {
+      String emailOrPhone = (String) userMap.get(type);
+      if (StringUtils.isNotBlank(emailOrPhone)) {
+        emailOrPhoneList.add(emailOrPhone);
       }
-      List<String> fields = new ArrayList<>();
-      fields.add(JsonKey.USER_ID);
-      fields.add(JsonKey.EMAIL);
-      recipientSearchQuery.put(JsonKey.FIELDS, fields);
-      return userService.getUserEmailsBySearchQuery(recipientSearchQuery, context);
     }
-    return Collections.emptyList();
+    return emailOrPhoneList;
+  }
+
+  private Map<String, Object> getRecipientPageQuery(Map<String, Object> recipientSearchQuery) {
+    if (MapUtils.isEmpty((Map<String, Object>) recipientSearchQuery.get(JsonKey.FILTERS))) {
+      ProjectCommonException.throwClientErrorException(
+          ResponseCode.invalidParameterValue,
+          MessageFormat.format(
+              ResponseCode.invalidParameterValue.getErrorMessage(),
+              recipientSearchQuery,
+              JsonKey.RECIPIENT_SEARCH_QUERY));
+    }
+    Map<String, Object> pageQuery = new HashMap<>(recipientSearchQuery);
+    List<String> fields = new ArrayList<>();
+    fields.add(JsonKey.USER_ID);
+    fields.add(JsonKey.EMAIL);
+    pageQuery.put(JsonKey.FIELDS, fields);
+    pageQuery.put(JsonKey.LIMIT, RECIPIENT_CHUNK_SIZE);
+    pageQuery.put(JsonKey.SEARCH_AFTER, new ArrayList<>());
+    return pageQuery;
   }
 
   private void validatePhoneOrEmail(List<String> emailOrPhones, String type) {
@@ -280,4 +351,117 @@ public class NotificationService {
     notiReq.put("ids", new ArrayList<>(phoneOrEmailList));
     return notiReq;
   }
+
+  /**
+   * Iterates the recipients in chunks, first the given emails or phones, then those of the user
+   * ids and then those of the search result pages. A recipient which is part of an earlier chunk
+   * is skipped.
+   */
+  private class RecipientIterator implements Iterator<List<String>> {
+    private final List<String> userIds;
+    private final Set<String> recipients;
+    private final Set<String> seen;
+    private final Map<String, Object> pageQuery;
+    private final String type;
+    private final RequestContext context;
+    private Map<String, Object> page;
+    private long remainingSearchRecipients;
+    private int recipientOffset;
+    private int userIdOffset;
+    private List<String> next;
+
+    private RecipientIterator(
+        List<String> userIds,
+        List<String> recipients,
+        Map<String, Object> pageQuery,
+        Map<String, Object> firstPage,
+        long searchCount,
+        String type,
+        RequestContext context) {
+      this.userIds = userIds;
+      this.recipients = new LinkedHashSet<>(recipients);
+      this.seen = new HashSet<>(this.recipients);
+      this.pageQuery = pageQuery;
+      this.page = firstPage;
+      this.remainingSearchRecipients = searchCount;
+      this.type = type;
+      this.context = context;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (null == next) {
+        List<String> chunk = readChunk();
+        if (null == chunk) {
+          return false;
+        }
+        if (!chunk.isEmpty()) {
+          next = chunk;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public List<String> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<String> chunk = next;
+      next = null;
+      return chunk;
+    }
+
+    private int getRecipientCount() {
+      return seen.size();
+    }
+
+    // next chunk of recipients, may be empty, null once all sources are read
+    private List<String> readChunk() {
+      if (recipientOffset < recipients.size()) {
+        List<String> chunk =
+            recipients
+                .stream()
+                .skip(recipientOffset)
+                .limit(RECIPIENT_CHUNK_SIZE)
+                .collect(Collectors.toList());
+        recipientOffset += chunk.size();
+        return chunk;
+      }
+      if (userIdOffset < userIds.size()) {
+        List<String> chunkUserIds =
+            userIds.subList(
+                userIdOffset, Math.min(userIds.size(), userIdOffset + RECIPIENT_CHUNK_SIZE));
+        userIdOffset += chunkUserIds.size();
+        return distinct(getEmailOrPhoneChunk(chunkUserIds, type, context));
+      }
+      if (MapUtils.isNotEmpty(page) && remainingSearchRecipients > 0) {
+        List<Map<String, Object>> users = (List<Map<String, Object>>) page.get(JsonKey.CONTENT);
+        Object searchAfter = page.get(JsonKey.SEARCH_AFTER);
+        page = null;
+        if (CollectionUtils.isEmpty(users)) {
+          return null;
+        }
+        Set<String> emails = new LinkedHashSet<>();
+        for (Map<String, Object> user : users) {
+          if (remainingSearchRecipients-- <= 0) {
+            break;
+          }
+          if (StringUtils.isNotBlank((String) user.get(JsonKey.EMAIL))) {
+            emails.add((String) user.get(JsonKey.EMAIL));
+          }
+        }
+        if (searchAfter instanceof List && remainingSearchRecipients > 0) {
+          pageQuery.put(JsonKey.SEARCH_AFTER, searchAfter);
+          page = userService.getUserEmailPageBySearchQuery(pageQuery, context);
+        }
+        return distinct(emails);
+      }
+      return null;
+    }
+
+    private List<String> distinct(Set<String> chunk) {
+      return chunk.stream().filter(seen::add).collect(Collectors.toList());
+    }
+  }
 }
@@ -20,6 +20,7 @@ import org.sunbird.service.organisation.OrgExternalService;
 import org.sunbird.service.organisation.OrgService;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.PropertiesCache;
+import org.sunbird.util.search.OrgNameCache;
 import scala.concurrent.Future;
 
 public class OrgServiceImpl implements OrgService {
@@ -74,6 +75,7 @@ public class OrgServiceImpl implements OrgService {
 
   @Override
   public Response updateOrganisation(Map<String, Object> orgMap, RequestContext context) {
+    OrgNameCache.invalidate((String) orgMap.get(JsonKey.ID));
     return orgDao.update(orgMap, context);
   }
 
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.dao.ratelimit.RateLimitDao;
 import org.sunbird.dao.ratelimit.RateLimitDaoImpl;
 import org.sunbird.exception.ProjectCommonException;
@@ -16,12 +17,40 @@ import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.otp.OTPUtil;
+import org.sunbird.util.ratelimit.LocalRateCounters;
 import org.sunbird.util.ratelimit.RateLimit;
+import org.sunbird.util.ratelimit.RateLimitMetrics;
 import org.sunbird.util.ratelimit.RateLimiter;
 
+/**
+ * Throttles requests by key. The counts of the rate limits of a key are kept in the shared store
+ * and are incremented with a compare and set, so concurrent requests on any node can not together
+ * pass a limit; a request which loses the compare and set reads the counts again. Counts which
+ * reached their limit are also kept in process, so a throttled key is rejected without reading the
+ * shared store until its window expires.
+ */
 public class RateLimitServiceImpl implements RateLimitService {
+  private static final int MAX_RETRIES =
+      NumberUtils.toInt(ProjectUtil.getConfigValue("sunbird_rate_limit_max_retries"), 3);
+  // shared by the services of this node, so a key throttled by one actor is throttled on all
+  private static final LocalRateCounters nodeRateCounters =
+      new LocalRateCounters(
+          NumberUtils.toInt(
+              ProjectUtil.getConfigValue("sunbird_rate_limit_local_max_keys"), 100000));
+
   private final LoggerUtil logger = new LoggerUtil(RateLimitServiceImpl.class);
   private final RateLimitDao rateLimitDao = RateLimitDaoImpl.getInstance();
+  private final LocalRateCounters localRateCounters;
+  private final RateLimitMetrics rateLimitMetrics;
+
+  public RateLimitServiceImpl() {
+    this(nodeRateCounters, RateLimitMetrics.getInstance());
+  }
+
+  RateLimitServiceImpl(LocalRateCounters localRateCounters, RateLimitMetrics rateLimitMetrics) {
+    this.localRateCounters = localRateCounters;
+    this.rateLimitMetrics = rateLimitMetrics;
+  }
 
   public boolean isRateLimitOn() {
     return Boolean.TRUE
@@ -36,57 +65,92 @@ public class RateLimitServiceImpl implements RateLimitService {
       logger.info(context, "RateLimitServiceImpl:throttleByKey: Rate limiter is disabled");
       return;
     }
-    Map<String, RateLimit> entryByRate = new HashMap<>();
+    RateLimiter exceededRateLimiter =
+        localRateCounters.getExceededRateLimiter(key, rateLimiters, System.currentTimeMillis());
+    if (null != exceededRateLimiter) {
+      throwRateLimitExceeded(key, type, exceededRateLimiter.name(), true, context);
+    }
+    for (int attempt = 0; ; attempt++) {
+      Map<String, RateLimit> entryByRate = new HashMap<>();
+      Map<String, Integer> expectedCounts = new HashMap<>();
 
-    List<Map<String, Object>> ratesByKey = getRatesByKey(key, context);
-    if (CollectionUtils.isNotEmpty(ratesByKey)) {
-      ratesByKey.forEach(
-          rate -> {
-            if (MapUtils.isNotEmpty(rate)) {
-              logger.info(
-                  context,
-                  "RateLimitServiceImpl:throttleByKey: key = "
-                      + OTPUtil.maskId(key, type)
-                      + " rate ="
-                      + rate);
-              RateLimit rateLimit = new RateLimit(key, rate);
+      List<Map<String, Object>> ratesByKey = getRatesByKey(key, context);
+      if (CollectionUtils.isNotEmpty(ratesByKey)) {
+        for (Map<String, Object> rate : ratesByKey) {
+          if (MapUtils.isNotEmpty(rate)) {
+            logger.info(
+                context,
+                "RateLimitServiceImpl:throttleByKey: key = "
+                    + OTPUtil.maskId(key, type)
+                    + " rate ="
+                    + rate);
+            RateLimit rateLimit = new RateLimit(key, rate);
 
-              if (rateLimit.getCount() >= rateLimit.getLimit()) {
-                logger.info(
-                    context,
-                    "RateLimitServiceImpl:throttleByKey: Rate limit threshold crossed for key = "
-                        + OTPUtil.maskId(key, type));
-                throw new ProjectCommonException(
-                    ResponseCode.errorRateLimitExceeded.getErrorCode(),
-                    ResponseCode.errorRateLimitExceeded.getErrorMessage(),
-                    ResponseCode.TOO_MANY_REQUESTS.getResponseCode(),
-                    rateLimit.getUnit().toLowerCase());
-              }
-              rateLimit.incrementCount();
-              entryByRate.put(rateLimit.getUnit(), rateLimit);
+            if (rateLimit.getCount() >= rateLimit.getLimit()) {
+              localRateCounters.update(rateLimit, System.currentTimeMillis());
+              throwRateLimitExceeded(key, type, rateLimit.getUnit(), false, context);
             }
-          });
-    }
+            expectedCounts.put(rateLimit.getUnit(), rateLimit.getCount());
+            rateLimit.incrementCount();
+            entryByRate.put(rateLimit.getUnit(), rateLimit);
+          }
+        }
+      }
+
+      Arrays.stream(rateLimiters)
+          .forEach(
+              rateLimiter -> {
+                if (!entryByRate.containsKey(rateLimiter.name())
+                    && rateLimiter.getRateLimit() != null) {
+                  RateLimit rateLimit =
+                      new RateLimit(
+                          key,
+                          rateLimiter.name(),
+                          rateLimiter.getRateLimit(),
+                          rateLimiter.getTTL());
+                  logger.info(
+                      context,
+                      "RateLimitServiceImpl:throttleByKey: Initialise rate limit for key = "
+                          + OTPUtil.maskId(key, type)
+                          + ", rate ="
+                          + rateLimit.getLimit());
+                  entryByRate.put(rateLimiter.name(), rateLimit);
+                }
+              });
 
-    Arrays.stream(rateLimiters)
-        .forEach(
-            rateLimiter -> {
-              if (!entryByRate.containsKey(rateLimiter.name())
-                  && rateLimiter.getRateLimit() != null) {
-                RateLimit rateLimit =
-                    new RateLimit(
-                        key, rateLimiter.name(), rateLimiter.getRateLimit(), rateLimiter.getTTL());
-                logger.info(
-                    context,
-                    "RateLimitServiceImpl:throttleByKey: Initialise rate limit for key = "
-                        + OTPUtil.maskId(key, type)
-                        + ", rate ="
-                        + rateLimit.getLimit());
-                entryByRate.put(rateLimiter.name(), rateLimit);
-              }
-            });
+      List<RateLimit> rateLimits = new ArrayList<>(entryByRate.values());
+      if (rateLimitDao.compareAndSetRateLimits(rateLimits, expectedCounts, context)) {
+        long now = System.currentTimeMillis();
+        rateLimits.forEach(rateLimit -> localRateCounters.update(rateLimit, now));
+        rateLimitMetrics.recordAllowed();
+        return;
+      }
+      rateLimitMetrics.recordConflict();
+      logger.info(
+          context,
+          "RateLimitServiceImpl:throttleByKey: Concurrent update of rate limit for key = "
+              + OTPUtil.maskId(key, type)
+              + ", attempt = "
+              + attempt);
+      if (attempt >= MAX_RETRIES) {
+        // a key updated this often concurrently is throttled rather than let through
+        throwRateLimitExceeded(key, type, rateLimiters[0].name(), false, context);
+      }
+    }
+  }
 
-    rateLimitDao.insertRateLimits(new ArrayList<>(entryByRate.values()), context);
+  private void throwRateLimitExceeded(
+      String key, String type, String unit, boolean local, RequestContext context) {
+    rateLimitMetrics.recordRejected(unit, local);
+    logger.info(
+        context,
+        "RateLimitServiceImpl:throttleByKey: Rate limit threshold crossed for key = "
+            + OTPUtil.maskId(key, type));
+    throw new ProjectCommonException(
+        ResponseCode.errorRateLimitExceeded.getErrorCode(),
+        ResponseCode.errorRateLimitExceeded.getErrorMessage(),
+        ResponseCode.TOO_MANY_REQUESTS.getResponseCode(),
+        unit.toLowerCase());
   }
 
   private List<Map<String, Object>> getRatesByKey(String key, RequestContext context) {
@@ -53,6 +53,13 @@ public class SystemSettingsService {
   public Response setSystemSettings(Map<String, Object> request, RequestContext context) {
     ObjectMapper mapper = new ObjectMapper();
     SystemSetting systemSetting = mapper.convertValue(request, SystemSetting.class);
-    return systemSettingDaoImpl.write(systemSetting, context);
+    Response response = systemSettingDaoImpl.write(systemSetting, context);
+    Map<String, String> configSettings = DataCacheHandler.getConfigSettings();
+    if (null != configSettings
+        && null != systemSetting.getField()
+        && null != systemSetting.getValue()) {
+      configSettings.put(systemSetting.getField(), systemSetting.getValue());
+    }
+    return response;
   }
 }
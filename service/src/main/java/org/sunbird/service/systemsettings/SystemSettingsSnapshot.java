@@ -0,0 +1,201 @@
+package org.sunbird.service.systemsettings;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.dao.systemsettings.SystemSettingDao;
+import org.sunbird.dao.systemsettings.impl.SystemSettingDaoImpl;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.model.systemsettings.SystemSetting;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * In process, versioned copy of the system_settings table. Lookups read an immutable map through a
+ * volatile reference, so they take no lock and need no actor round trip. The table is polled every
+ * sunbird_system_settings_poll_interval_ms and the snapshot is replaced, with a new version, only
+ * if the settings changed. A write through SystemSettingsActor invalidates the snapshot, lookups
+ * then miss until the snapshot is reloaded.
+ */
+public final class SystemSettingsSnapshot {
+
+  private static final LoggerUtil logger = new LoggerUtil(SystemSettingsSnapshot.class);
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final long POLL_INTERVAL_MILLIS =
+      NumberUtils.toLong(
+          ProjectUtil.getConfigValue("sunbird_system_settings_poll_interval_ms"), 30000);
+  private static volatile SystemSettingsSnapshot instance;
+
+  private final SystemSettingDao systemSettingDao;
+  private final ScheduledExecutorService poller;
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private long invalidations;
+
+  SystemSettingsSnapshot(SystemSettingDao systemSettingDao, ScheduledExecutorService poller) {
+    this.systemSettingDao = systemSettingDao;
+    this.poller = poller;
+  }
+
+  public static SystemSettingsSnapshot getInstance() {
+    if (null == instance) {
+      synchronized (SystemSettingsSnapshot.class) {
+        if (null == instance) {
+          ScheduledExecutorService poller =
+              Executors.newSingleThreadScheduledExecutor(
+                  runnable -> {
+                    Thread thread = new Thread(runnable, "system-settings-poller");
+                    thread.setDaemon(true);
+                    return thread;
+                  });
+          SystemSettingsSnapshot settingsSnapshot =
+              new SystemSettingsSnapshot(new SystemSettingDaoImpl(), poller);
+          settingsSnapshot.refresh();
+          poller.scheduleWithFixedDelay(
+              settingsSnapshot::refresh,
+              POLL_INTERVAL_MILLIS,
+              POLL_INTERVAL_MILLIS,
+              TimeUnit.MILLISECONDS);
+          instance = settingsSnapshot;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** Invalidates the snapshot of this node, if one was created, after a system setting write. */
+  public static void invalidate() {
+    SystemSettingsSnapshot settingsSnapshot = instance;
+    if (null != settingsSnapshot) {
+      settingsSnapshot.invalidateAndReload();
+    }
+  }
+
+  /** Returns the setting of the field, or null if the field is not in the snapshot. */
+  public SystemSetting get(String field) {
+    return snapshot.settings.get(field);
+  }
+
+  /**
+   * Returns the JSON value of the field parsed as a map. A value is parsed once per snapshot
+   * version.
+   *
+   * @return the parsed value, or null if the field is not in the snapshot or is not a JSON object
+   */
+  public Map<String, Object> getValueMap(String field) {
+    Object value = getParsedValue(field);
+    return value instanceof Map ? (Map<String, Object>) value : null;
+  }
+
+  /**
+   * Returns the value of the field parsed as a map if it is a JSON object, else the raw value. A
+   * value is parsed once per snapshot version, a value which is not a JSON object is kept as is so
+   * that it is not parsed again.
+   *
+   * @return the parsed or raw value, or null if the field is not in the snapshot or has no value
+   */
+  public Object getParsedValue(String field) {
+    Snapshot current = snapshot;
+    SystemSetting setting = current.settings.get(field);
+    if (null == setting) {
+      return null;
+    }
+    return current.parsedValues.computeIfAbsent(field, key -> parse(setting)).orElse(null);
+  }
+
+  /** Returns the version of the snapshot, incremented on every change of the settings. */
+  public long getVersion() {
+    return snapshot.version;
+  }
+
+  /**
+   * Reloads the system_settings table and replaces the snapshot if the settings changed.
+   *
+   * @return true if the snapshot was replaced
+   */
+  boolean refresh() {
+    long invalidationsBeforeRead;
+    synchronized (this) {
+      invalidationsBeforeRead = invalidations;
+    }
+    try {
+      List<SystemSetting> settings = systemSettingDao.readAll(null);
+      Map<String, SystemSetting> settingMap = new HashMap<>();
+      Map<String, String> values = new HashMap<>();
+      if (null != settings) {
+        for (SystemSetting setting : settings) {
+          String field = null != setting.getField() ? setting.getField() : setting.getId();
+          if (null != field) {
+            settingMap.put(field, setting);
+            values.put(field, setting.getValue());
+          }
+        }
+      }
+      synchronized (this) {
+        Snapshot current = snapshot;
+        if (invalidationsBeforeRead != invalidations) {
+          // the read may have missed a write, the reload scheduled by the write applies it
+          return false;
+        }
+        if (current.valid && current.values.equals(values)) {
+          return false;
+        }
+        snapshot = new Snapshot(current.version + 1, settingMap, values, true);
+      }
+      logger.info(
+          "SystemSettingsSnapshot:refresh: system settings changed, version = " + snapshot.version);
+      return true;
+    } catch (Exception e) {
+      logger.error(
+          "SystemSettingsSnapshot:refresh: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+      return false;
+    }
+  }
+
+  private void invalidateAndReload() {
+    synchronized (this) {
+      invalidations++;
+      snapshot = new Snapshot(snapshot.version + 1, Collections.emptyMap(), null, false);
+    }
+    poller.execute(this::refresh);
+  }
+
+  private static Optional<Object> parse(SystemSetting setting) {
+    try {
+      return Optional.ofNullable(mapper.readValue(setting.getValue(), Map.class));
+    } catch (Exception e) {
+      logger.debug(
+          "SystemSettingsSnapshot:parse: value of " + setting.getField() + " is not a JSON object");
+      return Optional.ofNullable(setting.getValue());
+    }
+  }
+
+  private static final class Snapshot {
+    private static final Snapshot EMPTY = new Snapshot(0, Collections.emptyMap(), null, false);
+
+    private final long version;
+    private final Map<String, SystemSetting> settings;
+    private final Map<String, String> values;
+    private final boolean valid;
+    private final Map<String, Optional<Object>> parsedValues = new ConcurrentHashMap<>();
+
+    private Snapshot(
+        long version,
+        Map<String, SystemSetting> settings,
+        Map<String, String> values,
+        boolean valid) {
+      this.version = version;
+      this.settings = Collections.unmodifiableMap(settings);
+      this.values = values;
+      this.valid = valid;
+    }
+  }
+}
@@ -18,6 +18,7 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import org.sunbird.util.ConfigCache;
 
 public class TenantPreferenceService {
 
@@ -27,8 +28,11 @@ public class TenantPreferenceService {
 
   public Map<String, Object> validateAndGetTenantPreferencesById(
       String orgId, String key, String operationType, RequestContext context) {
+    // create and update validate against the table, reads are served from the cache
     List<Map<String, Object>> orgPreference =
-        preferenceDao.getTenantPreferenceById(orgId, key, context);
+        JsonKey.GET.equalsIgnoreCase(operationType)
+            ? ConfigCache.getTenantPreference(orgId, key, context)
+            : preferenceDao.getTenantPreferenceById(orgId, key, context);
     if (JsonKey.CREATE.equalsIgnoreCase(operationType)
         && CollectionUtils.isNotEmpty(orgPreference)) {
       throw new ProjectCommonException(
@@ -45,10 +49,12 @@ public class TenantPreferenceService {
     }
     if (CollectionUtils.isNotEmpty(orgPreference)) {
       try {
-        String data = (String) orgPreference.get(0).get(JsonKey.DATA);
+        // the cached row is shared, the parsed data goes into a copy
+        Map<String, Object> preference = new HashMap<>(orgPreference.get(0));
+        String data = (String) preference.get(JsonKey.DATA);
         Map<String, Object> map = mapper.readValue(data, new TypeReference<>() {});
-        orgPreference.get(0).put(JsonKey.DATA, map);
-        return orgPreference.get(0);
+        preference.put(JsonKey.DATA, map);
+        return preference;
       } catch (Exception e) {
         logger.error(
             context,
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.util.*;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.dao.user.ShadowUserLookupDao;
+import org.sunbird.dao.user.impl.ShadowUserLookupDaoImpl;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
@@ -17,6 +19,8 @@ public class ShadowUserMigrationService {
 
   private static final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private static final ObjectMapper mapper = new ObjectMapper();
+  private static final ShadowUserLookupDao shadowUserLookupDao =
+      ShadowUserLookupDaoImpl.getInstance();
 
   /**
    * this method will search user in userids attribute in shadow_user table
@@ -27,17 +31,103 @@ public class ShadowUserMigrationService {
    */
   public static ShadowUser getRecordByUserId(String userId, RequestContext context) {
     ShadowUser shadowUser = null;
-    Response response =
-        cassandraOperation.searchValueInList(
-            JsonKey.SUNBIRD, JsonKey.SHADOW_USER, JsonKey.USERIDS, userId, context);
-    if (!((List) response.getResult().get(JsonKey.RESPONSE)).isEmpty()) {
-      shadowUser =
-          mapper.convertValue(
-              ((List) response.getResult().get(JsonKey.RESPONSE)).get(0), ShadowUser.class);
+    List<Map<String, Object>> records = getRecordsByUserId(userId, null, context);
+    if (!records.isEmpty()) {
+      shadowUser = mapper.convertValue(records.get(0), ShadowUser.class);
     }
     return shadowUser;
   }
 
+  /**
+   * this method will return the shadow_user records whose userids contain the userId and which
+   * have the properties. The records found through shadow_user_lookup are merged with those of a
+   * CONTAINS search of the shadow_user table, and lookup entries are written for the records found
+   * only by the search. The search must stay: shadow users are created and claimed by the shadow
+   * user upload outside this service, which does not write shadow_user_lookup, so a user id can be
+   * in the lookup for one shadow user and missing for another. Lookup entries of a user id removed
+   * from its shadow user are deleted.
+   *
+   * @param userId
+   * @param propsMap properties the records must have, may be null
+   * @param context
+   * @return
+   */
+  private static List<Map<String, Object>> getRecordsByUserId(
+      String userId, Map<String, Object> propsMap, RequestContext context) {
+    Map<String, Map<String, Object>> recordsByKey = new LinkedHashMap<>();
+    for (Map<String, Object> lookup : shadowUserLookupDao.getLookupsByUserId(userId, context)) {
+      String channel = (String) lookup.get(JsonKey.CHANNEL);
+      String userExtId = (String) lookup.get(JsonKey.USER_EXT_ID);
+      Map<String, Object> record = shadowUserLookupDao.getShadowUser(channel, userExtId, context);
+      // a lookup entry is stale if the user id was removed from the shadow user
+      if (null == record
+          || !(record.get(JsonKey.USERIDS) instanceof Collection)
+          || !((Collection) record.get(JsonKey.USERIDS)).contains(userId)) {
+        deleteLookup(userId, channel, userExtId, context);
+      } else if (hasProperties(record, propsMap)) {
+        recordsByKey.put(getShadowUserKey(record), record);
+      }
+    }
+    Response response =
+        null == propsMap
+            ? cassandraOperation.searchValueInList(
+                JsonKey.SUNBIRD, JsonKey.SHADOW_USER, JsonKey.USERIDS, userId, context)
+            : cassandraOperation.searchValueInList(
+                JsonKey.SUNBIRD, JsonKey.SHADOW_USER, JsonKey.USERIDS, userId, propsMap, context);
+    List<Map<String, Object>> missingLookups = new ArrayList<>();
+    if (null != response && response.getResult().get(JsonKey.RESPONSE) instanceof List) {
+      for (Map<String, Object> record :
+          (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE)) {
+        if (null == recordsByKey.putIfAbsent(getShadowUserKey(record), record)) {
+          missingLookups.add(record);
+        }
+      }
+    }
+    if (!missingLookups.isEmpty()) {
+      insertLookups(missingLookups, context);
+    }
+    return new ArrayList<>(recordsByKey.values());
+  }
+
+  private static String getShadowUserKey(Map<String, Object> record) {
+    return record.get(JsonKey.CHANNEL) + ":" + record.get(JsonKey.USER_EXT_ID);
+  }
+
+  private static boolean hasProperties(Map<String, Object> record, Map<String, Object> propsMap) {
+    if (null == propsMap) {
+      return true;
+    }
+    return propsMap
+        .entrySet()
+        .stream()
+        .allMatch(entry -> Objects.equals(entry.getValue(), record.get(entry.getKey())));
+  }
+
+  private static void insertLookups(List<Map<String, Object>> records, RequestContext context) {
+    try {
+      shadowUserLookupDao.insertLookups(records, context);
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "ShadowUserMigrationService:insertLookups: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+    }
+  }
+
+  private static void deleteLookup(
+      String userId, String channel, String userExtId, RequestContext context) {
+    try {
+      shadowUserLookupDao.deleteLookup(userId, channel, userExtId, context);
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "ShadowUserMigrationService:deleteLookup: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+    }
+  }
+
   /**
    * this method will update the record in the shadow_user table
    *
@@ -51,9 +141,17 @@ public class ShadowUserMigrationService {
     Map<String, Object> compositeKeysMap = new HashMap<>();
     compositeKeysMap.put(JsonKey.USER_EXT_ID, userExtId);
     compositeKeysMap.put(JsonKey.CHANNEL, channel);
-    Response response =
-        cassandraOperation.updateRecord(
-            JsonKey.SUNBIRD, JsonKey.SHADOW_USER, propertiesMap, compositeKeysMap, context);
+    Response response;
+    if (propertiesMap.containsKey(JsonKey.USERIDS)) {
+      // the lookup entries of the user ids are written in the same batch
+      Map<String, Object> shadowUser = new HashMap<>(propertiesMap);
+      shadowUser.putAll(compositeKeysMap);
+      response = shadowUserLookupDao.updateShadowUser(shadowUser, context);
+    } else {
+      response =
+          cassandraOperation.updateRecord(
+              JsonKey.SUNBIRD, JsonKey.SHADOW_USER, propertiesMap, compositeKeysMap, context);
+    }
     logger.info(
         context,
         "MigrationUtils:updateRecord:update in cassandra  with userExtId"
@@ -114,11 +212,9 @@ public class ShadowUserMigrationService {
   public static List<ShadowUser> getEligibleUsersById(
       String userId, Map<String, Object> propsMap, RequestContext context) {
     List<ShadowUser> shadowUsersList = new ArrayList<>();
-    Response response =
-        cassandraOperation.searchValueInList(
-            JsonKey.SUNBIRD, JsonKey.SHADOW_USER, JsonKey.USERIDS, userId, propsMap, context);
-    if (!((List) response.getResult().get(JsonKey.RESPONSE)).isEmpty()) {
-      ((List) response.getResult().get(JsonKey.RESPONSE))
+    List<Map<String, Object>> records = getRecordsByUserId(userId, propsMap, context);
+    if (!records.isEmpty()) {
+      records
           .stream()
           .forEach(
               shadowMap -> {
@@ -140,11 +236,9 @@ public class ShadowUserMigrationService {
    */
   public static List<ShadowUser> getEligibleUsersById(String userId, RequestContext context) {
     List<ShadowUser> shadowUsersList = new ArrayList<>();
-    Response response =
-        cassandraOperation.searchValueInList(
-            JsonKey.SUNBIRD, JsonKey.SHADOW_USER, JsonKey.USERIDS, userId, context);
-    if (!((List) response.getResult().get(JsonKey.RESPONSE)).isEmpty()) {
-      ((List) response.getResult().get(JsonKey.RESPONSE))
+    List<Map<String, Object>> records = getRecordsByUserId(userId, null, context);
+    if (!records.isEmpty()) {
+      records
           .stream()
           .forEach(
               shadowMap -> {
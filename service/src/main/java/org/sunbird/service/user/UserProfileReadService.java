@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -35,6 +36,8 @@ import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.UserFlagUtil;
 import org.sunbird.util.UserUtility;
 import org.sunbird.util.Util;
+import org.sunbird.util.user.UserProfileEnrichment;
+import org.sunbird.util.user.UserProfileReadExecutor;
 import org.sunbird.util.user.UserUtil;
 
 public class UserProfileReadService {
@@ -66,34 +69,17 @@ public class UserProfileReadService {
     } else {
       userId = id;
     }
-    Map<String, Object> result =
-        validateUserIdAndGetUserDetails(userId, actorMessage.getRequestContext());
-    appendUserTypeAndLocation(result, actorMessage);
-    Map<String, Object> rootOrg =
-        orgService.getOrgById(
-            (String) result.get(JsonKey.ROOT_ORG_ID), actorMessage.getRequestContext());
-    if (MapUtils.isNotEmpty(rootOrg)
-        && (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())
-            || readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue()))) {
-      Util.getOrgDefaultValue().keySet().forEach(rootOrg::remove);
-      Util.getUserDefaultValue().keySet().forEach(result::remove);
-    }else{
-      result.putAll(Util.getUserDefaultValue());
-    }
-    result.put(JsonKey.ROOT_ORG, rootOrg);
-    Map<String, List<String>> userOrgRoles = null;
-    List<Map<String, Object>> userRolesList =
-        userRoleService.getUserRoles(userId, actorMessage.getRequestContext());
-    if (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue())) {
-      result.put(JsonKey.ROLES, userRolesList);
-    } else {
-      result.remove(JsonKey.ROLES);
-      userOrgRoles = getUserOrgRoles(userRolesList);
-    }
-    result.put(
-        JsonKey.ORGANISATIONS,
-        fetchUserOrgList(
-            (String) result.get(JsonKey.ID), userOrgRoles, actorMessage.getRequestContext()));
+    RequestContext context = actorMessage.getRequestContext();
+    UserProfileReadExecutor readExecutor = new UserProfileReadExecutor(context);
+    // user row, roles and user orgs depend only on userId, so fetch them concurrently
+    CompletableFuture<Map<String, Object>> userFuture =
+        readExecutor.submit("user", () -> validateUserIdAndGetUserDetails(userId, context));
+    CompletableFuture<List<Map<String, Object>>> userRolesFuture =
+        readExecutor.submit("roles", () -> userRoleService.getUserRoles(userId, context));
+    CompletableFuture<List<Map<String, Object>>> userOrgsFuture =
+        readExecutor.submit(
+            "userOrgs", () -> userOrgService.getUserOrgListByUserId(userId, context));
+    Map<String, Object> result = readExecutor.await("user", userFuture);
     String requestedById =
         (String) actorMessage.getContext().getOrDefault(JsonKey.REQUESTED_BY, "");
     String managedForId = (String) actorMessage.getContext().getOrDefault(JsonKey.MANAGED_FOR, "");
@@ -108,20 +94,56 @@ public class UserProfileReadService {
             + managedForId
             + " managedBy "
             + managedBy);
+    // authorize the caller before issuing the lookups which depend on the user row
     if (!isPrivate && StringUtils.isNotEmpty(managedBy) && !managedBy.equals(requestedById)) {
+      readExecutor.cancelAll();
       ProjectCommonException.throwUnauthorizedErrorException();
     }
-    getManagedToken(actorMessage, userId, result, managedBy);
+    String rootOrgId = (String) result.get(JsonKey.ROOT_ORG_ID);
+    CompletableFuture<Map<String, Object>> rootOrgFuture =
+        readExecutor.submit("rootOrg", () -> orgService.getOrgById(rootOrgId, context));
     String requestFields = (String) actorMessage.getContext().get(JsonKey.FIELDS);
+    CompletableFuture<List<Map<String, String>>> externalIdsFuture = null;
     if (StringUtils.isNotBlank(userId)
         && (userId.equalsIgnoreCase(requestedById) || userId.equalsIgnoreCase(managedForId))
         && StringUtils.isBlank(requestFields)) {
+      String channel = (String) result.get(JsonKey.CHANNEL);
+      externalIdsFuture =
+          readExecutor.submit(
+              "externalIds",
+              () -> fetchUserExternalIdentity(userId, rootOrgId, channel, true, context));
+    }
+    appendUserTypeAndLocation(result, actorMessage);
+    Map<String, Object> rootOrg = readExecutor.await("rootOrg", rootOrgFuture);
+    if (MapUtils.isNotEmpty(rootOrg)
+        && (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())
+            || readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue()))) {
+      Util.getOrgDefaultValue().keySet().forEach(rootOrg::remove);
+      Util.getUserDefaultValue().keySet().forEach(result::remove);
+    }else{
+      result.putAll(Util.getUserDefaultValue());
+    }
+    result.put(JsonKey.ROOT_ORG, rootOrg);
+    Map<String, List<String>> userOrgRoles = null;
+    List<Map<String, Object>> userRolesList = readExecutor.await("roles", userRolesFuture);
+    if (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue())) {
+      result.put(JsonKey.ROLES, userRolesList);
+    } else {
+      result.remove(JsonKey.ROLES);
+      userOrgRoles = getUserOrgRoles(userRolesList);
+    }
+    result.put(
+        JsonKey.ORGANISATIONS,
+        fetchUserOrgList(readExecutor.await("userOrgs", userOrgsFuture), userOrgRoles));
+    getManagedToken(actorMessage, userId, result, managedBy);
+    if (null != externalIdsFuture) {
       result.put(
           JsonKey.EXTERNAL_IDS,
-          fetchUserExternalIdentity(userId, result, true, actorMessage.getRequestContext()));
+          readExecutor.awaitOptional("externalIds", externalIdsFuture, new ArrayList<>()));
     }
-    if (StringUtils.isNotBlank((String) actorMessage.getContext().get(JsonKey.FIELDS))) {
-      addExtraFieldsInUserProfileResponse(result, requestFields, actorMessage.getRequestContext());
+    if (StringUtils.isNotBlank(requestFields)) {
+      addExtraFieldsInUserProfileResponse(
+          result, UserProfileEnrichment.fromFields(requestFields), readExecutor, context);
     }
     String encEmail = (String) result.get(JsonKey.EMAIL);
     String encPhone = (String) result.get(JsonKey.PHONE);
@@ -143,6 +165,7 @@ public class UserProfileReadService {
     appendMinorFlag(result);
     // For Backward compatibility , In ES we were sending identifier field
     result.put(JsonKey.IDENTIFIER, userId);
+    readExecutor.logBranchTimings();
 
     Response response = new Response();
     response.put(JsonKey.RESPONSE, result);
@@ -285,10 +308,8 @@ public class UserProfileReadService {
   }
 
   private List<Map<String, Object>> fetchUserOrgList(
-      String userId, Map<String, List<String>> userOrgRoles, RequestContext requestContext) {
+      List<Map<String, Object>> userOrgList, Map<String, List<String>> userOrgRoles) {
     List<Map<String, Object>> usrOrgList = new ArrayList<>();
-    List<Map<String, Object>> userOrgList =
-        userOrgService.getUserOrgListByUserId(userId, requestContext);
     for (Map<String, Object> userOrg : userOrgList) {
       Boolean isDeleted = (Boolean) userOrg.get(JsonKey.IS_DELETED);
       if (null == isDeleted || (!isDeleted.booleanValue())) {
@@ -402,12 +423,24 @@ public class UserProfileReadService {
 
   public List<Map<String, String>> fetchUserExternalIdentity(
       String userId, Map<String, Object> user, boolean mergeDeclarations, RequestContext context) {
+    return fetchUserExternalIdentity(
+        userId,
+        (String) user.get(JsonKey.ROOT_ORG_ID),
+        (String) user.get(JsonKey.CHANNEL),
+        mergeDeclarations,
+        context);
+  }
+
+  private List<Map<String, String>> fetchUserExternalIdentity(
+      String userId,
+      String rootOrgId,
+      String provider,
+      boolean mergeDeclarations,
+      RequestContext context) {
     try {
       List<Map<String, String>> dbResExternalIds =
           userExternalIdentityService.getExternalIds(userId, mergeDeclarations, context);
       // update orgId to provider in externalIds
-      String rootOrgId = (String) user.get(JsonKey.ROOT_ORG_ID);
-      String provider = (String) user.get(JsonKey.CHANNEL);
       updateExternalIdsOrgIdWithProvider(dbResExternalIds, rootOrgId, provider, context);
       return dbResExternalIds;
     } catch (Exception ex) {
@@ -442,52 +475,106 @@ public class UserProfileReadService {
 
   public void addExtraFieldsInUserProfileResponse(
       Map<String, Object> result, String fields, RequestContext context) {
-    if (!StringUtils.isBlank(fields)) {
-      result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
-      if (fields.contains(JsonKey.TOPIC)) {
-        result.put(JsonKey.TOPICS, new HashSet<>());
-      }
-      if (fields.contains(JsonKey.ROLES)) {
-        result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
-      }
-      if (fields.contains(JsonKey.ORGANISATIONS)) {
-        updateUserOrgInfo((List) result.get(JsonKey.ORGANISATIONS), context);
+    if (StringUtils.isNotBlank(fields)) {
+      addExtraFieldsInUserProfileResponse(
+          result,
+          UserProfileEnrichment.fromFields(fields),
+          new UserProfileReadExecutor(context),
+          context);
+    }
+  }
+
+  /**
+   * Adds the enrichments asked for through the fields query parameter. Enrichments which are not
+   * asked for are skipped and their lookups are never issued.
+   */
+  private void addExtraFieldsInUserProfileResponse(
+      Map<String, Object> result,
+      Set<UserProfileEnrichment> enrichments,
+      UserProfileReadExecutor readExecutor,
+      RequestContext context) {
+    String userId = (String) result.get(JsonKey.ID);
+    // issue the independent enrichment lookups first and join them afterwards
+    CompletableFuture<Map<String, Map<String, Object>>[]> orgInfoFuture = null;
+    if (enrichments.contains(UserProfileEnrichment.ORG_DETAILS)) {
+      List<Map<String, Object>> userOrgs = (List) result.get(JsonKey.ORGANISATIONS);
+      boolean withOrgLocations = enrichments.contains(UserProfileEnrichment.ORG_LOCATIONS);
+      orgInfoFuture =
+          readExecutor.submit(
+              "orgInfo", () -> fetchOrgAndLocationInfo(userOrgs, withOrgLocations, context));
+    }
+    CompletableFuture<List<Map<String, Object>>> userLocationsFuture = null;
+    List<Map<String, String>> userLocList =
+        (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
+    if (enrichments.contains(UserProfileEnrichment.USER_LOCATIONS)
+        && CollectionUtils.isNotEmpty(userLocList)) {
+      List<String> locationIds =
+          userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
+      userLocationsFuture =
+          readExecutor.submit("userLocations", () -> getUserLocations(locationIds, context));
+    }
+    CompletableFuture<List<Map<String, Object>>> declarationsFuture = null;
+    if (enrichments.contains(UserProfileEnrichment.DECLARATIONS)) {
+      declarationsFuture =
+          readExecutor.submit(
+              "declarations",
+              () -> userSelfDeclarationService.fetchUserDeclarations(userId, context));
+    }
+    CompletableFuture<List<Map<String, String>>> externalIdsFuture = null;
+    if (CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
+        && enrichments.contains(UserProfileEnrichment.EXTERNAL_IDS)) {
+      String rootOrgId = (String) result.get(JsonKey.ROOT_ORG_ID);
+      String channel = (String) result.get(JsonKey.CHANNEL);
+      externalIdsFuture =
+          readExecutor.submit(
+              "externalIds",
+              () -> fetchUserExternalIdentity(userId, rootOrgId, channel, false, context));
+    }
+
+    result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
+    if (enrichments.contains(UserProfileEnrichment.TOPICS)) {
+      result.put(JsonKey.TOPICS, new HashSet<>());
+    }
+    if (enrichments.contains(UserProfileEnrichment.ROLE_LIST)) {
+      result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
+    }
+    if (null != orgInfoFuture) {
+      Map<String, Map<String, Object>>[] orgAndLocationInfo =
+          readExecutor.awaitOptional("orgInfo", orgInfoFuture, null);
+      if (null != orgAndLocationInfo) {
+        prepUserOrgInfoWithAdditionalData(
+            (List) result.get(JsonKey.ORGANISATIONS),
+            orgAndLocationInfo[0],
+            orgAndLocationInfo[1]);
       }
-      if (fields.contains(JsonKey.LOCATIONS)) {
-        List<Map<String, String>> userLocList =
-            (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
-        if (CollectionUtils.isNotEmpty(userLocList)) {
-          List<String> locationIds =
-              userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
-          List<Map<String, Object>> userLocations = getUserLocations(locationIds, context);
-          if (CollectionUtils.isNotEmpty(userLocations)) {
-            result.put(JsonKey.USER_LOCATIONS, userLocations);
-            // For adding school, request need to have fields=locations,organisations, as externalid
-            // id is populated with this request only
-            if (fields.contains(JsonKey.ORGANISATIONS)) {
-              try {
-                addSchoolLocation(result, context);
-              } catch (Exception e) {
-                logger.error("Not able to fetch school details in user read - user location", e);
-              }
-            }
-            result.remove(JsonKey.LOCATION_IDS);
-            result.remove(JsonKey.PROFILE_LOCATION);
+    }
+    if (null != userLocationsFuture) {
+      List<Map<String, Object>> userLocations =
+          readExecutor.awaitOptional("userLocations", userLocationsFuture, new ArrayList<>());
+      if (CollectionUtils.isNotEmpty(userLocations)) {
+        result.put(JsonKey.USER_LOCATIONS, userLocations);
+        // For adding school, request need to have fields=locations,organisations, as externalid
+        // id is populated with this request only
+        if (enrichments.contains(UserProfileEnrichment.SCHOOL_LOCATION)) {
+          try {
+            addSchoolLocation(result, context);
+          } catch (Exception e) {
+            logger.error("Not able to fetch school details in user read - user location", e);
           }
         }
+        result.remove(JsonKey.LOCATION_IDS);
+        result.remove(JsonKey.PROFILE_LOCATION);
       }
-      if (fields.contains(JsonKey.DECLARATIONS)) {
-        List<Map<String, Object>> declarations =
-            userSelfDeclarationService.fetchUserDeclarations(
-                (String) result.get(JsonKey.ID), context);
-        result.put(JsonKey.DECLARATIONS, declarations);
-      }
-      if (CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
-          && fields.contains(JsonKey.EXTERNAL_IDS)) {
-        List<Map<String, String>> resExternalIds =
-            fetchUserExternalIdentity((String) result.get(JsonKey.ID), result, false, context);
-        result.put(JsonKey.EXTERNAL_IDS, resExternalIds);
-      }
+    }
+    if (null != declarationsFuture) {
+      result.put(
+          JsonKey.DECLARATIONS,
+          readExecutor.awaitOptional("declarations", declarationsFuture, new ArrayList<>()));
+    }
+    if (null != externalIdsFuture) {
+      result.put(
+          JsonKey.EXTERNAL_IDS,
+          readExecutor.awaitOptional("externalIds", externalIdsFuture, new ArrayList<>()));
     }
   }
 
@@ -546,10 +633,12 @@ public class UserProfileReadService {
     return new ArrayList<>();
   }
 
-  private void updateUserOrgInfo(List<Map<String, Object>> userOrgs, RequestContext context) {
+  private Map<String, Map<String, Object>>[] fetchOrgAndLocationInfo(
+      List<Map<String, Object>> userOrgs, boolean withOrgLocations, RequestContext context) {
     Map<String, Map<String, Object>> orgInfoMap = fetchAllOrgById(userOrgs, context);
-    Map<String, Map<String, Object>> locationInfoMap = fetchAllLocationsById(orgInfoMap, context);
-    prepUserOrgInfoWithAdditionalData(userOrgs, orgInfoMap, locationInfoMap);
+    Map<String, Map<String, Object>> locationInfoMap =
+        fetchAllLocationsById(orgInfoMap, withOrgLocations, context);
+    return new Map[] {orgInfoMap, locationInfoMap};
   }
 
   private Map<String, Map<String, Object>> fetchAllOrgById(
@@ -583,7 +672,9 @@ public class UserProfileReadService {
   }
 
   private Map<String, Map<String, Object>> fetchAllLocationsById(
-      Map<String, Map<String, Object>> orgInfoMap, RequestContext context) {
+      Map<String, Map<String, Object>> orgInfoMap,
+      boolean withOrgLocations,
+      RequestContext context) {
     Set<String> locationSet = new HashSet<>();
     for (Map<String, Object> org : orgInfoMap.values()) {
       List<String> locationIds = null;
@@ -604,7 +695,7 @@ public class UserProfileReadService {
       }
       org.put(JsonKey.LOCATION_IDS, locationIds);
     }
-    if (CollectionUtils.isNotEmpty(locationSet)) {
+    if (withOrgLocations && CollectionUtils.isNotEmpty(locationSet)) {
       List<String> locList = new ArrayList<>(locationSet);
       List<Map<String, Object>> locationResponseList =
           locationService.getLocationsByIds(locList, null, context);
@@ -8,6 +8,7 @@ import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 public interface UserService {
 
@@ -45,7 +46,14 @@ public interface UserService {
 
   String getUserIdByUserLookUp(String key, String value, RequestContext context);
 
-  Response saveUserAttributes(
+  /**
+   * Sends the attributes of the user (organisations, external ids and self declarations) to the
+   * user profile update actor without waiting for them to be saved.
+   *
+   * @return future of the consolidated response of the saves, completed with null if the saves
+   *     failed or timed out
+   */
+  Future<Response> saveUserAttributes(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context);
 
   String getDecryptedEmailPhoneByUserId(String userId, String type, RequestContext context);
@@ -56,6 +64,9 @@ public interface UserService {
   List<Map<String, Object>> getUserEmailsBySearchQuery(
       Map<String, Object> searchQuery, RequestContext context);
 
+  Map<String, Object> getUserEmailPageBySearchQuery(
+      Map<String, Object> searchQuery, RequestContext context);
+
   Map<String, Object> searchUser(SearchDTO searchDTO, RequestContext context);
 
   boolean updateUserDataToES(String identifier, Map<String, Object> data, RequestContext context);
@@ -1,6 +1,9 @@
 package org.sunbird.service.user.impl;
 
 import akka.actor.ActorRef;
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Mapper;
+import akka.dispatch.Recover;
 import akka.pattern.Patterns;
 import akka.util.Timeout;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,7 +40,7 @@ import org.sunbird.service.user.UserTncService;
 import org.sunbird.util.*;
 import org.sunbird.util.user.UserActorOperations;
 import org.sunbird.util.user.UserUtil;
-import scala.concurrent.Await;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.duration.Duration;
 
@@ -306,21 +309,33 @@ public class UserServiceImpl implements UserService {
         .collect(Collectors.toList());
   }
 
-  public Response saveUserAttributes(
+  public Future<Response> saveUserAttributes(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context) {
     Request request = new Request();
     request.setRequestContext(context);
     request.setOperation(UserActorOperations.SAVE_USER_ATTRIBUTES.getValue());
     request.getRequest().putAll(userMap);
     logger.info(context, "saveUserAttributes");
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      return (Response) Await.result(future, t.duration());
-    } catch (Exception e) {
-      logger.error(context, e.getMessage(), e);
-    }
-    return null;
+    Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
+    ExecutionContext ec = ExecutionContexts.global();
+    return Patterns.ask(actorRef, request, t)
+        .map(
+            new Mapper<Object, Response>() {
+              @Override
+              public Response apply(Object result) {
+                return result instanceof Response ? (Response) result : null;
+              }
+            },
+            ec)
+        .recover(
+            new Recover<Response>() {
+              @Override
+              public Response recover(Throwable e) {
+                logger.error(context, e.getMessage(), e);
+                return null;
+              }
+            },
+            ec);
   }
 
   /**
@@ -382,12 +397,23 @@ public class UserServiceImpl implements UserService {
   @Override
   public List<Map<String, Object>> getUserEmailsBySearchQuery(
       Map<String, Object> searchQuery, RequestContext context) {
-    List<Map<String, Object>> usersList = new ArrayList<>();
+    Map<String, Object> esResult = getUserEmailPageBySearchQuery(searchQuery, context);
+    if (MapUtils.isNotEmpty(esResult)
+        && CollectionUtils.isNotEmpty((List) esResult.get(JsonKey.CONTENT))) {
+      return (List<Map<String, Object>>) esResult.get(JsonKey.CONTENT);
+    }
+    return new ArrayList<>();
+  }
+
+  @Override
+  public Map<String, Object> getUserEmailPageBySearchQuery(
+      Map<String, Object> searchQuery, RequestContext context) {
     Map<String, Object> esResult =
         searchUser(ElasticSearchHelper.createSearchDTO(searchQuery), context);
     if (MapUtils.isNotEmpty(esResult)
         && CollectionUtils.isNotEmpty((List) esResult.get(JsonKey.CONTENT))) {
-      usersList = (List<Map<String, Object>>) esResult.get(JsonKey.CONTENT);
+      List<Map<String, Object>> usersList =
+          (List<Map<String, Object>>) esResult.get(JsonKey.CONTENT);
       usersList.forEach(
           user -> {
             if (org.apache.commons.lang.StringUtils.isNotBlank((String) user.get(JsonKey.EMAIL))) {
@@ -403,7 +429,7 @@ public class UserServiceImpl implements UserService {
             }
           });
     }
-    return usersList;
+    return esResult;
   }
 
   @Override
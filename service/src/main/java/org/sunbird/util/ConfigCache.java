@@ -0,0 +1,70 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.dao.tenantpreference.impl.TenantPreferenceDaoImpl;
+import org.sunbird.request.RequestContext;
+
+/**
+ * Read through cache of the tenant preferences, keyed by org id and preference key, and of the
+ * form api profile config, keyed by state code. Entries live for sunbird_config_cache_ttl_ms, and
+ * a preference or config which was not found for sunbird_config_cache_negative_ttl_ms. Each cache
+ * keeps at most sunbird_config_cache_max_size entries. The form api config is written by the form
+ * service, a change is seen once the entry expires.
+ */
+public final class ConfigCache {
+
+  private static final long TTL_MILLIS =
+      NumberUtils.toLong(ProjectUtil.getConfigValue("sunbird_config_cache_ttl_ms"), 300000);
+  private static final long NEGATIVE_TTL_MILLIS =
+      NumberUtils.toLong(ProjectUtil.getConfigValue("sunbird_config_cache_negative_ttl_ms"), 60000);
+  private static final long MAX_SIZE =
+      NumberUtils.toLong(ProjectUtil.getConfigValue("sunbird_config_cache_max_size"), 10000);
+
+  private static final ReadThroughCache<String, List<Map<String, Object>>> tenantPreferences =
+      new ReadThroughCache<>(TTL_MILLIS, NEGATIVE_TTL_MILLIS, MAX_SIZE);
+  private static final ReadThroughCache<String, Map<String, Object>> formApiConfigs =
+      new ReadThroughCache<>(TTL_MILLIS, NEGATIVE_TTL_MILLIS, MAX_SIZE);
+
+  private ConfigCache() {}
+
+  /**
+   * Returns the tenant preference rows of the org and key. The rows are shared, callers must not
+   * modify them.
+   */
+  public static List<Map<String, Object>> getTenantPreference(
+      String orgId, String key, RequestContext context) {
+    return tenantPreferences.get(
+        getTenantPreferenceKey(orgId, key),
+        cacheKey ->
+            TenantPreferenceDaoImpl.getInstance().getTenantPreferenceById(orgId, key, context));
+  }
+
+  /** Removes the tenant preference of the org and key, called after it is created or updated. */
+  public static void invalidateTenantPreference(String orgId, String key) {
+    tenantPreferences.invalidate(getTenantPreferenceKey(orgId, key));
+  }
+
+  /**
+   * Returns the form api profile config of the state, the config is shared and read only. A state
+   * without config is cached as not found, a failed read of the form service is not cached and is
+   * thrown.
+   */
+  public static Map<String, Object> getFormApiConfig(String stateCode, RequestContext context) {
+    return formApiConfigs.get(
+        stateCode, cacheKey -> FormApiUtilHandler.getFormApiConfig(stateCode, context));
+  }
+
+  public static Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new HashMap<>();
+    metrics.put("tenantPreferences", tenantPreferences.getMetrics());
+    metrics.put("formApiConfigs", formApiConfigs.getMetrics());
+    return metrics;
+  }
+
+  private static String getTenantPreferenceKey(String orgId, String key) {
+    return orgId + ":" + key;
+  }
+}
@@ -4,11 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
@@ -24,21 +29,23 @@ import org.sunbird.service.role.RoleService;
 public class DataCacheHandler implements Runnable {
   private static LoggerUtil logger = new LoggerUtil(DataCacheHandler.class);
 
-  private static Map<String, Object> roleMap = new ConcurrentHashMap<>();
+  private static volatile Map<String, Object> roleMap = new ConcurrentHashMap<>();
   private static Map<String, Object> telemetryPdata = new ConcurrentHashMap<>(3);
-  private static Map<String, String> configSettings = new ConcurrentHashMap<>();
+  private static volatile Map<String, String> configSettings = new ConcurrentHashMap<>();
   private static Map<String, Map<String, List<Map<String, String>>>> frameworkCategoriesMap =
       new ConcurrentHashMap<>();
   private static Map<String, List<String>> frameworkFieldsConfig = new ConcurrentHashMap<>();
   private static Map<String, List<String>> hashtagIdFrameworkIdMap = new ConcurrentHashMap<>();
-  private static Map<String, Map<String, List<String>>> userTypeOrSubTypeConfigMap =
+  private static volatile Map<String, Map<String, List<String>>> userTypeOrSubTypeConfigMap =
       new ConcurrentHashMap<>();
-  private static Map<String, List<String>> stateLocationTypeConfigMap = new ConcurrentHashMap<>();
-  private static Map<String, Map<String, Object>> formApiDataConfigMap = new ConcurrentHashMap<>();
-  private static List<Map<String, String>> roleList = new CopyOnWriteArrayList<>();
+  private static volatile Map<String, List<String>> stateLocationTypeConfigMap =
+      new ConcurrentHashMap<>();
+  private static volatile Map<String, Map<String, Object>> formApiDataConfigMap =
+      new ConcurrentHashMap<>();
+  private static volatile List<Map<String, String>> roleList = new CopyOnWriteArrayList<>();
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private static final String KEY_SPACE_NAME = JsonKey.SUNBIRD;
-  private static Response roleCacheResponse;
+  private static volatile Response roleCacheResponse;
   private static Map<String, Integer> orderMap;
   public static String[] bulkUserAllowedFields = {
     JsonKey.FIRST_NAME,
@@ -73,70 +80,136 @@ public class DataCacheHandler implements Runnable {
     JsonKey.LOCATION_CODE
   };
 
+  private static volatile List<RefreshableCache<?>> scheduledCaches = Collections.emptyList();
+  private final List<RefreshableCache<?>> caches;
+
+  public DataCacheHandler() {
+    caches =
+        Arrays.asList(
+            new RefreshableCache<>(
+                "roles",
+                getRefreshInterval("roles"),
+                this::loadRoles,
+                roleCache -> roleCache.roleMap,
+                DataCacheHandler::publishRoles),
+            new RefreshableCache<>(
+                "system_settings",
+                getRefreshInterval("system_settings"),
+                this::loadSystemConfig,
+                Function.identity(),
+                this::publishSystemConfig),
+            new RefreshableCache<>(
+                "role_read",
+                getRefreshInterval("role_read"),
+                () -> new RoleService().getUserRoles(null),
+                Response::getResult,
+                DataCacheHandler::setRoleResponse),
+            new RefreshableCache<>(
+                "form_api_config",
+                getRefreshInterval("form_api_config"),
+                this::loadFormApiDataConfig,
+                Function.identity(),
+                DataCacheHandler::publishFormApiDataConfig));
+  }
+
+  /** Refreshes all caches once. */
   @Override
   public void run() {
     logger.info("DataCacheHandler:run: Cache refresh started.");
-    roleCache();
-    cacheSystemConfig();
-    cacheRoleForRead();
-    cacheTelemetryPdata();
-    cacheFormApiDataConfig();
     initLocationOrderMap();
+    caches.forEach(RefreshableCache::refresh);
     logger.info("DataCacheHandler:run: Cache refresh completed.");
   }
 
-  // Get form data config
-  private void cacheFormApiDataConfig() {
-    formApiDataConfigMap = new ConcurrentHashMap<>();
-    userTypeOrSubTypeConfigMap = new ConcurrentHashMap<>();
-    stateLocationTypeConfigMap = new ConcurrentHashMap<>();
+  /**
+   * Refreshes every cache on its own schedule. The delay between two refreshes of a cache is
+   * sunbird_cache_refresh_interval_{cache name} seconds, learner_in_memory_cache_ttl if not set.
+   */
+  public void schedule(ScheduledExecutorService service) {
+    initLocationOrderMap();
+    scheduledCaches = caches;
+    for (RefreshableCache<?> cache : caches) {
+      service.scheduleWithFixedDelay(
+          cache::refresh, 0, cache.getIntervalSeconds(), TimeUnit.SECONDS);
+      logger.info(
+          "DataCacheHandler:schedule: refresh of cache "
+              + cache.getName()
+              + " scheduled every "
+              + cache.getIntervalSeconds()
+              + " sec");
+    }
+  }
+
+  /** Returns refresh counts, durations and staleness of the scheduled caches. */
+  public static Map<String, Map<String, Long>> getRefreshMetrics() {
+    Map<String, Map<String, Long>> metrics = new HashMap<>();
+    for (RefreshableCache<?> cache : scheduledCaches) {
+      metrics.put(cache.getName(), cache.getMetrics());
+    }
+    return metrics;
+  }
 
-    for (Map.Entry<String, Map<String, Object>> itr : formApiDataConfigMap.entrySet()) {
-      String stateCode = itr.getKey();
+  private static long getRefreshInterval(String cacheName) {
+    long ttl = NumberUtils.toLong(ProjectUtil.getConfigValue("learner_in_memory_cache_ttl"), 14400);
+    return NumberUtils.toLong(
+        ProjectUtil.getConfigValue("sunbird_cache_refresh_interval_" + cacheName), ttl);
+  }
+
+  // Reload form data config of the states read so far
+  private Map<String, Map<String, Object>> loadFormApiDataConfig() {
+    Map<String, Map<String, Object>> tempFormApiDataConfigMap = new ConcurrentHashMap<>();
+    for (String stateCode : formApiDataConfigMap.keySet()) {
       RequestContext reqContext = new RequestContext();
       reqContext.setReqId(UUID.randomUUID().toString());
       reqContext.setDebugEnabled("false");
-      Map<String, Object> formDataMap = FormApiUtilHandler.getFormApiConfig(stateCode, reqContext);
-      logger.info(
-          reqContext,
-          String.format("Cache update for form api stateCode:%s is not found", stateCode));
+      Map<String, Object> formDataMap;
+      try {
+        formDataMap = FormApiUtilHandler.getFormApiConfig(stateCode, reqContext);
+      } catch (ProjectCommonException e) {
+        // keep the config read before, the form service may be down for a moment
+        formDataMap = formApiDataConfigMap.get(stateCode);
+      }
       if (MapUtils.isNotEmpty(formDataMap)) {
-        formApiDataConfigMap.put(stateCode, formDataMap);
-        cacheUserTypeOrSubTypeConfig();
-        cacheLocationCodeTypeConfig();
+        tempFormApiDataConfigMap.put(stateCode, formDataMap);
+      } else {
+        logger.info(
+            reqContext,
+            String.format("Cache update for form api stateCode:%s is not found", stateCode));
       }
     }
+    return tempFormApiDataConfigMap;
+  }
+
+  private static void publishFormApiDataConfig(
+      Map<String, Map<String, Object>> tempFormApiDataConfigMap) {
+    Map<String, Map<String, List<String>>> tempUserTypeConfigMap = new ConcurrentHashMap<>();
+    Map<String, List<String>> tempLocationTypeConfigMap = new ConcurrentHashMap<>();
+    for (Map.Entry<String, Map<String, Object>> itr : tempFormApiDataConfigMap.entrySet()) {
+      cacheUserTypeOrSubTypeConfig(itr.getKey(), itr.getValue(), tempUserTypeConfigMap);
+      cacheLocationCodeTypeConfig(itr.getKey(), itr.getValue(), tempLocationTypeConfigMap);
+    }
+    formApiDataConfigMap = tempFormApiDataConfigMap;
+    userTypeOrSubTypeConfigMap = tempUserTypeConfigMap;
+    stateLocationTypeConfigMap = tempLocationTypeConfigMap;
   }
 
   // Update userType or SubType cache for the state which are fetched from form api
-  private void cacheUserTypeOrSubTypeConfig() {
-    if (MapUtils.isNotEmpty(formApiDataConfigMap)) {
-      for (Map.Entry<String, Map<String, Object>> itr : formApiDataConfigMap.entrySet()) {
-        String stateCode = itr.getKey();
-        Map<String, Object> formData = itr.getValue();
-        Map<String, List<String>> userTypeConfigMap = FormApiUtil.getUserTypeConfig(formData);
-        if (MapUtils.isNotEmpty(userTypeConfigMap)) {
-          userTypeOrSubTypeConfigMap.put(stateCode, userTypeConfigMap);
-        } else {
-          userTypeOrSubTypeConfigMap.remove(stateCode);
-        }
-      }
+  private static void cacheUserTypeOrSubTypeConfig(
+      String stateCode,
+      Map<String, Object> formData,
+      Map<String, Map<String, List<String>>> userTypeConfig) {
+    Map<String, List<String>> userTypeConfigMap = FormApiUtil.getUserTypeConfig(formData);
+    if (MapUtils.isNotEmpty(userTypeConfigMap)) {
+      userTypeConfig.put(stateCode, userTypeConfigMap);
     }
   }
 
   // Update Location Code Type cache for the state which are fetched from form api
-  private void cacheLocationCodeTypeConfig() {
-    if (MapUtils.isNotEmpty(formApiDataConfigMap)) {
-      for (Map.Entry<String, Map<String, Object>> itr : formApiDataConfigMap.entrySet()) {
-        String stateCode = itr.getKey();
-        Map<String, Object> formData = itr.getValue();
-        List<String> locationCodeLists = FormApiUtil.getLocationTypeConfigMap(formData);
-        if (CollectionUtils.isNotEmpty(locationCodeLists)) {
-          stateLocationTypeConfigMap.put(stateCode, locationCodeLists);
-        } else {
-          stateLocationTypeConfigMap.remove(stateCode);
-        }
-      }
+  private static void cacheLocationCodeTypeConfig(
+      String stateCode, Map<String, Object> formData, Map<String, List<String>> locationConfig) {
+    List<String> locationCodeLists = FormApiUtil.getLocationTypeConfigMap(formData);
+    if (CollectionUtils.isNotEmpty(locationCodeLists)) {
+      locationConfig.put(stateCode, locationCodeLists);
     }
   }
 
@@ -166,10 +239,6 @@ public class DataCacheHandler implements Runnable {
     telemetryPdata.put("telemetry_pdata_ver", telemetryPdataVer);
   }
 
-  private void cacheRoleForRead() {
-    roleCacheResponse = new RoleService().getUserRoles(null);
-  }
-
   public static Response getRoleResponse() {
     return roleCacheResponse;
   }
@@ -183,7 +252,7 @@ public class DataCacheHandler implements Runnable {
   }
 
   @SuppressWarnings("unchecked")
-  private void cacheSystemConfig() {
+  private Map<String, String> loadSystemConfig() {
     Map<String, String> tempConfigSettings = new ConcurrentHashMap();
     Response response =
         cassandraOperation.getAllRecords(KEY_SPACE_NAME, JsonKey.SYSTEM_SETTINGS_DB, null);
@@ -199,8 +268,13 @@ public class DataCacheHandler implements Runnable {
     }
     tempConfigSettings.put(JsonKey.PHONE_UNIQUE, String.valueOf(true));
     tempConfigSettings.put(JsonKey.EMAIL_UNIQUE, String.valueOf(true));
+    return tempConfigSettings;
+  }
+
+  private void publishSystemConfig(Map<String, String> tempConfigSettings) {
     updateFrameWorkCache(tempConfigSettings.get(JsonKey.USER_PROFILE_CONFIG));
     configSettings = tempConfigSettings;
+    cacheTelemetryPdata();
   }
 
   private void updateFrameWorkCache(String userProfileConfig) {
@@ -216,7 +290,7 @@ public class DataCacheHandler implements Runnable {
   }
 
   @SuppressWarnings("unchecked")
-  private void roleCache() {
+  private RoleCache loadRoles() {
     Map<String, Object> tempRoleMap = new ConcurrentHashMap();
     Response response = cassandraOperation.getAllRecords(KEY_SPACE_NAME, JsonKey.ROLE_GROUP, null);
     List<Map<String, Object>> responseList =
@@ -260,8 +334,12 @@ public class DataCacheHandler implements Runnable {
                 roleSet.remove(roleSetItem.getKey().trim());
               }
             });
-    roleMap = tempRoleMap;
-    roleList = tempRoleList;
+    return new RoleCache(tempRoleMap, tempRoleList);
+  }
+
+  private static void publishRoles(RoleCache roleCache) {
+    roleMap = roleCache.roleMap;
+    roleList = roleCache.roleList;
   }
 
   /** @return the roleMap */
@@ -315,4 +393,14 @@ public class DataCacheHandler implements Runnable {
   public static Map<String, Map<String, Object>> getFormApiDataConfigMap() {
     return formApiDataConfigMap;
   }
+
+  private static final class RoleCache {
+    private final Map<String, Object> roleMap;
+    private final List<Map<String, String>> roleList;
+
+    private RoleCache(Map<String, Object> roleMap, List<Map<String, String>> roleList) {
+      this.roleMap = roleMap;
+      this.roleList = roleList;
+    }
+  }
 }
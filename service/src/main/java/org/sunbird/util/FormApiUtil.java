@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.request.RequestContext;
 
@@ -16,8 +17,13 @@ public class FormApiUtil {
         DataCacheHandler.getFormApiDataConfigMap();
     if (MapUtils.isEmpty(stateProfileConfigMap)
         || MapUtils.isEmpty(stateProfileConfigMap.get(stateCode))) {
-      Map<String, Object> profileConfigMap =
-          FormApiUtilHandler.getFormApiConfig(stateCode, context);
+      Map<String, Object> profileConfigMap;
+      try {
+        profileConfigMap = ConfigCache.getFormApiConfig(stateCode, context);
+      } catch (ProjectCommonException e) {
+        // the read is retried by the next request, the failure is not cached
+        return null;
+      }
       if (MapUtils.isNotEmpty(profileConfigMap)) {
         stateProfileConfigMap.put(stateCode, profileConfigMap);
       }
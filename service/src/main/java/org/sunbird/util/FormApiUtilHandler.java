@@ -1,12 +1,13 @@
 package org.sunbird.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.http.HttpClientUtil;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
@@ -52,7 +53,9 @@ public class FormApiUtilHandler {
    *
    * @param reqObject
    * @param context
-   * @return
+   * @return the form config, an empty map if the form service has no config for the state
+   * @throws ProjectCommonException if the form service could not be called or its response could
+   *     not be read, so that the failure is not taken for a missing config
    */
   public static Map<String, Object> fetchFormApiConfigDetails(
       FormApiUtilRequestPayload reqObject, RequestContext context) {
@@ -89,15 +92,6 @@ public class FormApiUtilHandler {
             "FormApiUtilHandler:fetchFormApiConfigDetails Form-Config api response is empty for state : "
                 + reqObject.getRequest().getSubType());
       }
-    } catch (IOException e) {
-      logger.error(
-          context,
-          "FormApiUtilHandler:fetchFormApiConfigDetails Exception occurred while getting form-config for state:"
-              + reqObject.getRequest().getSubType()
-              + " "
-              + e.getMessage(),
-          e);
-
     } catch (Exception e) {
       logger.error(
           context,
@@ -106,6 +100,10 @@ public class FormApiUtilHandler {
               + " "
               + e.getMessage(),
           e);
+      throw new ProjectCommonException(
+          ResponseCode.internalError.getErrorCode(),
+          ResponseCode.internalError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
     }
 
     return data;
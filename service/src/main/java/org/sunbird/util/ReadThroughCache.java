@@ -0,0 +1,126 @@
+package org.sunbird.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache which loads a missing or expired value on read. A found value is kept for ttl
+ * milliseconds, a value which was not found (null or an empty map or collection) for negativeTtl
+ * milliseconds. At most maxSize keys are kept, the least recently used are evicted first. Loading
+ * is single flight: concurrent reads of a key which is being loaded wait for that load instead of
+ * calling the loader again. A failed load is not cached.
+ *
+ * @param <K> Type of the key
+ * @param <V> Type of the value
+ */
+public class ReadThroughCache<K, V> {
+
+  private final long ttlMillis;
+  private final long negativeTtlMillis;
+  private final Cache<K, Entry<V>> entries;
+
+  public ReadThroughCache(long ttlMillis, long negativeTtlMillis, long maxSize) {
+    this.ttlMillis = ttlMillis;
+    this.negativeTtlMillis = negativeTtlMillis;
+    // entries not found expire earlier, on their own deadline
+    this.entries =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Math.max(ttlMillis, negativeTtlMillis), TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the cached value of the key, loading it if it is missing or expired.
+   *
+   * @param key Cache key
+   * @param loader Loads the value of the key
+   * @return the cached or loaded value
+   */
+  public V get(K key, Function<K, V> loader) {
+    List<Entry<V>> loaded = new ArrayList<>(1);
+    Entry<V> entry = load(key, loader, loaded);
+    if (!loaded.contains(entry) && entry.isExpired()) {
+      entries.asMap().remove(key, entry);
+      entry = load(key, loader, loaded);
+    }
+    return entry.value;
+  }
+
+  public void invalidate(K key) {
+    entries.invalidate(key);
+  }
+
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  /** Returns hit, miss, load and eviction counts and the number of cached keys. */
+  public Map<String, Long> getMetrics() {
+    CacheStats stats = entries.stats();
+    Map<String, Long> metrics = new HashMap<>();
+    metrics.put("hits", stats.hitCount());
+    metrics.put("misses", stats.missCount());
+    metrics.put("loads", stats.loadCount());
+    metrics.put("evictions", stats.evictionCount());
+    metrics.put("size", entries.size());
+    return metrics;
+  }
+
+  private Entry<V> load(K key, Function<K, V> loader, List<Entry<V>> loaded) {
+    try {
+      return entries.get(
+          key,
+          () -> {
+            V value = loader.apply(key);
+            Entry<V> entry =
+                new Entry<>(
+                    value,
+                    System.currentTimeMillis()
+                        + (isNegative(value) ? negativeTtlMillis : ttlMillis));
+            // an entry loaded by this read is returned even if it expired at once
+            loaded.add(entry);
+            return entry;
+          });
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (ExecutionError e) {
+      throw (Error) e.getCause();
+    }
+  }
+
+  private static boolean isNegative(Object value) {
+    return null == value
+        || (value instanceof Map && ((Map) value).isEmpty())
+        || (value instanceof Collection && ((Collection) value).isEmpty());
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package org.sunbird.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * A cache which is reloaded on its own schedule. Every refresh loads the data into new objects and
+ * hashes its content; the data is published only if the hash differs from the one last published,
+ * so an unchanged reload does not replace what readers see. Publishing swaps references, readers
+ * see either the old or the new data and never a partly loaded cache. A failed load keeps the old
+ * data.
+ *
+ * @param <T> Type of the loaded data
+ */
+public class RefreshableCache<T> {
+
+  private static final LoggerUtil logger = new LoggerUtil(RefreshableCache.class);
+  private static final ObjectMapper mapper =
+      new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  private final String name;
+  private final long intervalSeconds;
+  private final Supplier<T> loader;
+  private final Function<? super T, ?> content;
+  private final Consumer<T> publisher;
+  private byte[] contentHash;
+  private final LongAdder refreshCount = new LongAdder();
+  private final LongAdder unchangedCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final AtomicLong lastDurationMillis = new AtomicLong();
+  private final AtomicLong maxDurationMillis = new AtomicLong();
+  private volatile long lastRefreshTime;
+  private volatile long lastChangeTime;
+
+  /**
+   * @param name Name of the cache in logs and metrics
+   * @param intervalSeconds Delay between two refreshes
+   * @param loader Loads the data, returns null if it could not be loaded
+   * @param content Selects the part of the data which is hashed
+   * @param publisher Makes newly loaded data visible to readers
+   */
+  public RefreshableCache(
+      String name,
+      long intervalSeconds,
+      Supplier<T> loader,
+      Function<? super T, ?> content,
+      Consumer<T> publisher) {
+    this.name = name;
+    this.intervalSeconds = intervalSeconds;
+    this.loader = loader;
+    this.content = content;
+    this.publisher = publisher;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getIntervalSeconds() {
+    return intervalSeconds;
+  }
+
+  /**
+   * Loads the data and publishes it if its content changed.
+   *
+   * @return true if new data was published
+   */
+  public synchronized boolean refresh() {
+    long startTime = System.currentTimeMillis();
+    try {
+      T data = loader.get();
+      if (null == data) {
+        failureCount.increment();
+        return false;
+      }
+      byte[] hash = hash(content.apply(data));
+      boolean changed = null == hash || !Arrays.equals(hash, contentHash);
+      if (changed) {
+        publisher.accept(data);
+        contentHash = hash;
+        lastChangeTime = System.currentTimeMillis();
+      } else {
+        unchangedCount.increment();
+      }
+      refreshCount.increment();
+      lastRefreshTime = System.currentTimeMillis();
+      logger.debug("RefreshableCache:refresh: cache " + name + " refreshed, changed = " + changed);
+      return changed;
+    } catch (Exception e) {
+      failureCount.increment();
+      logger.error(
+          "RefreshableCache:refresh: refresh of cache "
+              + name
+              + " failed with message = "
+              + e.getMessage(),
+          e);
+      return false;
+    } finally {
+      long duration = System.currentTimeMillis() - startTime;
+      lastDurationMillis.set(duration);
+      maxDurationMillis.accumulateAndGet(duration, Math::max);
+    }
+  }
+
+  /**
+   * Returns refresh, unchanged and failure counts, last and max refresh duration, and the
+   * staleness, which is the time since the last successful refresh, in milliseconds. Staleness is
+   * -1 until the first successful refresh.
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new HashMap<>();
+    long refreshTime = lastRefreshTime;
+    metrics.put("refreshes", refreshCount.sum());
+    metrics.put("unchanged", unchangedCount.sum());
+    metrics.put("failures", failureCount.sum());
+    metrics.put("lastDurationMillis", lastDurationMillis.get());
+    metrics.put("maxDurationMillis", maxDurationMillis.get());
+    metrics.put("lastChangeTime", lastChangeTime);
+    metrics.put(
+        "stalenessMillis", 0 == refreshTime ? -1 : System.currentTimeMillis() - refreshTime);
+    return metrics;
+  }
+
+  private byte[] hash(Object value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(mapper.writeValueAsBytes(value));
+    } catch (Exception e) {
+      // data which can not be hashed is always published
+      logger.debug("RefreshableCache:hash: content of cache " + name + " can not be hashed " + e);
+      return null;
+    }
+  }
+}
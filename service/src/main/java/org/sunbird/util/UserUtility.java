@@ -2,6 +2,7 @@ package org.sunbird.util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -85,6 +86,38 @@ public final class UserUtility {
     return userMap;
   }
 
+  /**
+   * Decrypts (or masks) the encrypted attributes of all the given ES user documents in one pass,
+   * with the same result as {@link #decryptUserDataFrmES(Map)} for each document. Each distinct
+   * cipher text of an attribute is decrypted only once.
+   *
+   * @param userMapList List of user documents read from ES
+   * @return Same list with decrypted or masked attributes
+   */
+  public static List<Map<String, Object>> decryptUserDataFrmES(
+      List<Map<String, Object>> userMapList) {
+    DecryptionService service = ServiceFactory.getDecryptionServiceInstance();
+    Map<String, Map<String, String>> decryptedValues = new HashMap<>();
+    for (Map<String, Object> userMap : userMapList) {
+      for (String key : userKeyToDecrypt) {
+        if (userMap.containsKey(key)) {
+          String value = (String) userMap.get(key);
+          Map<String, String> keyValues = decryptedValues.computeIfAbsent(key, k -> new HashMap<>());
+          // a null result is kept as well, the document then gets null as in the single path
+          if (!keyValues.containsKey(value)) {
+            keyValues.put(
+                value,
+                userKeysToMasked.contains(key)
+                    ? maskEmailOrPhone(value, key)
+                    : service.decryptData(value, null));
+          }
+          userMap.put(key, keyValues.get(value));
+        }
+      }
+    }
+    return userMapList;
+  }
+
   public static Map<String, Object> encryptUserSearchFilterQueryData(Map<String, Object> map) {
     Map<String, Object> filterMap = (Map<String, Object>) map.get(JsonKey.FILTERS);
     EncryptionService service = ServiceFactory.getEncryptionServiceInstance();
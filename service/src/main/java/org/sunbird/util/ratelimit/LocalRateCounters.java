@@ -0,0 +1,81 @@
+package org.sunbird.util.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In process copy of the rate limit counts of keys, as last read from or written to the shared
+ * store. A count only grows until its window expires, so a copied count which reached its limit
+ * rejects a request without a round trip to the shared store. Counts are kept only until their
+ * window expires and at most maxKeys counts are kept.
+ */
+public class LocalRateCounters {
+
+  private static final int SWEEP_INTERVAL = 1024;
+
+  private final int maxKeys;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final AtomicInteger updateCount = new AtomicInteger();
+
+  public LocalRateCounters(int maxKeys) {
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Returns the first rate limiter whose limit the key reached, or null if the key is within the
+   * limits as far as this node knows.
+   */
+  public RateLimiter getExceededRateLimiter(String key, RateLimiter[] rateLimiters, long now) {
+    for (RateLimiter rateLimiter : rateLimiters) {
+      Counter counter = counters.get(counterKey(key, rateLimiter.name()));
+      if (null != counter && counter.expiresAt > now && counter.count >= counter.limit) {
+        return rateLimiter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Copies the count of a rate limit of the key.
+   *
+   * @param rateLimit Rate limit, whose ttl is the remaining time of its window in seconds
+   * @param now Current time in milliseconds
+   */
+  public void update(RateLimit rateLimit, long now) {
+    if (updateCount.incrementAndGet() % SWEEP_INTERVAL == 0) {
+      counters.values().removeIf(counter -> counter.expiresAt <= now);
+    }
+    String counterKey = counterKey(rateLimit.getKey(), rateLimit.getUnit());
+    if (counters.size() >= maxKeys && !counters.containsKey(counterKey)) {
+      return;
+    }
+    Counter counter =
+        new Counter(rateLimit.getCount(), rateLimit.getLimit(), now + rateLimit.getTTL() * 1000L);
+    // a concurrent update may have copied a newer, higher count of the same window
+    counters.merge(
+        counterKey,
+        counter,
+        (old, updated) -> old.expiresAt > now && old.count > updated.count ? old : updated);
+  }
+
+  public int size() {
+    return counters.size();
+  }
+
+  private static String counterKey(String key, String unit) {
+    return key + ":" + unit;
+  }
+
+  private static final class Counter {
+    private final int count;
+    private final int limit;
+    private final long expiresAt;
+
+    private Counter(int count, int limit, long expiresAt) {
+      this.count = count;
+      this.limit = limit;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.sunbird.util.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests allowed and rejected by the rate limiter. Rejects are counted per rate limit
+ * unit, local rejects are rejects decided from the in process counts without reading the shared
+ * store, and conflicts are writes to the shared store which lost to a concurrent request. The
+ * instance returned by {@link #getInstance()} counts the requests of this node.
+ */
+public final class RateLimitMetrics {
+
+  private static final RateLimitMetrics instance = new RateLimitMetrics();
+
+  private final LongAdder allowedCount = new LongAdder();
+  private final LongAdder localRejectCount = new LongAdder();
+  private final LongAdder conflictCount = new LongAdder();
+  private final Map<String, LongAdder> rejectCounts = new ConcurrentHashMap<>();
+
+  public static RateLimitMetrics getInstance() {
+    return instance;
+  }
+
+  public void recordAllowed() {
+    allowedCount.increment();
+  }
+
+  public void recordRejected(String unit, boolean local) {
+    rejectCounts.computeIfAbsent(unit, key -> new LongAdder()).increment();
+    if (local) {
+      localRejectCount.increment();
+    }
+  }
+
+  public void recordConflict() {
+    conflictCount.increment();
+  }
+
+  /** Returns the allowed, rejected, local reject and conflict counts. */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new HashMap<>();
+    metrics.put("allowed", allowedCount.sum());
+    metrics.put("localRejects", localRejectCount.sum());
+    metrics.put("conflicts", conflictCount.sum());
+    long rejected = 0;
+    for (Map.Entry<String, LongAdder> entry : rejectCounts.entrySet()) {
+      long count = entry.getValue().sum();
+      metrics.put("rejected." + entry.getKey().toLowerCase(), count);
+      rejected += count;
+    }
+    metrics.put("rejected", rejected);
+    return metrics;
+  }
+}
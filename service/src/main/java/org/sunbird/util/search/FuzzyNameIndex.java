@@ -0,0 +1,126 @@
+package org.sunbird.util.search;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.apache.commons.codec.language.Soundex;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Index of the name tokens of a page of search results, built once and matched against every
+ * token of the fuzzy filter.
+ *
+ * <p>It follows the TEXT matching of the fuzzy-matcher library used before. A token is URL
+ * encoded, stripped of characters other than letters and digits and lower cased, an empty token is
+ * ignored. Two tokens match when they share a 3-gram, or the whole token if it is shorter, and have
+ * the same Soundex code, or are equal if either is a number. A matched token scores 1, so it
+ * matches when the threshold is below 1. Each token is normalized and encoded once, when the index
+ * is built.
+ */
+public class FuzzyNameIndex {
+  private static final LoggerUtil logger = new LoggerUtil(FuzzyNameIndex.class);
+
+  private static final String ENCODING = "UTF-8";
+  private static final int NGRAM_SIZE = 3;
+  private static final Pattern SPECIAL_CHARS = Pattern.compile("[^A-Za-z0-9 ]+");
+  private static final Soundex soundex = new Soundex();
+
+  private final Map<String, List<IndexedToken>> tokensByNGram = new HashMap<>();
+
+  /**
+   * Indexes the names of the search results.
+   *
+   * @param namesById Name of each result by its id, a result without name is not indexed
+   */
+  public FuzzyNameIndex(Map<String, String> namesById) {
+    namesById.forEach(
+        (id, name) -> {
+          if (null == name) {
+            return;
+          }
+          for (String token : name.split(" ")) {
+            IndexedToken indexedToken = IndexedToken.of(id, token);
+            if (null != indexedToken) {
+              for (String nGram : indexedToken.nGrams) {
+                tokensByNGram.computeIfAbsent(nGram, key -> new ArrayList<>()).add(indexedToken);
+              }
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns the ids of the results with a name token matching the given token.
+   *
+   * @param token Token of the fuzzy filter
+   * @param threshold Fuzzy search threshold
+   * @return Ids of the matched results
+   */
+  public Set<String> match(String token, float threshold) {
+    Set<String> matchedIds = new HashSet<>();
+    IndexedToken searchToken = IndexedToken.of(null, token);
+    if (null == searchToken || threshold >= 1) {
+      return matchedIds;
+    }
+    for (String nGram : searchToken.nGrams) {
+      for (IndexedToken indexedToken : tokensByNGram.getOrDefault(nGram, Collections.emptyList())) {
+        if (searchToken.matches(indexedToken)) {
+          matchedIds.add(indexedToken.id);
+        }
+      }
+    }
+    return matchedIds;
+  }
+
+  private static final class IndexedToken {
+    private final String id;
+    private final String value;
+    private final boolean numeric;
+    private final String code;
+    private final Set<String> nGrams = new HashSet<>();
+
+    private IndexedToken(String id, String value) {
+      this.id = id;
+      this.value = value;
+      this.numeric = StringUtils.isNumeric(value);
+      this.code = soundex.encode(value);
+      if (value.length() <= NGRAM_SIZE) {
+        nGrams.add(value);
+      } else {
+        for (int i = 0; i + NGRAM_SIZE <= value.length(); i++) {
+          nGrams.add(value.substring(i, i + NGRAM_SIZE));
+        }
+      }
+    }
+
+    private static IndexedToken of(String id, String token) {
+      try {
+        String value =
+            SPECIAL_CHARS
+                .matcher(URLEncoder.encode(token.trim(), ENCODING))
+                .replaceAll("")
+                .trim()
+                .toLowerCase();
+        return value.isEmpty() ? null : new IndexedToken(id, value);
+      } catch (UnsupportedEncodingException e) {
+        logger.error("FuzzyNameIndex:of: Error occured during encoding of data ", e);
+        return null;
+      }
+    }
+
+    private boolean matches(IndexedToken other) {
+      if (numeric || other.numeric) {
+        return value.equalsIgnoreCase(other.value);
+      }
+      return code.equals(other.code);
+    }
+  }
+}
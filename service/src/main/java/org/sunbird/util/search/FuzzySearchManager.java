@@ -30,16 +30,16 @@ public class FuzzySearchManager {
 
   public List<Map<String, Object>> startFuzzySearch() {
     HashSet<String> resultSet = new HashSet<>();
+    float threshold = FuzzyMatcher.getFuzzyThreshold();
     fuzzySearchMap
         .entrySet()
         .forEach(
             map -> {
               validateKeyInFuzzyMap(map.getKey());
+              FuzzyNameIndex index = new FuzzyNameIndex(getFuzzyAttributeFromMap(map.getKey()));
               String[] splittedName = map.getValue().toString().split(" ");
               for (int i = 0; i < splittedName.length; i++) {
-                resultSet.addAll(
-                    FuzzyMatcher.matchDoc(
-                        splittedName[i].trim(), getFuzzyAttributeFromMap(map.getKey())));
+                resultSet.addAll(index.match(splittedName[i].trim(), threshold));
               }
             });
     logger.info(
@@ -70,12 +70,13 @@ public class FuzzySearchManager {
               attributesValueMap.put(
                   (String) resultMap.get(JsonKey.ID), (String) resultMap.get(key));
             });
-    logger.info(
-        String.format(
-            "%s:%s:the prepared Map for fuzzy search  %s",
-            this.getClass().getSimpleName(),
-            "getFuzzyAttributeFromMap",
-            Collections.singleton(attributesValueMap.toString())));
+    logger.debug(
+        () ->
+            String.format(
+                "%s:%s:the prepared Map for fuzzy search  %s",
+                this.getClass().getSimpleName(),
+                "getFuzzyAttributeFromMap",
+                Collections.singleton(attributesValueMap.toString())));
     return attributesValueMap;
   }
 
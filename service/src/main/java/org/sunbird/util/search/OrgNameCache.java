@@ -0,0 +1,50 @@
+package org.sunbird.util.search;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Node local cache of organisation id to organisation name, shared by all user search requests so
+ * that names of the same organisations are not fetched from ES for every search page.
+ */
+public final class OrgNameCache {
+
+  private static final long TTL_SECONDS =
+      Long.parseLong(ProjectUtil.getConfigValue("sunbird_org_name_cache_ttl_seconds", "300"));
+  private static final long MAX_SIZE =
+      Long.parseLong(ProjectUtil.getConfigValue("sunbird_org_name_cache_max_size", "10000"));
+
+  private static final Cache<String, String> orgNames =
+      CacheBuilder.newBuilder()
+          .expireAfterWrite(TTL_SECONDS, TimeUnit.SECONDS)
+          .maximumSize(MAX_SIZE)
+          .build();
+
+  private OrgNameCache() {}
+
+  /**
+   * Returns the cached names of the given organisations. Organisations which are not cached are
+   * not part of the returned map.
+   */
+  public static Map<String, String> getOrgNames(Collection<String> orgIds) {
+    return new HashMap<>(orgNames.getAllPresent(orgIds));
+  }
+
+  public static void put(String orgId, String orgName) {
+    if (StringUtils.isNotBlank(orgId) && null != orgName) {
+      orgNames.put(orgId, orgName);
+    }
+  }
+
+  public static void invalidate(String orgId) {
+    if (StringUtils.isNotBlank(orgId)) {
+      orgNames.invalidate(orgId);
+    }
+  }
+}
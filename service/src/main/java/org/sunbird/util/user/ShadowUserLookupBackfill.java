@@ -0,0 +1,77 @@
+package org.sunbird.util.user;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.dao.user.ShadowUserLookupDao;
+import org.sunbird.dao.user.impl.ShadowUserLookupDaoImpl;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.response.Response;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * One time job which builds shadow_user_lookup from the existing shadow_user rows. The table is
+ * read in pages of sunbird_shadow_user_lookup_backfill_page_size rows; lookup entries are upserts,
+ * so the job can be run again, or resumed from the paging state logged after every page by setting
+ * sunbird_shadow_user_lookup_backfill_paging_state.
+ */
+public class ShadowUserLookupBackfill implements Runnable {
+
+  private static final LoggerUtil logger = new LoggerUtil(ShadowUserLookupBackfill.class);
+
+  private final ShadowUserLookupDao shadowUserLookupDao;
+  private final int pageSize;
+  private final String startPagingState;
+
+  public ShadowUserLookupBackfill() {
+    this(
+        ShadowUserLookupDaoImpl.getInstance(),
+        NumberUtils.toInt(
+            ProjectUtil.getConfigValue("sunbird_shadow_user_lookup_backfill_page_size"), 500),
+        ProjectUtil.getConfigValue("sunbird_shadow_user_lookup_backfill_paging_state"));
+  }
+
+  ShadowUserLookupBackfill(
+      ShadowUserLookupDao shadowUserLookupDao, int pageSize, String startPagingState) {
+    this.shadowUserLookupDao = shadowUserLookupDao;
+    this.pageSize = pageSize;
+    this.startPagingState = StringUtils.isBlank(startPagingState) ? null : startPagingState;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(
+        ProjectUtil.getConfigValue("sunbird_shadow_user_lookup_backfill_enabled"));
+  }
+
+  @Override
+  public void run() {
+    String pagingState = startPagingState;
+    long count = 0;
+    logger.info("ShadowUserLookupBackfill:run: backfill started");
+    try {
+      do {
+        Response response = shadowUserLookupDao.getShadowUsersByPage(pagingState, pageSize, null);
+        List<Map<String, Object>> shadowUsers =
+            (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
+        shadowUserLookupDao.insertLookups(shadowUsers, null);
+        count += shadowUsers.size();
+        pagingState = (String) response.getResult().get(JsonKey.PAGING_STATE);
+        logger.info(
+            "ShadowUserLookupBackfill:run: shadow users processed = "
+                + count
+                + ", next paging state = "
+                + pagingState);
+      } while (null != pagingState);
+      logger.info("ShadowUserLookupBackfill:run: backfill completed, shadow users = " + count);
+    } catch (Exception e) {
+      logger.error(
+          "ShadowUserLookupBackfill:run: backfill failed at paging state = "
+              + pagingState
+              + " with error message = "
+              + e.getMessage(),
+          e);
+    }
+  }
+}
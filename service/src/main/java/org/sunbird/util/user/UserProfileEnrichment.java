@@ -0,0 +1,74 @@
+package org.sunbird.util.user;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.keys.JsonKey;
+
+/**
+ * Optional enrichments of the user profile read. Each enrichment declares the fields of the fields
+ * query parameter which ask for it and the enrichment it builds on. An enrichment which is not
+ * asked for is skipped, its lookups are never issued.
+ */
+public enum UserProfileEnrichment {
+  /** Adds an empty topics set. */
+  TOPICS(null, JsonKey.TOPIC, JsonKey.TOPICS),
+  /** Adds the roles which can be read by the user as roleList. */
+  ROLE_LIST(null, JsonKey.ROLES),
+  /** Adds name, channel, hashTagId, externalId, isSchool and location ids to the organisations. */
+  ORG_DETAILS(null, JsonKey.ORGANISATIONS),
+  /** Adds the location details of each organisation as organisations.locations. */
+  ORG_LOCATIONS(ORG_DETAILS, JsonKey.LOCATIONS),
+  /** Adds the location details of the user as userLocations. */
+  USER_LOCATIONS(null, JsonKey.LOCATIONS),
+  /** Adds the school of the user to userLocations. */
+  SCHOOL_LOCATION(ORG_DETAILS, JsonKey.LOCATIONS),
+  /** Adds the self declarations of the user. */
+  DECLARATIONS(null, JsonKey.DECLARATIONS),
+  /** Adds the external ids of the user if they are not already part of the response. */
+  EXTERNAL_IDS(null, JsonKey.EXTERNAL_IDS);
+
+  private final UserProfileEnrichment dependsOn;
+  private final List<String> fields;
+
+  UserProfileEnrichment(UserProfileEnrichment dependsOn, String... fields) {
+    this.dependsOn = dependsOn;
+    this.fields = Arrays.asList(fields);
+  }
+
+  public List<String> getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns the enrichments asked for by the comma separated fields query parameter. Fields are
+   * matched as whole names, an enrichment is part of the plan if one of its fields is asked for and
+   * the enrichment it builds on is part of the plan as well.
+   *
+   * @param fields Value of the fields query parameter, may be blank
+   * @return Enrichments to run for the request
+   */
+  public static Set<UserProfileEnrichment> fromFields(String fields) {
+    if (StringUtils.isBlank(fields)) {
+      return Collections.emptySet();
+    }
+    Set<String> requestedFields =
+        Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .collect(Collectors.toSet());
+    Set<UserProfileEnrichment> enrichments = EnumSet.noneOf(UserProfileEnrichment.class);
+    // an enrichment is declared after the one it builds on
+    for (UserProfileEnrichment enrichment : values()) {
+      if (enrichment.fields.stream().anyMatch(requestedFields::contains)
+          && (null == enrichment.dependsOn || enrichments.contains(enrichment.dependsOn))) {
+        enrichments.add(enrichment);
+      }
+    }
+    return enrichments;
+  }
+}
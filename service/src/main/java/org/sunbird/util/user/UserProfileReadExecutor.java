@@ -0,0 +1,198 @@
+package org.sunbird.util.user;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Request scoped helper used by the user profile read to run independent lookups (user row, roles,
+ * organisations, locations, declarations, external ids etc.) concurrently and join them.
+ *
+ * <p>Every branch is timed, the timings are logged once the read completes so that the dominating
+ * enrichment can be identified. Mandatory branches propagate their failure to the caller and cancel
+ * the other branches of the read, optional branches degrade to a fallback value on failure or
+ * timeout. The shared pool has a bounded queue, when it is full the branch runs on the caller
+ * thread.
+ */
+public class UserProfileReadExecutor {
+
+  private static final LoggerUtil logger = new LoggerUtil(UserProfileReadExecutor.class);
+
+  private static final boolean PARALLEL_ENABLED =
+      Boolean.parseBoolean(
+          ProjectUtil.getConfigValue("sunbird_user_profile_read_parallel_enabled", "true"));
+  private static final long BRANCH_TIMEOUT_MS =
+      Long.parseLong(
+          ProjectUtil.getConfigValue("sunbird_user_profile_read_branch_timeout_ms", "5000"));
+  private static final int POOL_SIZE =
+      Integer.parseInt(ProjectUtil.getConfigValue("sunbird_user_profile_read_pool_size", "32"));
+  private static final int QUEUE_SIZE =
+      Integer.parseInt(ProjectUtil.getConfigValue("sunbird_user_profile_read_queue_size", "256"));
+
+  private static final ExecutorService executor = createExecutor();
+
+  private final RequestContext context;
+  private final Map<String, Long> branchTimings = new LinkedHashMap<>();
+  private final Map<CompletableFuture<?>, Future<?>> tasks = new HashMap<>();
+
+  public UserProfileReadExecutor(RequestContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Schedules the given branch. When parallel read is disabled the branch is executed inline on the
+   * caller thread and a completed future is returned. When the queue of the pool is full the branch
+   * is executed on the caller thread as well.
+   *
+   * @param branch Name of the branch, used for timing and error logging
+   * @param supplier Lookup to execute
+   * @return Future holding the branch result
+   */
+  public <T> CompletableFuture<T> submit(String branch, Supplier<T> supplier) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Runnable task = () -> complete(future, branch, supplier);
+    if (!PARALLEL_ENABLED) {
+      task.run();
+    } else {
+      tasks.put(future, executor.submit(task));
+    }
+    return future;
+  }
+
+  /**
+   * Waits for a mandatory branch. Any failure of the branch is rethrown as is, a timeout is
+   * reported as a server error. On failure the other branches are cancelled as the read can not
+   * complete.
+   */
+  public <T> T await(String branch, CompletableFuture<T> future) {
+    try {
+      return future.get(BRANCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      cancelAll();
+      logger.info(
+          context, "UserProfileReadExecutor:await: timeout for mandatory branch = " + branch);
+      ProjectCommonException.throwServerErrorException(ResponseCode.internalError);
+    } catch (InterruptedException e) {
+      cancelAll();
+      Thread.currentThread().interrupt();
+      ProjectCommonException.throwServerErrorException(ResponseCode.internalError);
+    } catch (ExecutionException e) {
+      cancelAll();
+      throw unwrap(e.getCause());
+    }
+    return null;
+  }
+
+  /**
+   * Waits for an optional branch. On failure or timeout the fallback value is returned so that the
+   * profile read can still be served without the enrichment.
+   */
+  public <T> T awaitOptional(String branch, CompletableFuture<T> future, T fallback) {
+    try {
+      return future.get(BRANCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      cancel(future);
+      logger.info(
+          context, "UserProfileReadExecutor:awaitOptional: timeout for branch = " + branch);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.error(
+          context,
+          "UserProfileReadExecutor:awaitOptional: exception in branch = " + branch,
+          e.getCause());
+    }
+    return fallback;
+  }
+
+  /** Cancels the branches which are still queued or running, interrupting the running ones. */
+  public void cancelAll() {
+    tasks.keySet().forEach(this::cancel);
+  }
+
+  public Map<String, Long> getBranchTimings() {
+    synchronized (branchTimings) {
+      return new LinkedHashMap<>(branchTimings);
+    }
+  }
+
+  public void logBranchTimings() {
+    logger.info(
+        context,
+        "UserProfileReadExecutor: profile read branch timings in ms = " + getBranchTimings());
+  }
+
+  private <T> void complete(CompletableFuture<T> future, String branch, Supplier<T> supplier) {
+    try {
+      future.complete(time(branch, supplier));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private void cancel(CompletableFuture<?> future) {
+    future.cancel(true);
+    Future<?> task = tasks.get(future);
+    if (null != task) {
+      task.cancel(true);
+    }
+  }
+
+  private <T> T time(String branch, Supplier<T> supplier) {
+    long startTime = System.currentTimeMillis();
+    try {
+      return supplier.get();
+    } finally {
+      long elapsed = System.currentTimeMillis() - startTime;
+      synchronized (branchTimings) {
+        branchTimings.put(branch, elapsed);
+      }
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof CompletionException && null != cause.getCause()) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    return new ProjectCommonException(
+        ResponseCode.internalError.getErrorCode(),
+        ResponseCode.internalError.getErrorMessage(),
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  private static ExecutorService createExecutor() {
+    AtomicInteger threadCount = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        POOL_SIZE,
+        POOL_SIZE,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(QUEUE_SIZE),
+        runnable -> {
+          Thread thread =
+              new Thread(runnable, "user-profile-read-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+}
@@ -0,0 +1,79 @@
+package org.sunbird.actor.core;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.request.Request;
+import org.sunbird.response.Response;
+
+public class InstrumentedMailboxTest {
+
+  private static final CountDownLatch latch = new CountDownLatch(1);
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system =
+        ActorSystem.create(
+            "mailboxTest",
+            ConfigFactory.parseString(
+                "test-bounded-mailbox { mailbox-type = "
+                    + "\"org.sunbird.actor.core.InstrumentedMailbox\", mailbox-capacity = 1 }"));
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    latch.countDown();
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testFullMailboxRejectsRequest() {
+    TestKit probe = new TestKit(system);
+    ActorRef subject =
+        system.actorOf(
+            Props.create(BlockingActor.class).withMailbox("test-bounded-mailbox"),
+            "blocking_actor");
+    subject.tell(new Request(), probe.getRef());
+    // wait for the first request to be taken out of the mailbox
+    probe.awaitCond(
+        Duration.ofSeconds(5),
+        () -> {
+          Map<String, Long> stats = ActorMetrics.getMetrics().get("blocking_actor");
+          return null != stats && stats.get("enqueued") == 1 && stats.get("mailboxDepth") == 0;
+        });
+    subject.tell(new Request(), probe.getRef());
+    subject.tell(new Request(), probe.getRef());
+
+    ProjectCommonException exception =
+        probe.expectMsgClass(Duration.ofSeconds(5), ProjectCommonException.class);
+    Assert.assertEquals(
+        ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), exception.getResponseCode());
+    Map<String, Long> stats = ActorMetrics.getMetrics().get("blocking_actor");
+    Assert.assertEquals(1L, (long) stats.get("rejected"));
+    Assert.assertEquals(1L, (long) stats.get("mailboxDepth"));
+    latch.countDown();
+    probe.expectMsgClass(Duration.ofSeconds(5), Response.class);
+    probe.expectMsgClass(Duration.ofSeconds(5), Response.class);
+  }
+
+  public static class BlockingActor extends BaseActor {
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      latch.await(10, TimeUnit.SECONDS);
+      sender().tell(new Response(), self());
+    }
+  }
+}
@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -26,8 +27,10 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.actor.BackgroundOperations;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.mail.SmtpSenderPool;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
 import org.sunbird.util.DataCacheHandler;
@@ -35,7 +38,13 @@ import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({ServiceFactory.class, Util.class, DataCacheHandler.class, ProjectUtil.class})
+@PrepareForTest({
+  ServiceFactory.class,
+  Util.class,
+  DataCacheHandler.class,
+  ProjectUtil.class,
+  SmtpSenderPool.class
+})
 @PowerMockIgnore({
   "javax.management.*",
   "javax.net.ssl.*",
@@ -53,6 +62,7 @@ public class EmailServiceActorTest {
   private static final Props props = Props.create(EmailServiceActor.class);
   private ActorSystem system = ActorSystem.create("system");
   private static CassandraOperationImpl cassandraOperation;
+  private SmtpSenderPool smtpSenderPool;
 
   @BeforeClass
   public static void setUp() {
@@ -76,6 +86,12 @@ public class EmailServiceActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(cassandraGetRecordById());
+    PowerMockito.mockStatic(SmtpSenderPool.class);
+    smtpSenderPool = mock(SmtpSenderPool.class);
+    when(SmtpSenderPool.getInstance()).thenReturn(smtpSenderPool);
+    when(smtpSenderPool.send(
+            Mockito.anyList(), Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(true));
   }
 
   private static Response cassandraGetRecordById() {
@@ -165,6 +181,46 @@ public class EmailServiceActorTest {
     assertTrue(response != null);
   }
 
+  @Test
+  public void testSendEmailFailure() {
+    when(cassandraOperation.getPropertiesValueById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(cassandraGetRecordById());
+    when(cassandraOperation.getRecordsByPrimaryKeys(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any()))
+        .thenReturn(cassandraGetRecordById());
+    when(smtpSenderPool.send(
+            Mockito.anyList(), Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(false));
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(BackgroundOperations.emailService.name());
+
+    HashMap<String, Object> innerMap = new HashMap<>();
+    Map<String, Object> reqMap = new HashMap<>();
+    List<String> userIdList = new ArrayList<>();
+    userIdList.add("001");
+    reqMap.put(JsonKey.EMAIL_TEMPLATE_TYPE, "default");
+    reqMap.put(JsonKey.RECIPIENT_USERIDS, userIdList);
+    reqMap.put(JsonKey.MODE, "email");
+    innerMap.put(JsonKey.EMAIL_REQUEST, reqMap);
+
+    reqObj.setRequest(innerMap);
+    subject.tell(reqObj, probe.getRef());
+    ProjectCommonException exception =
+        probe.expectMsgClass(duration("10000 second"), ProjectCommonException.class);
+    Assert.assertEquals(ResponseCode.internalError.getErrorCode(), exception.getCode());
+  }
+
   @Test
   public void testWithInvalidRequest() {
     Request request = new Request();
@@ -71,6 +71,15 @@ public class OTPActorTest {
   public static void before() {
     PowerMockito.mockStatic(ServiceFactory.class);
     when(ServiceFactory.getInstance()).thenReturn(mockCassandraOperation);
+    when(mockCassandraOperation.batchUpsertIfWithTTL(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(true);
     PowerMockito.mock(SendOTPActor.class);
   }
 
@@ -14,10 +14,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.organisation.Organisation;
@@ -27,6 +29,7 @@ import org.sunbird.response.Response;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.Util;
 import scala.concurrent.Future;
+import scala.concurrent.Promise;
 
 public class SSOUserCreateActorTest extends UserManagementActorTestBase {
 
@@ -185,6 +188,61 @@ public class SSOUserCreateActorTest extends UserManagementActorTestBase {
     assertTrue(result);
   }
 
+  @Test
+  public void testCreateUserSuccessWhenUserAttributesAreNotSaved() {
+    // saveUserAttributes recovers a failed save to null
+    when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(Futures.successful(null));
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    subject.tell(
+        getRequest(false, true, true, getAdditionalMapData(reqMap), ActorOperations.CREATE_USER),
+        probe.getRef());
+    Response res = probe.expectMsgClass(duration("10 second"), Response.class);
+    Assert.assertEquals(ResponseCode.OK, res.getResponseCode());
+    // the stage latencies are not part of the payload
+    Assert.assertFalse(res.getResult().containsKey(JsonKey.STAGE_LATENCY));
+    Assert.assertTrue(res.getStageLatency().containsKey(JsonKey.USER_ATTRIBUTES));
+  }
+
+  @Test
+  public void testCreateUserFailureWhenUserAttributesFutureFails() {
+    when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(
+            Futures.failed(
+                new ProjectCommonException(
+                    ResponseCode.internalError.getErrorCode(),
+                    ResponseCode.internalError.getErrorMessage(),
+                    ResponseCode.SERVER_ERROR.getResponseCode())));
+    boolean result =
+        testScenario(
+            getRequest(
+                false, true, true, getAdditionalMapData(reqMap), ActorOperations.CREATE_USER),
+            ResponseCode.internalError);
+    assertTrue(result);
+  }
+
+  @Test
+  public void testCreateUserReplyGoesToItsSender() {
+    Promise<Response> saved = Futures.promise();
+    when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(saved.future());
+    TestKit creator = new TestKit(system);
+    TestKit other = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    subject.tell(
+        getRequest(false, true, true, getAdditionalMapData(reqMap), ActorOperations.CREATE_USER),
+        creator.getRef());
+    // the actor handles the next message while the user attributes are saved
+    Request invalid = new Request();
+    invalid.setOperation("invalidOperation");
+    subject.tell(invalid, other.getRef());
+    other.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+    saved.success(getSaveResponse());
+    creator.expectMsgClass(duration("10 second"), Response.class);
+    other.expectNoMessage(duration("1 second"));
+  }
+
   /*  @Test
   public void testCreateUserFailureWithInvalidLocationCodes() {
     Future<Object> future = Futures.future(() -> null, system.dispatcher());
@@ -188,7 +188,7 @@ public abstract class UserManagementActorTestBase {
     when(UserServiceImpl.getInstance()).thenReturn(userService);
     when(userService.getUserById(Mockito.any(), Mockito.any())).thenReturn(getUser(false));
     when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
-        .thenReturn(getSaveResponse());
+        .thenReturn(Futures.successful(getSaveResponse()));
     when(userService.createUser(Mockito.anyMap(), Mockito.any())).thenReturn(getSuccessResponse());
     when(userService.updateUser(Mockito.anyMap(), Mockito.any())).thenReturn(getSuccessResponse());
     PowerMockito.mockStatic(UserLookUpServiceImpl.class);
@@ -1,6 +1,7 @@
 package org.sunbird.dao.ratelimit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doAnswer;
@@ -75,6 +76,32 @@ public class RateLimitDaoTest {
             Mockito.anyList(),
             Mockito.any());
 
+    doAnswer(
+            (Answer)
+                invocation -> {
+                  List<Map<String, Object>> records = invocation.getArgument(3);
+                  List<Map<String, Object>> expectedValues = invocation.getArgument(4);
+                  assertSame(2, records.size());
+                  for (int i = 0; i < records.size(); i++) {
+                    Object unit = records.get(i).get(JsonKey.RATE_LIMIT_UNIT);
+                    if (OtpRateLimiter.HOUR.name().equals(unit)) {
+                      assertEquals(4, expectedValues.get(i).get(JsonKey.COUNT));
+                    } else {
+                      assertNull(expectedValues.get(i));
+                    }
+                  }
+                  return true;
+                })
+        .when(cassandraOperationImpl)
+        .batchUpsertIfWithTTL(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any());
+
     when(cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumnsAndTTL(
             Mockito.anyString(),
             Mockito.anyString(),
@@ -103,6 +130,17 @@ public class RateLimitDaoTest {
     }
   }
 
+  @Test
+  public void testCompareAndSetRateLimitsSuccess() {
+    RateLimitDao rateLimitDao = RateLimitDaoImpl.getInstance();
+    List<RateLimit> rateLimits = getRateLimits();
+    rateLimits.add(
+        new RateLimit(KEY, OtpRateLimiter.DAY.name(), 20, OtpRateLimiter.DAY.getTTL()));
+    Map<String, Integer> expectedCounts = new HashMap<>();
+    expectedCounts.put(OtpRateLimiter.HOUR.name(), 4);
+    assertTrue(rateLimitDao.compareAndSetRateLimits(rateLimits, expectedCounts, null));
+  }
+
   @Test
   public void testGetRateLimitsSuccess() {
     RateLimitDao rateLimitDao = RateLimitDaoImpl.getInstance();
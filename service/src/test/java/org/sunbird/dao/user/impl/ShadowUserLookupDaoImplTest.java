@@ -0,0 +1,80 @@
+package org.sunbird.dao.user.impl;
+
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.response.Response;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceFactory.class})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class ShadowUserLookupDaoImplTest {
+
+  private CassandraOperation cassandraOperation;
+
+  @Before
+  public void setUp() {
+    cassandraOperation = mock(CassandraOperation.class);
+    PowerMockito.mockStatic(ServiceFactory.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+  }
+
+  @Test
+  public void testUpdateShadowUserDeletesLookupOfRemovedUserId() {
+    Map<String, Object> currentShadowUser = getShadowUser("user1", "user2");
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, new ArrayList<>(Collections.singletonList(currentShadowUser)));
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
+        .thenReturn(response);
+    when(cassandraOperation.batchUpsertTables(Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
+        .thenReturn(new Response());
+
+    new ShadowUserLookupDaoImpl().updateShadowUser(getShadowUser("user1"), null);
+
+    Mockito.verify(cassandraOperation)
+        .deleteRecord(JsonKey.SUNBIRD, JsonKey.SHADOW_USER_LOOKUP, getLookupKey("user2"), null);
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .deleteRecord(JsonKey.SUNBIRD, JsonKey.SHADOW_USER_LOOKUP, getLookupKey("user1"), null);
+  }
+
+  private static Map<String, Object> getShadowUser(String... userIds) {
+    Map<String, Object> shadowUser = new HashMap<>();
+    shadowUser.put(JsonKey.CHANNEL, "channel");
+    shadowUser.put(JsonKey.USER_EXT_ID, "userExtId");
+    List<String> userIdList = new ArrayList<>(Arrays.asList(userIds));
+    shadowUser.put(JsonKey.USERIDS, userIdList);
+    return shadowUser;
+  }
+
+  private static Map<String, String> getLookupKey(String userId) {
+    Map<String, String> lookupKey = new HashMap<>();
+    lookupKey.put(JsonKey.USER_ID, userId);
+    lookupKey.put(JsonKey.CHANNEL, "channel");
+    lookupKey.put(JsonKey.USER_EXT_ID, "userExtId");
+    return lookupKey;
+  }
+}
@@ -0,0 +1,59 @@
+package org.sunbird.dao.user.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.request.RequestContext;
+
+public class UserCacheTest {
+
+  private final AtomicInteger readCount = new AtomicInteger();
+  private final Function<String, Map<String, Object>> loader =
+      userId -> {
+        readCount.incrementAndGet();
+        Map<String, Object> row = new HashMap<>();
+        row.put(JsonKey.ID, userId);
+        row.put(JsonKey.ROLES, new ArrayList<>());
+        return row;
+      };
+
+  @Test
+  public void testRequestMemoReadsOncePerRequest() {
+    UserCache userCache = new UserCache(true, false, 5000, 10);
+    RequestContext context = new RequestContext();
+    Map<String, Object> user = userCache.get("user1", context, loader);
+    // callers get copies, modifying one does not change the cached row
+    ((List) user.get(JsonKey.ROLES)).add("PUBLIC");
+    user = userCache.get("user1", context, loader);
+    Assert.assertTrue(((List) user.get(JsonKey.ROLES)).isEmpty());
+    Assert.assertEquals(1, readCount.get());
+    userCache.get("user1", new RequestContext(), loader);
+    Assert.assertEquals(2, readCount.get());
+    userCache.invalidate("user1", context);
+    userCache.get("user1", context, loader);
+    Assert.assertEquals(3, readCount.get());
+    Assert.assertEquals(1L, (long) userCache.getMetrics().get("requestHits"));
+  }
+
+  @Test
+  public void testNodeCacheIsBounded() {
+    UserCache userCache = new UserCache(false, true, 5000, 1);
+    userCache.get("user1", null, loader);
+    userCache.get("user1", null, loader);
+    Assert.assertEquals(1, readCount.get());
+    // the cache is full, user2 is cached and the least recently used user1 is evicted
+    userCache.get("user2", null, loader);
+    userCache.get("user2", null, loader);
+    Assert.assertEquals(2, readCount.get());
+    userCache.get("user1", null, loader);
+    Assert.assertEquals(3, readCount.get());
+    Assert.assertEquals(2L, (long) userCache.getMetrics().get("evictions"));
+    Assert.assertEquals(1L, (long) userCache.getMetrics().get("size"));
+  }
+}
@@ -63,6 +63,19 @@ public class FeedServiceImplTest {
             .delete(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
     PowerMockito.when(iFeedDao.getFeedsByProperties(Mockito.anyMap(), Mockito.any()))
             .thenReturn(response);
+    Response page = new Response();
+    Map<String, Object> feedWithData = getFeedMap();
+    feedWithData.put(JsonKey.FEED_DATA, "{\"prospectChannels\":[\"SI\"]}");
+    page.put(JsonKey.RESPONSE, Arrays.asList(feedWithData));
+    page.put(JsonKey.PAGING_STATE, "nextPage");
+    PowerMockito.when(
+            iFeedDao.getFeedsByPage(
+                Mockito.anyMap(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt(),
+                Mockito.any()))
+        .thenReturn(page);
     feedService = FeedFactory.getInstance();
   }
 
@@ -99,6 +112,20 @@ public class FeedServiceImplTest {
     Assert.assertTrue(res != null);
   }
 
+  @Test
+  public void testGetFeedsByPage() {
+    Map<String, Object> props = new HashMap<>();
+    props.put(JsonKey.USER_ID, "123-456-789");
+    Response res = feedService.getFeedsByPage(props, null, 10, false, new RequestContext());
+    List<Feed> feeds = (List<Feed>) res.get(JsonKey.RESPONSE);
+    Assert.assertEquals("123-456-7890", feeds.get(0).getId());
+    Assert.assertNull(feeds.get(0).getData());
+    Assert.assertEquals("nextPage", res.get(JsonKey.PAGING_STATE));
+    res = feedService.getFeedsByPage(props, "nextPage", 10, true, new RequestContext());
+    feeds = (List<Feed>) res.get(JsonKey.RESPONSE);
+    Assert.assertNotNull(feeds.get(0).getData().get(JsonKey.PROSPECT_CHANNELS));
+  }
+
   private static Map<String, Object> getFeedMap() {
     Map<String, Object> fMap = new HashMap<>();
     fMap.put(JsonKey.ID, "123-456-7890");
@@ -29,6 +29,7 @@ import org.sunbird.util.ProjectUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -329,4 +330,96 @@ public class NotificationServiceTest {
     Assert.assertNotNull(notiReq);
   }
 
+  @Test
+  public void getRecipientChunksPagesSearchResult() {
+    UserService userService = PowerMockito.mock(UserService.class);
+    PowerMockito.mockStatic(UserServiceImpl.class);
+    PowerMockito.when(UserServiceImpl.getInstance()).thenReturn(userService);
+    Map<String, Object> firstPage = new HashMap<>();
+    List<Map<String, Object>> firstPageUsers = new ArrayList<>();
+    firstPageUsers.add(getUser("xyz@xyz.com"));
+    firstPageUsers.add(getUser("abc@xyz.com"));
+    firstPage.put(JsonKey.CONTENT, firstPageUsers);
+    firstPage.put(JsonKey.COUNT, 3L);
+    List<Object> searchAfter = new ArrayList<>();
+    searchAfter.add("user2");
+    firstPage.put(JsonKey.SEARCH_AFTER, searchAfter);
+    Map<String, Object> secondPage = new HashMap<>();
+    List<Map<String, Object>> secondPageUsers = new ArrayList<>();
+    secondPageUsers.add(getUser("def@xyz.com"));
+    secondPage.put(JsonKey.CONTENT, secondPageUsers);
+    secondPage.put(JsonKey.COUNT, 3L);
+    PowerMockito.when(userService.getUserEmailPageBySearchQuery(Mockito.anyMap(), Mockito.any(RequestContext.class))).thenReturn(firstPage, secondPage);
+    List<String> emails = new ArrayList<>();
+    emails.add("xyz@xyz.com");
+    Map<String,Object> recipientSearchQuery = new HashMap<>();
+    Map<String,Object> filters =  new HashMap<>();
+    filters.put(JsonKey.FIRST_NAME,"FirstName");
+    recipientSearchQuery.put(JsonKey.FILTERS,filters);
+
+    NotificationService service = new NotificationService();
+    Iterator<List<String>> chunks = service.getRecipientChunks(new ArrayList<>(), emails, recipientSearchQuery, JsonKey.EMAIL, new RequestContext());
+    List<List<String>> chunkList = new ArrayList<>();
+    chunks.forEachRemaining(chunkList::add);
+    Assert.assertEquals(3, chunkList.size());
+    Assert.assertEquals("xyz@xyz.com", chunkList.get(0).get(0));
+    Assert.assertEquals(1, chunkList.get(1).size());
+    Assert.assertEquals("abc@xyz.com", chunkList.get(1).get(0));
+    Assert.assertEquals("def@xyz.com", chunkList.get(2).get(0));
+    Assert.assertFalse(recipientSearchQuery.containsKey(JsonKey.SEARCH_AFTER));
+  }
+
+  @Test
+  public void getRecipientChunksSkipsRecipientsOfEarlierChunks() {
+    UserService userService = PowerMockito.mock(UserService.class);
+    PowerMockito.mockStatic(UserServiceImpl.class);
+    PowerMockito.when(UserServiceImpl.getInstance()).thenReturn(userService);
+    Map<String, Object> user = getUser("abc@xyz.com");
+    user.put(JsonKey.ID, "user1");
+    List<Map<String, Object>> users = new ArrayList<>();
+    users.add(user);
+    PowerMockito.when(userService.getDecryptedEmailPhoneByUserIds(Mockito.anyList(), Mockito.anyString(), Mockito.any(RequestContext.class))).thenReturn(users);
+    Map<String, Object> page = new HashMap<>();
+    List<Map<String, Object>> pageUsers = new ArrayList<>();
+    pageUsers.add(getUser("abc@xyz.com"));
+    pageUsers.add(getUser("def@xyz.com"));
+    page.put(JsonKey.CONTENT, pageUsers);
+    page.put(JsonKey.COUNT, 2L);
+    PowerMockito.when(userService.getUserEmailPageBySearchQuery(Mockito.anyMap(), Mockito.any(RequestContext.class))).thenReturn(page);
+    List<String> userIds = new ArrayList<>();
+    userIds.add("user1");
+    Map<String,Object> recipientSearchQuery = new HashMap<>();
+    Map<String,Object> filters =  new HashMap<>();
+    filters.put(JsonKey.FIRST_NAME,"FirstName");
+    recipientSearchQuery.put(JsonKey.FILTERS,filters);
+
+    NotificationService service = new NotificationService();
+    Iterator<List<String>> chunks = service.getRecipientChunks(userIds, new ArrayList<>(), recipientSearchQuery, JsonKey.EMAIL, new RequestContext());
+    List<String> recipients = new ArrayList<>();
+    chunks.forEachRemaining(recipients::addAll);
+    Assert.assertEquals(2, recipients.size());
+    Assert.assertEquals("abc@xyz.com", recipients.get(0));
+    Assert.assertEquals("def@xyz.com", recipients.get(1));
+  }
+
+  @Test
+  public void getRecipientChunksValidatesLimitOnDistinctRecipients() {
+    List<String> emails = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      emails.add("xyz@xyz.com");
+    }
+    NotificationService service = new NotificationService();
+    Iterator<List<String>> chunks = service.getRecipientChunks(new ArrayList<>(), emails, null, JsonKey.EMAIL, new RequestContext());
+    List<String> recipients = new ArrayList<>();
+    chunks.forEachRemaining(recipients::addAll);
+    Assert.assertEquals(1, recipients.size());
+  }
+
+  private Map<String, Object> getUser(String email) {
+    Map<String, Object> user = new HashMap<>();
+    user.put(JsonKey.EMAIL, email);
+    user.put(JsonKey.USER_ID, email);
+    return user;
+  }
+
 }
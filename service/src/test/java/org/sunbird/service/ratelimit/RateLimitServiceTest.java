@@ -25,7 +25,9 @@ import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import org.sunbird.util.ratelimit.LocalRateCounters;
 import org.sunbird.util.ratelimit.OtpRateLimiter;
+import org.sunbird.util.ratelimit.RateLimitMetrics;
 import org.sunbird.util.ratelimit.RateLimiter;
 
 @RunWith(PowerMockRunner.class)
@@ -50,6 +52,16 @@ public class RateLimitServiceTest {
     PowerMockito.mockStatic(ServiceFactory.class);
     cassandraOperationImpl = mock(CassandraOperationImpl.class);
     PowerMockito.when(ServiceFactory.getInstance()).thenReturn(cassandraOperationImpl);
+    PowerMockito.when(
+            cassandraOperationImpl.batchUpsertIfWithTTL(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any()))
+        .thenReturn(true);
   }
 
   @Test
@@ -111,7 +123,7 @@ public class RateLimitServiceTest {
 
   @Test(expected = ProjectCommonException.class)
   public void testThrottleByKeyFailure() {
-    RateLimitService rateLimitService = new RateLimitServiceImpl();
+    RateLimitService rateLimitService = newRateLimitService(new RateLimitMetrics());
     PowerMockito.when(
             cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumnsAndTTL(
                 Mockito.anyString(),
@@ -129,6 +141,69 @@ public class RateLimitServiceTest {
     }
   }
 
+  @Test
+  public void testThrottleByKeyLocalReject() {
+    RateLimitMetrics rateLimitMetrics = new RateLimitMetrics();
+    RateLimitService rateLimitService = newRateLimitService(rateLimitMetrics);
+    PowerMockito.when(
+            cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumnsAndTTL(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.anyList(),
+                Mockito.any(),
+                Mockito.any()))
+        .then((Answer) invocation -> getRateLimitRecords(HOUR_LIMIT))
+        .then((Answer) invocation -> getRateLimitRecords(5));
+    RateLimiter[] rateLimiters = new RateLimiter[] {hourRateLimiter};
+    try {
+      rateLimitService.throttleByKey(KEY, JsonKey.PHONE, rateLimiters, null);
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.TOO_MANY_REQUESTS.getResponseCode(), e.getResponseCode());
+    }
+    // rejected from the in process count although the store would now allow the request
+    try {
+      rateLimitService.throttleByKey(KEY, JsonKey.PHONE, rateLimiters, null);
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.TOO_MANY_REQUESTS.getResponseCode(), e.getResponseCode());
+    }
+    assertEquals(1L, (long) rateLimitMetrics.getMetrics().get("localRejects"));
+  }
+
+  @Test
+  public void testThrottleByKeyRetryOnConflict() {
+    RateLimitMetrics rateLimitMetrics = new RateLimitMetrics();
+    RateLimitService rateLimitService = newRateLimitService(rateLimitMetrics);
+    PowerMockito.when(
+            cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumnsAndTTL(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.anyList(),
+                Mockito.any(),
+                Mockito.any()))
+        .then((Answer) invocation -> getRateLimitRecords(5));
+    PowerMockito.when(
+            cassandraOperationImpl.batchUpsertIfWithTTL(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any()))
+        .thenReturn(false, true);
+    rateLimitService.throttleByKey(KEY, JsonKey.PHONE, new RateLimiter[] {hourRateLimiter}, null);
+    assertEquals(1L, (long) rateLimitMetrics.getMetrics().get("conflicts"));
+  }
+
+  // a throttled key stays throttled in the in process counts, each test gets its own
+  private RateLimitService newRateLimitService(RateLimitMetrics rateLimitMetrics) {
+    return new RateLimitServiceImpl(new LocalRateCounters(100), rateLimitMetrics);
+  }
+
   private Response getRateLimitRecords(int count) {
     List<Map<String, Object>> results = new ArrayList<>();
     Map<String, Object> record = new HashMap<>();
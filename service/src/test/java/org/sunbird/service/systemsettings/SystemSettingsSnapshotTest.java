@@ -0,0 +1,81 @@
+package org.sunbird.service.systemsettings;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.dao.systemsettings.SystemSettingDao;
+import org.sunbird.model.systemsettings.SystemSetting;
+
+public class SystemSettingsSnapshotTest {
+
+  private SystemSettingDao systemSettingDao;
+  private ScheduledExecutorService poller;
+  private SystemSettingsSnapshot snapshot;
+
+  @Before
+  public void setUp() {
+    systemSettingDao = mock(SystemSettingDao.class);
+    poller = Executors.newSingleThreadScheduledExecutor();
+    snapshot = new SystemSettingsSnapshot(systemSettingDao, poller);
+  }
+
+  @After
+  public void tearDown() {
+    poller.shutdownNow();
+  }
+
+  @Test
+  public void testRefreshReplacesSnapshotOnlyOnChange() {
+    when(systemSettingDao.readAll(null))
+        .thenReturn(getSettings("{\"csv\":{\"mandatoryColumns\":[\"name\"]}}"));
+    Assert.assertTrue(snapshot.refresh());
+    long version = snapshot.getVersion();
+    Assert.assertFalse(snapshot.refresh());
+    Assert.assertEquals(version, snapshot.getVersion());
+
+    when(systemSettingDao.readAll(null)).thenReturn(getSettings("{\"csv\":{}}"));
+    Assert.assertTrue(snapshot.refresh());
+    Assert.assertEquals(version + 1, snapshot.getVersion());
+    Assert.assertEquals("{\"csv\":{}}", snapshot.get("userProfileConfig").getValue());
+  }
+
+  @Test
+  public void testGetValueMap() {
+    when(systemSettingDao.readAll(null))
+        .thenReturn(getSettings("{\"csv\":{\"mandatoryColumns\":[\"name\"]}}"));
+    snapshot.refresh();
+    Map<String, Object> valueMap = snapshot.getValueMap("userProfileConfig");
+    Assert.assertNotNull(valueMap.get("csv"));
+    // parsed once per version
+    Assert.assertSame(valueMap, snapshot.getValueMap("userProfileConfig"));
+    Assert.assertNull(snapshot.getValueMap("custodianOrgId"));
+    Assert.assertNull(snapshot.getValueMap("unknownField"));
+  }
+
+  @Test
+  public void testGetParsedValueKeepsRawValue() {
+    when(systemSettingDao.readAll(null))
+        .thenReturn(getSettings("{\"csv\":{\"mandatoryColumns\":[\"name\"]}}"));
+    snapshot.refresh();
+    Assert.assertTrue(snapshot.getParsedValue("userProfileConfig") instanceof Map);
+    Assert.assertEquals("0123", snapshot.getParsedValue("custodianOrgId"));
+    Assert.assertNull(snapshot.getParsedValue("unknownField"));
+  }
+
+  private List<SystemSetting> getSettings(String userProfileConfig) {
+    return new ArrayList<>(
+        Arrays.asList(
+            new SystemSetting("userProfileConfig", "userProfileConfig", userProfileConfig),
+            new SystemSetting("custodianOrgId", "custodianOrgId", "0123")));
+  }
+}
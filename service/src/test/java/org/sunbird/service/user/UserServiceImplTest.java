@@ -3,12 +3,16 @@ package org.sunbird.service.user;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.testkit.javadsl.TestKit;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,9 +29,13 @@ import org.sunbird.dao.user.impl.UserDaoImpl;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.service.user.impl.UserServiceImpl;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -148,6 +156,22 @@ public class UserServiceImplTest {
     Assert.assertNotNull(userDetails);
   }
 
+  @Test
+  public void testSaveUserAttributesRecoversFailedSave() throws Exception {
+    ActorSystem system = ActorSystem.create("system");
+    try {
+      TestKit probe = new TestKit(system);
+      Future<Response> future =
+          UserServiceImpl.getInstance()
+              .saveUserAttributes(new HashMap<>(), probe.getRef(), new RequestContext());
+      probe.expectMsgClass(Request.class);
+      probe.reply(new Status.Failure(new RuntimeException("unavailable")));
+      Assert.assertNull(Await.result(future, Duration.create(5, TimeUnit.SECONDS)));
+    } finally {
+      TestKit.shutdownActorSystem(system);
+    }
+  }
+
   @Test
   public void getUserDetailsByIdForES() {
     UserService userService = UserServiceImpl.getInstance();
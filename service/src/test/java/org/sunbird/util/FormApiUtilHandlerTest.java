@@ -13,6 +13,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.http.HttpClientUtil;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.formutil.FormApiUtilRequestPayload;
@@ -55,6 +56,17 @@ public class FormApiUtilHandlerTest {
         "profileconfig", ((Map<String, Object>) dataConfigMap.get(JsonKey.FORM)).get(JsonKey.TYPE));
   }
 
+  @Test(expected = ProjectCommonException.class)
+  public void testFetchFormApiConfigDetailsThrowsOnInvalidResponse() {
+    when(HttpClientUtil.post(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyObject(),
+            Mockito.any(RequestContext.class)))
+        .thenReturn("{\"result\":");
+    FormApiUtilHandler.getFormApiConfig("locationCode", new RequestContext());
+  }
+
   public String getFormApiResponse() {
     String formData =
         "{ \"id\": \"api.form.read\", \"params\": { \"resmsgid\": \"5ebb6cb5-07a0-4407-8013-b45043270d7a\", \"msgid\": \"3af660bf-fc92-4c93-acd1-36ad81cb8f35\", \"status\": \"successful\" }, \"responseCode\": \"OK\", \"result\":"
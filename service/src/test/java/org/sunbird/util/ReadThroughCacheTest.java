@@ -0,0 +1,103 @@
+package org.sunbird.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReadThroughCacheTest {
+
+  @Test
+  public void testConcurrentMissesLoadOnce() throws Exception {
+    ReadThroughCache<String, List<String>> cache = new ReadThroughCache<>(60000, 60000, 100);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<String>>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    cache.get(
+                        "org1",
+                        key -> {
+                          loads.incrementAndGet();
+                          awaitQuietly(loading);
+                          return Collections.singletonList("value");
+                        })));
+      }
+      Thread.sleep(200);
+      loading.countDown();
+      for (Future<List<String>> result : results) {
+        Assert.assertEquals("value", result.get(5, TimeUnit.SECONDS).get(0));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testNegativeValueExpiresAndInvalidate() throws Exception {
+    ReadThroughCache<String, List<String>> cache = new ReadThroughCache<>(60000, 50, 100);
+    AtomicInteger loads = new AtomicInteger();
+    cache.get("org1", key -> countLoad(loads, Collections.emptyList()));
+    cache.get("org1", key -> countLoad(loads, Collections.emptyList()));
+    Assert.assertEquals(1, loads.get());
+    Thread.sleep(100);
+    cache.get("org1", key -> countLoad(loads, Collections.singletonList("value")));
+    Assert.assertEquals(2, loads.get());
+    cache.get("org1", key -> countLoad(loads, Collections.singletonList("value")));
+    Assert.assertEquals(2, loads.get());
+    cache.invalidate("org1");
+    cache.get("org1", key -> countLoad(loads, Collections.singletonList("value")));
+    Assert.assertEquals(3, loads.get());
+  }
+
+  @Test
+  public void testFailedLoadIsNotCached() {
+    ReadThroughCache<String, List<String>> cache = new ReadThroughCache<>(60000, 60000, 100);
+    try {
+      cache.get(
+          "org1",
+          key -> {
+            throw new IllegalStateException("unavailable");
+          });
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("unavailable", e.getMessage());
+    }
+    Assert.assertEquals(
+        "value", cache.get("org1", key -> Collections.singletonList("value")).get(0));
+  }
+
+  @Test
+  public void testNotFoundKeysAreBounded() {
+    ReadThroughCache<String, List<String>> cache = new ReadThroughCache<>(60000, 60000, 10);
+    for (int i = 0; i < 100; i++) {
+      cache.get("org" + i, key -> Collections.emptyList());
+    }
+    Assert.assertTrue(cache.getMetrics().get("size") <= 10);
+  }
+
+  private static List<String> countLoad(AtomicInteger loads, List<String> value) {
+    loads.incrementAndGet();
+    return value;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.sunbird.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RefreshableCacheTest {
+
+  @Test
+  public void testRefreshPublishesOnlyChangedContent() {
+    Map<String, String> source = new HashMap<>();
+    source.put("key1", "value1");
+    AtomicReference<Map<String, String>> published = new AtomicReference<>();
+    AtomicInteger publishCount = new AtomicInteger();
+    RefreshableCache<Map<String, String>> cache =
+        new RefreshableCache<>(
+            "test",
+            60,
+            () -> new HashMap<>(source),
+            Function.identity(),
+            data -> {
+              publishCount.incrementAndGet();
+              published.set(data);
+            });
+
+    Assert.assertTrue(cache.refresh());
+    Map<String, String> firstPublished = published.get();
+    Assert.assertFalse(cache.refresh());
+    Assert.assertSame(firstPublished, published.get());
+
+    source.put("key2", "value2");
+    Assert.assertTrue(cache.refresh());
+    Assert.assertEquals("value2", published.get().get("key2"));
+    Assert.assertEquals(2, publishCount.get());
+
+    Map<String, Long> metrics = cache.getMetrics();
+    Assert.assertEquals(3L, (long) metrics.get("refreshes"));
+    Assert.assertEquals(1L, (long) metrics.get("unchanged"));
+    Assert.assertTrue(metrics.get("stalenessMillis") >= 0);
+  }
+
+  @Test
+  public void testFailedRefreshKeepsPublishedData() {
+    AtomicReference<String> published = new AtomicReference<>("old");
+    RefreshableCache<String> cache =
+        new RefreshableCache<>(
+            "failing",
+            60,
+            () -> {
+              throw new IllegalStateException("unavailable");
+            },
+            Function.identity(),
+            published::set);
+
+    Assert.assertFalse(cache.refresh());
+    Assert.assertEquals("old", published.get());
+    Map<String, Long> metrics = cache.getMetrics();
+    Assert.assertEquals(1L, (long) metrics.get("failures"));
+    Assert.assertEquals(-1L, (long) metrics.get("stalenessMillis"));
+  }
+}
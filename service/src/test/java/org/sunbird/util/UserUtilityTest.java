@@ -2,7 +2,9 @@ package org.sunbird.util;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.Test;
 import org.sunbird.keys.JsonKey;
@@ -125,4 +127,26 @@ public class UserUtilityTest {
     assertEquals(email, response.get(JsonKey.EMAIL));
     assertEquals(userName, response.get(JsonKey.USER_NAME));
   }
+
+  @Test
+  public void decryptUserDataFrmESBatchMatchesSingleDecryption() {
+    List<Map<String, Object>> userMapList = new ArrayList<>();
+    List<Map<String, Object>> expectedList = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      Map<String, Object> userMap = new HashMap<String, Object>();
+      userMap.put(JsonKey.FIRST_NAME, "test user " + i);
+      userMap.put(JsonKey.EMAIL, "test" + (i % 10) + "@test.com");
+      userMap.put(JsonKey.PHONE, "98765432" + (i % 10) + "1");
+      userMap.put(JsonKey.USER_NAME, "test_user_" + i);
+      UserUtility.encryptUserData(userMap);
+      if (i % 7 == 0) {
+        userMap.put(JsonKey.EMAIL, null);
+        userMap.put(JsonKey.PHONE, "");
+      }
+      userMapList.add(userMap);
+      expectedList.add(UserUtility.decryptUserDataFrmES(new HashMap<>(userMap)));
+    }
+    UserUtility.decryptUserDataFrmES(userMapList);
+    assertEquals(expectedList, userMapList);
+  }
 }
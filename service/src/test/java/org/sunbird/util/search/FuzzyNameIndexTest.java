@@ -0,0 +1,93 @@
+package org.sunbird.util.search;
+
+import com.intuit.fuzzymatcher.component.MatchService;
+import com.intuit.fuzzymatcher.domain.Document;
+import com.intuit.fuzzymatcher.domain.Element;
+import com.intuit.fuzzymatcher.domain.ElementType;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FuzzyNameIndexTest {
+
+  private static final String[] NAMES = {
+    "john", "jon", "joan", "smith", "smyth", "rupert", "robert", "ram", "raam", "rama", "ab", "abc",
+    "abx", "a", "", "123", "0123", "j.r.", "o'neil", "oneil", "kumar", "kumari", "mary-ann", "lee",
+    "li", "x1", "al2", "ashok", "asok", "r2d2"
+  };
+
+  @Test
+  public void testMatchesSimilarSoundingTokens() {
+    Map<String, String> namesById = new LinkedHashMap<>();
+    namesById.put("1", "Ashok Kumar");
+    namesById.put("2", "Ashoke  Smyth");
+    namesById.put("3", "Robert");
+    namesById.put("4", null);
+    FuzzyNameIndex index = new FuzzyNameIndex(namesById);
+    Assert.assertEquals(new HashSet<>(Arrays.asList("1", "2")), index.match("ashok", 0.5f));
+    // smith and smyth sound the same but share no 3-gram
+    Assert.assertTrue(index.match("smith", 0.5f).isEmpty());
+    Assert.assertTrue(index.match("ashok", 1.0f).isEmpty());
+  }
+
+  @Test
+  public void testMatchesAsFuzzyMatcherLibrary() throws Exception {
+    Random random = new Random(7);
+    float[] thresholds = {0.0f, 0.3f, 0.5f, 0.99f, 1.0f};
+    for (int i = 0; i < 500; i++) {
+      Map<String, String> namesById = new LinkedHashMap<>();
+      for (int id = 0, size = 1 + random.nextInt(6); id < size; id++) {
+        namesById.put(
+            "id" + id,
+            NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)]);
+      }
+      String token = NAMES[random.nextInt(NAMES.length)];
+      float threshold = thresholds[random.nextInt(thresholds.length)];
+      Assert.assertEquals(
+          token + " in " + namesById,
+          matchWithLibrary(token, namesById, threshold),
+          new FuzzyNameIndex(namesById).match(token, threshold));
+    }
+  }
+
+  private Set<String> matchWithLibrary(
+      String token, Map<String, String> namesById, float threshold) throws Exception {
+    Document doc =
+        new Document.Builder("0")
+            .addElement(
+                new Element.Builder()
+                    .setType(ElementType.TEXT)
+                    .setValue(URLEncoder.encode(token, "UTF-8"))
+                    .createElement())
+            .setThreshold(threshold)
+            .createDocument();
+    List<Document> docList = new ArrayList<>();
+    for (Map.Entry<String, String> entry : namesById.entrySet()) {
+      for (String name : entry.getValue().split(" ")) {
+        docList.add(
+            new Document.Builder(entry.getKey())
+                .addElement(
+                    new Element.Builder()
+                        .setType(ElementType.TEXT)
+                        .setValue(URLEncoder.encode(name.trim(), "UTF-8"))
+                        .createElement())
+                .createDocument());
+      }
+    }
+    Set<String> matchedIds = new HashSet<>();
+    new MatchService()
+        .applyMatch(doc, docList)
+        .values()
+        .forEach(
+            matches -> matches.forEach(match -> matchedIds.add(match.getMatchedWith().getKey())));
+    return matchedIds;
+  }
+}
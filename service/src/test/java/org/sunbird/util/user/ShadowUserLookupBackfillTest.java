@@ -0,0 +1,50 @@
+package org.sunbird.util.user;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.dao.user.ShadowUserLookupDao;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.response.Response;
+
+public class ShadowUserLookupBackfillTest {
+
+  @Test
+  public void testBackfillReadsAllPages() {
+    ShadowUserLookupDao shadowUserLookupDao = Mockito.mock(ShadowUserLookupDao.class);
+    Mockito.when(shadowUserLookupDao.getShadowUsersByPage(null, 2, null))
+        .thenReturn(getPage("page2", "ext1", "ext2"));
+    Mockito.when(shadowUserLookupDao.getShadowUsersByPage("page2", 2, null))
+        .thenReturn(getPage(null, "ext3"));
+    List<Integer> pageSizes = new ArrayList<>();
+    Mockito.doAnswer(
+            invocation -> {
+              pageSizes.add(((List) invocation.getArgument(0)).size());
+              return null;
+            })
+        .when(shadowUserLookupDao)
+        .insertLookups(Mockito.anyList(), Mockito.any());
+    new ShadowUserLookupBackfill(shadowUserLookupDao, 2, "").run();
+    Assert.assertEquals(Arrays.asList(2, 1), pageSizes);
+  }
+
+  private Response getPage(String nextPagingState, String... userExtIds) {
+    List<Map<String, Object>> shadowUsers = new ArrayList<>();
+    for (String userExtId : userExtIds) {
+      Map<String, Object> shadowUser = new HashMap<>();
+      shadowUser.put(JsonKey.CHANNEL, "TN");
+      shadowUser.put(JsonKey.USER_EXT_ID, userExtId);
+      shadowUser.put(JsonKey.USERIDS, Arrays.asList(userExtId + "-user"));
+      shadowUsers.add(shadowUser);
+    }
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, shadowUsers);
+    response.put(JsonKey.PAGING_STATE, nextPagingState);
+    return response;
+  }
+}
@@ -0,0 +1,36 @@
+package org.sunbird.util.user;
+
+import java.util.EnumSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UserProfileEnrichmentTest {
+
+  @Test
+  public void testFromFieldsWithoutFields() {
+    Assert.assertTrue(UserProfileEnrichment.fromFields(null).isEmpty());
+    Assert.assertTrue(UserProfileEnrichment.fromFields(" ").isEmpty());
+  }
+
+  @Test
+  public void testFromFieldsSkipsOrgLocationsWithoutLocations() {
+    Assert.assertEquals(
+        EnumSet.of(UserProfileEnrichment.ORG_DETAILS),
+        UserProfileEnrichment.fromFields("organisations"));
+  }
+
+  @Test
+  public void testFromFieldsWithAllFields() {
+    Assert.assertEquals(
+        EnumSet.allOf(UserProfileEnrichment.class),
+        UserProfileEnrichment.fromFields(
+            "topic, organisations,roles,locations,declarations,externalIds"));
+  }
+
+  @Test
+  public void testFromFieldsMatchesWholeFieldNames() {
+    Assert.assertEquals(
+        EnumSet.of(UserProfileEnrichment.USER_LOCATIONS),
+        UserProfileEnrichment.fromFields("locations,organisation,externalId"));
+  }
+}
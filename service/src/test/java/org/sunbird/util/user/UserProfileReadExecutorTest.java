@@ -0,0 +1,93 @@
+package org.sunbird.util.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.request.RequestContext;
+
+public class UserProfileReadExecutorTest {
+
+  @Test
+  public void testAwaitReturnsBranchResult() {
+    UserProfileReadExecutor readExecutor = new UserProfileReadExecutor(new RequestContext());
+    CompletableFuture<String> future = readExecutor.submit("user", () -> "userId");
+    Assert.assertEquals("userId", readExecutor.await("user", future));
+    Map<String, Long> timings = readExecutor.getBranchTimings();
+    Assert.assertTrue(timings.containsKey("user"));
+  }
+
+  @Test
+  public void testAwaitRethrowsMandatoryBranchFailure() {
+    UserProfileReadExecutor readExecutor = new UserProfileReadExecutor(new RequestContext());
+    CompletableFuture<String> future =
+        readExecutor.submit(
+            "user",
+            () -> {
+              throw new ProjectCommonException(
+                  ResponseCode.userNotFound.getErrorCode(),
+                  ResponseCode.userNotFound.getErrorMessage(),
+                  ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+            });
+    try {
+      readExecutor.await("user", future);
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      Assert.assertEquals(ResponseCode.userNotFound.getErrorCode(), e.getCode());
+    }
+  }
+
+  @Test
+  public void testAwaitOptionalReturnsFallbackOnFailure() {
+    UserProfileReadExecutor readExecutor = new UserProfileReadExecutor(new RequestContext());
+    CompletableFuture<List<String>> future =
+        readExecutor.submit(
+            "declarations",
+            () -> {
+              throw new RuntimeException("cassandra unavailable");
+            });
+    List<String> fallback = new ArrayList<>();
+    Assert.assertSame(fallback, readExecutor.awaitOptional("declarations", future, fallback));
+    Assert.assertTrue(readExecutor.getBranchTimings().containsKey("declarations"));
+  }
+
+  @Test
+  public void testMandatoryBranchFailureCancelsOtherBranches() throws Exception {
+    UserProfileReadExecutor readExecutor = new UserProfileReadExecutor(new RequestContext());
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<String> slowFuture =
+        readExecutor.submit(
+            "roles",
+            () -> {
+              started.countDown();
+              try {
+                Thread.sleep(10000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return "roles";
+            });
+    CompletableFuture<String> failedFuture =
+        readExecutor.submit(
+            "user",
+            () -> {
+              throw new RuntimeException("user not found");
+            });
+    Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+    try {
+      readExecutor.await("user", failedFuture);
+      Assert.fail();
+    } catch (RuntimeException e) {
+      Assert.assertEquals("user not found", e.getMessage());
+    }
+    Assert.assertTrue(slowFuture.isCancelled());
+    Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+}